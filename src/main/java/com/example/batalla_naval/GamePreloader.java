@@ -0,0 +1,157 @@
+package com.example.batalla_naval;
+
+import com.example.batalla_naval.model.GameState;
+import com.example.batalla_naval.persistence.SaveManager;
+import com.example.batalla_naval.persistence.SaveSlots;
+import com.example.batalla_naval.persistence.SlotInfo;
+import javafx.fxml.FXMLLoader;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prepara en segundo plano lo que tarda al entrar a una partida: la vista
+ * del juego (leer el FXML y armar los nodos, que todavía no están en
+ * ninguna ventana) y la partida guardada más reciente, leída mientras la
+ * pantalla de bienvenida está quieta para que "Cargar partida" sea
+ * inmediato. También abre el índice de ranuras para la lista de la
+ * bienvenida, porque la primera vez puede compactarlo o pasar a una ranura
+ * el guardado de versiones anteriores.
+ * Cada cosa preparada se entrega una sola vez, porque la vista y los
+ * tableros pasan a ser de la partida que los recibe. Solo se usa desde el
+ * hilo de JavaFX; el trabajo corre en un hilo propio.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+final class GamePreloader {
+
+    private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "game-preload");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final URL gameView;
+    private CompletableFuture<FXMLLoader> view;
+    private CompletableFuture<Prefetched> latest;
+
+    /**
+     * @param gameView FXML de la vista del juego
+     */
+    GamePreloader(URL gameView) {
+        this.gameView = gameView;
+    }
+
+    /**
+     * Empieza a preparar una vista del juego y a leer la partida guardada
+     * más reciente, si no se está haciendo ya.
+     */
+    void prefetch() {
+        if (view == null) {
+            view = CompletableFuture.supplyAsync(this::loadView, LOADER);
+        }
+        if (latest == null) {
+            latest = CompletableFuture.supplyAsync(GamePreloader::loadLatest, LOADER);
+        }
+    }
+
+    /**
+     * Lee en segundo plano las ranuras guardadas, de la más reciente a la
+     * más antigua.
+     *
+     * @return Ranuras, o una excepción si no se pudo abrir el índice
+     */
+    CompletableFuture<List<SlotInfo>> listSlots() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return SaveManager.slots().list();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, LOADER);
+    }
+
+    /**
+     * @return Vista del juego ya cargada, o que se está cargando
+     */
+    CompletableFuture<FXMLLoader> takeView() {
+        CompletableFuture<FXMLLoader> taken = view != null
+                ? view
+                : CompletableFuture.supplyAsync(this::loadView, LOADER);
+        view = null;
+        return taken;
+    }
+
+    /**
+     * Entrega la partida de una ranura: la leída por adelantado si es esa
+     * misma ranura y no se guardó de nuevo desde entonces, o si no una
+     * lectura nueva en segundo plano.
+     *
+     * @param slot Ranura elegida
+     * @return Estado de la partida
+     */
+    CompletableFuture<GameState> takeState(SlotInfo slot) {
+        CompletableFuture<Prefetched> prefetched = latest;
+        latest = null;
+        if (prefetched == null) {
+            return CompletableFuture.supplyAsync(() -> load(slot), LOADER);
+        }
+        // Si el adelanto sigue en curso se espera, en vez de leer dos veces.
+        return prefetched.thenCompose(ready -> ready != null && ready.matches(slot)
+                ? CompletableFuture.completedFuture(ready.state)
+                : CompletableFuture.supplyAsync(() -> load(slot), LOADER));
+    }
+
+    private FXMLLoader loadView() {
+        FXMLLoader loader = new FXMLLoader(gameView);
+        try {
+            loader.load();
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+        return loader;
+    }
+
+    private static Prefetched loadLatest() {
+        try {
+            Optional<SlotInfo> slot = SaveManager.slots().latest();
+            return slot.map(s -> new Prefetched(s, load(s))).orElse(null);
+        } catch (IOException | CompletionException e) {
+            // Es solo un adelanto: si falla, se vuelve a intentar al cargar.
+            return null;
+        }
+    }
+
+    private static GameState load(SlotInfo slot) {
+        try {
+            SaveSlots slots = SaveManager.slots();
+            return slots.load(slot.getId());
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Partida leída por adelantado y la versión de la ranura de la que salió.
+     */
+    private static final class Prefetched {
+        private final SlotInfo slot;
+        private final GameState state;
+
+        Prefetched(SlotInfo slot, GameState state) {
+            this.slot = slot;
+            this.state = state;
+        }
+
+        boolean matches(SlotInfo other) {
+            return other.getId() == slot.getId() && other.getSavedAt() == slot.getSavedAt();
+        }
+    }
+}
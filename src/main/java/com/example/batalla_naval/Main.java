@@ -1,23 +1,29 @@
 package com.example.batalla_naval;
 
+import com.example.batalla_naval.ai.OpeningBooks;
 import com.example.batalla_naval.controller.GameController;
 import com.example.batalla_naval.model.Board;
 import com.example.batalla_naval.model.Difficulty;
 import com.example.batalla_naval.model.GameState;
 import com.example.batalla_naval.persistence.SaveManager;
+import com.example.batalla_naval.persistence.SaveSlots;
+import com.example.batalla_naval.persistence.SlotInfo;
 import com.example.batalla_naval.view.NavalGameViewController;
 import com.example.batalla_naval.view.WelcomeViewController;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 
-import static com.example.batalla_naval.persistence.SaveManager.loadGame;
 /**
  * Main
  * Autores: Jairo Andres &  Juan Sebastian Tapia
@@ -29,6 +35,7 @@ public class Main extends Application {
     private GameController gameController;
     private Board playerBoard;
     private Board enemyBoard;
+    private final GamePreloader preloader = new GamePreloader(Main.class.getResource("/naval-game-view.fxml"));
 
     @Override
     public void start(Stage stage) throws Exception {
@@ -40,15 +47,15 @@ public class Main extends Application {
         // Cuando el usuario presiona "Iniciar nueva partida" o "Cargar partida"
         welcomeController.setOnStartNewGame((playerName, difficulty) -> {
             try {
-                startNewGame(playerName, difficulty, stage);
+                startNewGame(playerName, difficulty, stage, welcomeController);
             } catch (Exception e) {
                 showError("Error", e.getMessage());
             }
         });
 
-        welcomeController.setOnLoadGame(() -> {
+        welcomeController.setOnLoadGame(slot -> {
             try {
-                loadGame(stage);
+                loadGame(slot, stage, welcomeController);
             } catch (Exception e) {
                 showError("Error", e.getMessage());
             }
@@ -60,44 +67,173 @@ public class Main extends Application {
         stage.setTitle("Batalla Naval - Bienvenida");
         stage.setScene(welcomeScene);
         stage.show();
-    }
-
-    private void startNewGame(String playerName, Difficulty difficulty, Stage stage) throws IOException {
-        Path saveFile = Path.of("saves/game_state.ser");
-
-        SaveManager.deleteSave(saveFile);
-
-        Board playerBoard = new Board();
-        Board enemyBoard = new Board();
+        listSlots(welcomeController);
+        preloader.prefetch();
 
-        gameController = new GameController(playerBoard, enemyBoard);
-        gameController.setPlayerNickname(playerName);
-        gameController.setDifficulty(difficulty);
-        loadGameScene(stage);
+        // Abre el libro de aperturas (o lo genera en segundo plano la primera vez)
+        OpeningBooks.preload(Board.SIZE);
     }
 
-    private void loadGame(Stage stage) throws IOException, ClassNotFoundException {
-        Path saveFile = Path.of("saves/game_state.ser");
+    /**
+     * Empieza una partida nueva. Las ranuras se abren y la vista del juego
+     * se termina de preparar en segundo plano, con el progreso en la
+     * bienvenida, igual que al cargar.
+     *
+     * @param playerName apodo del jugador
+     * @param difficulty dificultad elegida
+     * @param stage escenario principal
+     * @param welcome pantalla de bienvenida que muestra el progreso
+     */
+    private void startNewGame(String playerName, Difficulty difficulty, Stage stage,
+                              WelcomeViewController welcome) {
+        CompletableFuture<FXMLLoader> view = preloader.takeView();
+        Task<PreparedGame> task = new Task<>() {
+            @Override
+            protected PreparedGame call() throws Exception {
+                SaveSlots slots = SaveManager.slots();
+                SlotInfo slot = slots.reserve(playerName, difficulty);
+                return new PreparedGame(slots, slot, null, view.get());
+            }
+        };
+        task.setOnSucceeded(e -> {
+            PreparedGame game = task.getValue();
+            closeCurrentGame();
+            gameController = new GameController(new Board(), new Board(), game.slots, game.slot);
+            gameController.setPlayerNickname(playerName);
+            gameController.setDifficulty(difficulty);
+            loadGameScene(stage, game.view);
+        });
+        runInBackground(task, welcome);
+    }
 
-        if (!Files.exists(saveFile)) {
+    /**
+     * Carga una partida guardada sin congelar la interfaz: las ranuras, la
+     * partida y la vista del juego se leen en segundo plano mientras la
+     * bienvenida muestra el progreso, y la escena se cambia solo cuando
+     * todo está listo.
+     *
+     * @param slot ranura elegida
+     * @param stage escenario principal
+     * @param welcome pantalla de bienvenida que muestra el progreso
+     */
+    private void loadGame(SlotInfo slot, Stage stage, WelcomeViewController welcome) {
+        if (slot == null) {
             showError("No hay partida guardada", "No existe una partida para cargar.");
             return;
         }
 
-        GameState state = SaveManager.loadGame(saveFile);
+        CompletableFuture<GameState> state = preloader.takeState(slot);
+        CompletableFuture<FXMLLoader> view = preloader.takeView();
+        Task<PreparedGame> task = new Task<>() {
+            @Override
+            protected PreparedGame call() throws Exception {
+                updateProgress(0, 3);
+                SaveSlots slots = SaveManager.slots();
+                if (!SaveManager.hasSave(slots.checkpointOf(slot.getId()))) {
+                    throw new IOException("No existe una partida para cargar.");
+                }
+                updateProgress(1, 3);
+                GameState loaded = state.get();
+                updateProgress(2, 3);
+                FXMLLoader loader = view.get();
+                updateProgress(3, 3);
+                return new PreparedGame(slots, slot, loaded, loader);
+            }
+        };
+        task.setOnSucceeded(e -> {
+            try {
+                showLoadedGame(task.getValue(), stage);
+            } catch (Exception ex) {
+                welcome.hideProgress();
+                showError("Error", ex.getMessage());
+            }
+        });
+        runInBackground(task, welcome);
+    }
+
+    /**
+     * Corre la preparación de una partida en un hilo propio mientras la
+     * bienvenida muestra el avance; si falla, la bienvenida vuelve a quedar
+     * usable y se muestra el error.
+     *
+     * @param task carga a correr; quien llama ya definió qué hacer al terminar bien
+     * @param welcome pantalla de bienvenida que muestra el progreso
+     */
+    private void runInBackground(Task<?> task, WelcomeViewController welcome) {
+        task.setOnFailed(e -> {
+            welcome.hideProgress();
+            Throwable error = task.getException();
+            if (error instanceof ExecutionException && error.getCause() != null) {
+                error = error.getCause();
+            }
+            showError("Error", error.getMessage());
+        });
+
+        welcome.showProgress(task.progressProperty());
+        Thread loader = new Thread(task, "game-load");
+        loader.setDaemon(true);
+        loader.start();
+    }
 
+    /**
+     * Arma la partida ya leída y cambia a su escena. Corre en el hilo de JavaFX.
+     */
+    private void showLoadedGame(PreparedGame game, Stage stage) {
+        GameState state = game.state;
+        closeCurrentGame();
         gameController = new GameController(
                 state.getPlayerBoard(),
-                state.getEnemyBoard()
+                state.getEnemyBoard(),
+                game.slots,
+                game.slot
         );
+        if (state.getNickname() != null) {
+            gameController.setPlayerNickname(state.getNickname());
+        }
+        if (state.getDifficulty() != null) {
+            gameController.setDifficulty(state.getDifficulty());
+        }
+        gameController.setGameId(state.getGameId());
         gameController.setPhase(state.getPhase());
 
-        loadGameScene(stage);
+        loadGameScene(stage, game.view);
+    }
+
+    /**
+     * Lee las ranuras en segundo plano y las muestra en la bienvenida
+     * cuando están listas.
+     *
+     * @param welcome pantalla de bienvenida
+     */
+    private void listSlots(WelcomeViewController welcome) {
+        preloader.listSlots().whenComplete((slots, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                System.err.println("No se pudieron leer las partidas guardadas: " + cause.getMessage());
+                welcome.showSlots(List.of());
+            } else {
+                welcome.showSlots(slots);
+            }
+        }));
+    }
+
+    /**
+     * Cierra la partida anterior para liberar su sesión antes de crear otra.
+     */
+    private void closeCurrentGame() {
+        if (gameController != null) {
+            gameController.shutdown();
+        }
     }
 
-    private void loadGameScene(Stage stage) throws IOException {
-        FXMLLoader gameLoader = new FXMLLoader(getClass().getResource("/naval-game-view.fxml"));
-        Scene gameScene = new Scene(gameLoader.load());
+    /**
+     * @param stage escenario principal
+     * @param gameLoader vista del juego ya cargada
+     */
+    private void loadGameScene(Stage stage, FXMLLoader gameLoader) {
+        Scene gameScene = new Scene(gameLoader.getRoot());
 
         NavalGameViewController view = gameLoader.getController();
         view.setGameController(gameController);
@@ -141,15 +277,15 @@ public class Main extends Application {
 
             controller.setOnStartNewGame((name, difficulty) -> {
                 try {
-                    startNewGame(name, difficulty, stage);
+                    startNewGame(name, difficulty, stage, controller);
                 } catch (Exception e) {
                     showError("Error", e.getMessage());
                 }
             });
 
-            controller.setOnLoadGame(() -> {
+            controller.setOnLoadGame(slot -> {
                 try {
-                    loadGame(stage);
+                    loadGame(slot, stage, controller);
                 } catch (Exception e) {
                     showError("Error", e.getMessage());
                 }
@@ -158,12 +294,32 @@ public class Main extends Application {
             stage.setScene(scene);
             stage.setTitle("Batalla Naval - Menú");
             stage.show();
+            listSlots(controller);
+            preloader.prefetch();
 
         } catch (IOException e) {
             showError("Error crítico", e.getMessage());
         }
     }
 
+    /**
+     * Lo que se prepara en segundo plano antes de cambiar a la escena del juego.
+     */
+    private static final class PreparedGame {
+        private final SaveSlots slots;
+        private final SlotInfo slot;
+        /** Partida leída, o null si es una partida nueva */
+        private final GameState state;
+        private final FXMLLoader view;
+
+        PreparedGame(SaveSlots slots, SlotInfo slot, GameState state, FXMLLoader view) {
+            this.slots = slots;
+            this.slot = slot;
+            this.state = state;
+            this.view = view;
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,308 @@
+package com.example.batalla_naval;
+
+import com.example.batalla_naval.ai.AiStrategies;
+import com.example.batalla_naval.ai.AiStrategy;
+import com.example.batalla_naval.ai.AiStrategyProvider;
+import com.example.batalla_naval.ai.TranspositionCache;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Difficulty;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.ShotResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Punto de entrada sin interfaz gráfica que enfrenta a las IA entre sí.
+ * Juega un torneo de todos contra todos entre las dificultades usando
+ * directamente {@link Board} y las estrategias de IA, repartiendo las
+ * partidas entre todos los núcleos. Para una misma semilla los resultados
+ * son idénticos sin importar el número de hilos.
+ * Uso: {@code TournamentRunner [--games N] [--seed S] [--size N] [--threads T]}
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class TournamentRunner {
+    /** Partidas por tarea paralela; cada bloque acumula su propio histograma */
+    private static final int CHUNK = 1024;
+
+    private final int games;
+    private final long seed;
+    private final int size;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param games Partidas por enfrentamiento
+     * @param seed Semilla del torneo
+     * @param size Tamaño del tablero
+     * @param threads Hilos de trabajo
+     */
+    public TournamentRunner(int games, long seed, int size, int threads) {
+        this.games = games;
+        this.seed = seed;
+        this.size = size;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    public static void main(String[] args) {
+        int games = 100_000;
+        long seed = 1L;
+        int size = Board.SIZE;
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--size" -> size = Integer.parseInt(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+
+        TournamentRunner runner = new TournamentRunner(games, seed, size, threads);
+        try {
+            for (String line : runner.run().format()) {
+                System.out.println(line);
+            }
+            TranspositionCache<Integer> cache = AiStrategies.getDensityDecisions();
+            System.out.printf("Caché de densidad: %d entradas, %d aciertos, %d fallos%n",
+                    cache.size(), cache.getHits(), cache.getMisses());
+        } finally {
+            runner.pool.shutdown();
+        }
+    }
+
+    /**
+     * Juega todos los enfrentamientos entre dificultades (incluido el espejo).
+     *
+     * @return Resultados por enfrentamiento y por dificultad
+     */
+    public Report run() {
+        Difficulty[] levels = Difficulty.values();
+        Report report = new Report(size * size);
+
+        int matchup = 0;
+        for (int a = 0; a < levels.length; a++) {
+            for (int b = a; b < levels.length; b++) {
+                report.add(playMatchup(levels[a], levels[b], matchup++));
+            }
+        }
+        return report;
+    }
+
+    private Matchup playMatchup(Difficulty first, Difficulty second, int matchupIndex) {
+        AiStrategyProvider[] providers = {
+                AiStrategies.forDifficulty(first),
+                AiStrategies.forDifficulty(second)
+        };
+        FleetGenerator fleets = new FleetGenerator(size);
+        int chunks = (games + CHUNK - 1) / CHUNK;
+        int cells = size * size;
+
+        long start = System.nanoTime();
+        List<Matchup> partials = pool.submit(() -> IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    Matchup partial = new Matchup(first, second, cells);
+                    int end = Math.min(games, (chunk + 1) * CHUNK);
+                    for (int g = chunk * CHUNK; g < end; g++) {
+                        SplittableRandom random = new SplittableRandom(mix(seed, matchupIndex, g));
+                        playGame(providers, fleets, random, g & 1, partial);
+                    }
+                    return partial;
+                })
+                .toList()).join();
+        long elapsed = System.nanoTime() - start;
+
+        Matchup total = new Matchup(first, second, cells);
+        for (Matchup partial : partials) {
+            total.merge(partial);
+        }
+        total.elapsedNanos = elapsed;
+        return total;
+    }
+
+    /**
+     * Juega una partida completa; el que acierta sigue disparando, como en el juego.
+     */
+    private void playGame(AiStrategyProvider[] providers, FleetGenerator fleets, SplittableRandom random,
+                          int starter, Matchup result) {
+        Board[] boards = {new Board(size), new Board(size)};
+        fleets.placeOn(boards[0], random);
+        fleets.placeOn(boards[1], random);
+        AiStrategy[] ai = {providers[0].create(random.split()), providers[1].create(random.split())};
+
+        int turn = starter;
+        int[] shots = new int[2];
+        while (true) {
+            Board target = boards[1 - turn];
+            int cell = ai[turn].decideShot(target);
+            int r = cell / size;
+            int c = cell % size;
+
+            ShotResult shot = target.shootAt(r, c);
+            ai[turn].onShotResult(target, r, c, shot);
+            shots[turn]++;
+
+            if (target.allShipsSunk()) {
+                result.record(turn, shots[turn]);
+                return;
+            }
+            if (shot == ShotResult.MISS) {
+                turn = 1 - turn;
+            }
+        }
+    }
+
+    private static long mix(long seed, int matchup, int game) {
+        long z = seed + 0x9E3779B97F4A7C15L * (((long) matchup << 32) | (game & 0xFFFFFFFFL));
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Resultados de un enfrentamiento entre dos dificultades.
+     */
+    public static class Matchup {
+        private final Difficulty[] sides;
+        private final long[] wins = new long[2];
+        /** Histograma de disparos necesarios para ganar, por lado */
+        private final long[][] shotsToWin;
+        private long elapsedNanos;
+
+        Matchup(Difficulty first, Difficulty second, int cells) {
+            this.sides = new Difficulty[]{first, second};
+            this.shotsToWin = new long[2][cells + 1];
+        }
+
+        void record(int winner, int shots) {
+            wins[winner]++;
+            shotsToWin[winner][shots]++;
+        }
+
+        void merge(Matchup other) {
+            for (int side = 0; side < 2; side++) {
+                wins[side] += other.wins[side];
+                for (int s = 0; s < shotsToWin[side].length; s++) {
+                    shotsToWin[side][s] += other.shotsToWin[side][s];
+                }
+            }
+        }
+
+        /**
+         * @return Partidas jugadas
+         */
+        public long getGames() {
+            return wins[0] + wins[1];
+        }
+
+        /**
+         * @param side 0 para la primera dificultad, 1 para la segunda
+         * @return Victorias de ese lado
+         */
+        public long getWins(int side) {
+            return wins[side];
+        }
+
+        /**
+         * @return Partidas por segundo
+         */
+        public double getGamesPerSecond() {
+            return elapsedNanos == 0 ? 0 : getGames() / (elapsedNanos / 1e9);
+        }
+    }
+
+    /**
+     * Resultados de todo el torneo.
+     */
+    public static class Report {
+        private final List<Matchup> matchups = new ArrayList<>();
+        private final int cells;
+
+        Report(int cells) {
+            this.cells = cells;
+        }
+
+        void add(Matchup matchup) {
+            matchups.add(matchup);
+        }
+
+        /**
+         * @return Enfrentamientos jugados, en orden
+         */
+        public List<Matchup> getMatchups() {
+            return matchups;
+        }
+
+        /**
+         * @return Líneas de texto listas para imprimir
+         */
+        public List<String> format() {
+            List<String> lines = new ArrayList<>();
+            lines.add("Enfrentamientos:");
+            for (Matchup m : matchups) {
+                lines.add(String.format("  %-6s vs %-6s  %6.2f%% - %6.2f%%  %,.0f partidas/s",
+                        m.sides[0], m.sides[1],
+                        100.0 * m.wins[0] / m.getGames(), 100.0 * m.wins[1] / m.getGames(),
+                        m.getGamesPerSecond()));
+            }
+
+            lines.add("Por dificultad (victorias sin contar espejos; disparos para ganar en todas):");
+            for (Difficulty level : Difficulty.values()) {
+                long won = 0;
+                long played = 0;
+                long gamesTotal = 0;
+                long nanos = 0;
+                long[] histogram = new long[cells + 1];
+
+                for (Matchup m : matchups) {
+                    for (int side = 0; side < 2; side++) {
+                        if (m.sides[side] != level) continue;
+                        if (m.sides[0] != m.sides[1]) {
+                            won += m.wins[side];
+                            played += m.getGames();
+                        }
+                        for (int s = 0; s <= cells; s++) histogram[s] += m.shotsToWin[side][s];
+                    }
+                    if (m.sides[0] == level || m.sides[1] == level) {
+                        gamesTotal += m.getGames();
+                        nanos += m.elapsedNanos;
+                    }
+                }
+
+                lines.add(String.format("  %-6s victorias=%6.2f%%  disparos media=%.2f p50=%d p90=%d p99=%d  %,.0f partidas/s",
+                        level, played == 0 ? 0 : 100.0 * won / played,
+                        mean(histogram), percentile(histogram, 0.50), percentile(histogram, 0.90),
+                        percentile(histogram, 0.99), nanos == 0 ? 0 : gamesTotal / (nanos / 1e9)));
+            }
+            return lines;
+        }
+
+        private static double mean(long[] histogram) {
+            long n = 0;
+            long sum = 0;
+            for (int s = 0; s < histogram.length; s++) {
+                n += histogram[s];
+                sum += (long) s * histogram[s];
+            }
+            return n == 0 ? 0 : (double) sum / n;
+        }
+
+        private static int percentile(long[] histogram, double p) {
+            long n = 0;
+            for (long count : histogram) n += count;
+            long rank = (long) Math.ceil(p * n);
+            long seen = 0;
+            for (int s = 0; s < histogram.length; s++) {
+                seen += histogram[s];
+                if (seen >= rank && seen > 0) return s;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.batalla_naval.ai;
+
+/**
+ * Gancho de telemetría que recibe una medición por cada decisión de la IA
+ * y el destino de sus jugadas especulativas.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public interface AiMetrics {
+
+    /** Implementación que descarta todas las mediciones */
+    AiMetrics NONE = (strategy, latencyNanos, allocatedBytes, candidates) -> { };
+
+    /**
+     * Se llama después de cada decisión.
+     *
+     * @param strategy Nombre de la estrategia
+     * @param latencyNanos Duración de la decisión en nanosegundos
+     * @param allocatedBytes Bytes reservados por el hilo durante la decisión, o -1 si la JVM no lo mide
+     * @param candidates Tamaño del conjunto de celdas entre las que se eligió, o -1 si no aplica
+     */
+    void onDecision(String strategy, long latencyNanos, long allocatedBytes, int candidates);
+
+    /**
+     * Se llama al empezar un turno enemigo para el que había una jugada
+     * calculada durante el turno del jugador, o al descartarla.
+     *
+     * @param used true si se usó, false si se descartó
+     */
+    default void onSpeculation(boolean used) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Difficulty;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Registro de estrategias de IA: las incluidas en el juego más las que se
+ * encuentren con {@link ServiceLoader}. Un proveedor externo con el mismo
+ * nombre reemplaza al incluido, y uno que declare una dificultad pasa a ser
+ * el elegido para ella.
+ * La estrategia de cada dificultad puede cambiarse sin tocar el controlador
+ * con la propiedad de sistema {@code batalla_naval.ai.<dificultad>}, por
+ * ejemplo {@code -Dbatalla_naval.ai.hard=monte-carlo}.
+ * Las estrategias de densidad y Monte Carlo comparten entre partidas una
+ * {@link TranspositionCache}, así que las posiciones repetidas (aperturas,
+ * finales frecuentes) no se vuelven a analizar.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class AiStrategies {
+    private static final TranspositionCache<Integer> DENSITY_DECISIONS = new TranspositionCache<>(1 << 16);
+    private static final TranspositionCache<long[]> MONTE_CARLO_HEATMAPS = new TranspositionCache<>(1 << 12);
+    private static final Map<String, AiStrategyProvider> PROVIDERS = loadProviders();
+
+    private AiStrategies() {
+    }
+
+    private static Map<String, AiStrategyProvider> loadProviders() {
+        Map<String, AiStrategyProvider> providers = new LinkedHashMap<>();
+        register(providers, new BuiltinProvider("random", Difficulty.EASY, RandomStrategy::new));
+        register(providers, new BuiltinProvider("checkerboard", null, random -> new RandomStrategy(random, true)));
+        register(providers, new BuiltinProvider("hunt-target", Difficulty.NORMAL, HuntTargetStrategy::new));
+        register(providers, new BuiltinProvider("density", Difficulty.HARD, random ->
+                new ProbabilityDensityStrategy(random, DENSITY_DECISIONS),
+                (random, prior) -> new ProbabilityDensityStrategy(random, null, prior)));
+        register(providers, new BuiltinProvider("monte-carlo", null, random ->
+                new MonteCarloStrategy(ForkJoinPool.commonPool(), Duration.ofMillis(500), 200_000, random,
+                        MONTE_CARLO_HEATMAPS)));
+
+        for (AiStrategyProvider provider : ServiceLoader.load(AiStrategyProvider.class)) {
+            register(providers, provider);
+        }
+        return providers;
+    }
+
+    private static void register(Map<String, AiStrategyProvider> providers, AiStrategyProvider provider) {
+        providers.put(provider.getName(), provider);
+    }
+
+    /**
+     * @return Todos los proveedores registrados, en orden de registro
+     */
+    public static Collection<AiStrategyProvider> getProviders() {
+        return PROVIDERS.values();
+    }
+
+    /**
+     * Busca un proveedor por nombre.
+     *
+     * @param name Nombre de la estrategia
+     * @return Proveedor registrado
+     * @throws IllegalArgumentException Si no existe
+     */
+    public static AiStrategyProvider byName(String name) {
+        AiStrategyProvider provider = PROVIDERS.get(name);
+        if (provider == null) {
+            throw new IllegalArgumentException("Estrategia de IA desconocida: " + name);
+        }
+        return provider;
+    }
+
+    /**
+     * Elige el proveedor de una dificultad, respetando la propiedad de sistema si existe.
+     *
+     * @param difficulty Dificultad
+     * @return Proveedor elegido
+     */
+    public static AiStrategyProvider forDifficulty(Difficulty difficulty) {
+        String override = System.getProperty("batalla_naval.ai." + difficulty.name().toLowerCase());
+        if (override != null) {
+            return byName(override);
+        }
+
+        AiStrategyProvider chosen = null;
+        for (AiStrategyProvider provider : PROVIDERS.values()) {
+            if (provider.getDifficulty() == difficulty) {
+                chosen = provider;
+            }
+        }
+        if (chosen == null) {
+            throw new IllegalStateException("No hay estrategia para la dificultad " + difficulty);
+        }
+        return chosen;
+    }
+
+    /**
+     * @return Caché de decisiones compartida por la estrategia de densidad
+     */
+    public static TranspositionCache<Integer> getDensityDecisions() {
+        return DENSITY_DECISIONS;
+    }
+
+    /**
+     * @return Caché de mapas de calor compartida por la estrategia Monte Carlo
+     */
+    public static TranspositionCache<long[]> getMonteCarloHeatmaps() {
+        return MONTE_CARLO_HEATMAPS;
+    }
+
+    /**
+     * Crea la estrategia de una dificultad envuelta con telemetría.
+     *
+     * @param difficulty Dificultad
+     * @param random Fuente de aleatoriedad
+     * @param metrics Destino de las mediciones
+     * @return Estrategia instrumentada
+     */
+    public static AiStrategy create(Difficulty difficulty, SplittableRandom random, AiMetrics metrics) {
+        AiStrategyProvider provider = forDifficulty(difficulty);
+        return new InstrumentedStrategy(provider.getName(), provider.create(random), metrics);
+    }
+
+    /**
+     * Proveedor de una estrategia incluida en el juego.
+     */
+    private static final class BuiltinProvider implements AiStrategyProvider {
+        private final String name;
+        private final Difficulty difficulty;
+        private final Function<SplittableRandom, AiStrategy> factory;
+        private final BiFunction<SplittableRandom, PlacementPrior, AiStrategy> priorFactory;
+
+        BuiltinProvider(String name, Difficulty difficulty, Function<SplittableRandom, AiStrategy> factory) {
+            this(name, difficulty, factory, null);
+        }
+
+        BuiltinProvider(String name, Difficulty difficulty, Function<SplittableRandom, AiStrategy> factory,
+                        BiFunction<SplittableRandom, PlacementPrior, AiStrategy> priorFactory) {
+            this.name = name;
+            this.difficulty = difficulty;
+            this.factory = factory;
+            this.priorFactory = priorFactory;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Difficulty getDifficulty() {
+            return difficulty;
+        }
+
+        @Override
+        public AiStrategy create(SplittableRandom random) {
+            return factory.apply(random);
+        }
+
+        @Override
+        public AiStrategy create(SplittableRandom random, PlacementPrior prior) {
+            return prior == null || priorFactory == null ? create(random) : priorFactory.apply(random, prior);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.ShotResult;
+
+/**
+ * Estrategia de disparo de la IA sobre el tablero del jugador.
+ * Una estrategia solo debe usar la información visible para un jugador:
+ * qué celdas fueron disparadas, cuáles fueron impacto y qué barcos se hundieron.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public interface AiStrategy {
+
+    /**
+     * Decide la siguiente celda a disparar.
+     *
+     * @param board Tablero objetivo
+     * @return Índice lineal de la celda ({@code fila * tamaño + columna})
+     */
+    int decideShot(Board board);
+
+    /**
+     * Informa el resultado de un disparo ya realizado sobre el tablero.
+     *
+     * @param board Tablero objetivo
+     * @param row Fila del disparo
+     * @param col Columna del disparo
+     * @param result Resultado obtenido
+     */
+    void onShotResult(Board board, int row, int col, ShotResult result);
+
+    /**
+     * Tamaño del conjunto de celdas entre las que se eligió la última decisión,
+     * para telemetría.
+     *
+     * @return Número de candidatas, o -1 si la estrategia no lo reporta
+     */
+    default int getCandidateCount() {
+        return -1;
+    }
+}
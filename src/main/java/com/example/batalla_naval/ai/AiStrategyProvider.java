@@ -0,0 +1,47 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Difficulty;
+
+import java.util.SplittableRandom;
+
+/**
+ * Proveedor de estrategias de IA. Además de las estrategias incluidas,
+ * otros módulos pueden registrar proveedores con
+ * {@code provides com.example.batalla_naval.ai.AiStrategyProvider with ...}
+ * para que {@link AiStrategies} los encuentre con {@link java.util.ServiceLoader}.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public interface AiStrategyProvider {
+
+    /**
+     * @return Nombre único de la estrategia (por ejemplo "hunt-target")
+     */
+    String getName();
+
+    /**
+     * @return Dificultad que la estrategia atiende por defecto, o null si solo se elige por nombre
+     */
+    Difficulty getDifficulty();
+
+    /**
+     * Crea una instancia nueva de la estrategia; cada partida usa la suya.
+     *
+     * @param random Fuente de aleatoriedad
+     * @return Estrategia lista para usar
+     */
+    AiStrategy create(SplittableRandom random);
+
+    /**
+     * Crea la estrategia para jugar contra una persona, usando lo aprendido
+     * sobre cómo coloca sus barcos. Las estrategias que no usan el modelo lo ignoran.
+     *
+     * @param random Fuente de aleatoriedad
+     * @param prior Modelo de colocaciones humanas, o null
+     * @return Estrategia lista para usar
+     */
+    default AiStrategy create(SplittableRandom random, PlacementPrior prior) {
+        return create(random);
+    }
+}
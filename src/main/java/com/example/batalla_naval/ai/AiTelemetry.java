@@ -0,0 +1,115 @@
+package com.example.batalla_naval.ai;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumulador de mediciones de la IA por estrategia, seguro para usar desde
+ * muchos hilos a la vez (por ejemplo en simulaciones o pruebas A/B).
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class AiTelemetry implements AiMetrics {
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final LongAdder speculationsUsed = new LongAdder();
+    private final LongAdder speculationsDiscarded = new LongAdder();
+
+    @Override
+    public void onDecision(String strategy, long latencyNanos, long allocatedBytes, int candidates) {
+        stats.computeIfAbsent(strategy, k -> new Stats()).record(latencyNanos, allocatedBytes, candidates);
+    }
+
+    @Override
+    public void onSpeculation(boolean used) {
+        (used ? speculationsUsed : speculationsDiscarded).increment();
+    }
+
+    /**
+     * @return Jugadas especulativas aprovechadas
+     */
+    public long getSpeculationsUsed() {
+        return speculationsUsed.sum();
+    }
+
+    /**
+     * @return Jugadas especulativas descartadas
+     */
+    public long getSpeculationsDiscarded() {
+        return speculationsDiscarded.sum();
+    }
+
+    /**
+     * @return Estadísticas por nombre de estrategia, ordenadas por nombre
+     */
+    public Map<String, Stats> getStats() {
+        return new TreeMap<>(stats);
+    }
+
+    /**
+     * Estadísticas acumuladas de una estrategia.
+     */
+    public static class Stats {
+        private final LongAdder decisions = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalAllocated = new LongAdder();
+        private final LongAdder totalCandidates = new LongAdder();
+
+        void record(long latencyNanos, long allocatedBytes, int candidates) {
+            decisions.increment();
+            totalLatency.add(latencyNanos);
+            maxLatency.accumulate(latencyNanos);
+            if (allocatedBytes > 0) totalAllocated.add(allocatedBytes);
+            if (candidates > 0) totalCandidates.add(candidates);
+        }
+
+        /**
+         * @return Número de decisiones medidas
+         */
+        public long getDecisions() {
+            return decisions.sum();
+        }
+
+        /**
+         * @return Latencia media en nanosegundos
+         */
+        public double getMeanLatencyNanos() {
+            long n = decisions.sum();
+            return n == 0 ? 0 : (double) totalLatency.sum() / n;
+        }
+
+        /**
+         * @return Latencia máxima en nanosegundos
+         */
+        public long getMaxLatencyNanos() {
+            return maxLatency.get();
+        }
+
+        /**
+         * @return Bytes reservados en promedio por decisión
+         */
+        public double getMeanAllocatedBytes() {
+            long n = decisions.sum();
+            return n == 0 ? 0 : (double) totalAllocated.sum() / n;
+        }
+
+        /**
+         * @return Tamaño medio del conjunto de candidatas
+         */
+        public double getMeanCandidates() {
+            long n = decisions.sum();
+            return n == 0 ? 0 : (double) totalCandidates.sum() / n;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("decisiones=%d latencia media=%.1f us max=%.1f us bytes/decisión=%.0f candidatas=%.1f",
+                    getDecisions(), getMeanLatencyNanos() / 1_000, getMaxLatencyNanos() / 1_000.0,
+                    getMeanAllocatedBytes(), getMeanCandidates());
+        }
+    }
+}
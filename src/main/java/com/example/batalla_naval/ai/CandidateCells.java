@@ -0,0 +1,200 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.ShipType;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Índice de celdas que aún no han sido disparadas.
+ * Para cada módulo {@code m} entre 1 y {@code maxModulus} las celdas se
+ * reparten en grupos según {@code (fila + columna) % m}; cada grupo es un
+ * segmento de un arreglo con eliminación por intercambio con el último. Así,
+ * elegir una celda al azar (en todo el tablero o solo en una clase de
+ * paridad) y retirar una celda disparada son operaciones de tiempo constante.
+ * La retícula de módulo 1 (todo el tablero) se arma al crear el índice; las
+ * demás se arman la primera vez que se consultan, a partir de las celdas que
+ * sigan libres, porque cada estrategia usa solo una o dos.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class CandidateCells {
+    private final int size;
+    private final int maxModulus;
+
+    /** items[m - 1]: celdas agrupadas por residuo módulo m, o null si la retícula aún no se armó */
+    private final int[][] items;
+    /** position[m - 1][celda]: posición de la celda en items[m - 1], o -1 si ya se retiró */
+    private final int[][] position;
+    /** start[m - 1][residuo] y count[m - 1][residuo]: segmento de cada grupo */
+    private final int[][] start;
+    private final int[][] count;
+
+    /**
+     * Crea el índice con las celdas sin disparar de un tablero, con grupos de
+     * paridad hasta el tamaño del barco más largo.
+     *
+     * @param board Tablero objetivo
+     */
+    public CandidateCells(Board board) {
+        this(board, maxShipSize());
+    }
+
+    /**
+     * Crea el índice con las celdas sin disparar de un tablero.
+     *
+     * @param board Tablero objetivo
+     * @param maxModulus Módulo más grande para el que se mantienen grupos
+     */
+    public CandidateCells(Board board, int maxModulus) {
+        this.size = board.getSize();
+        this.maxModulus = maxModulus;
+        int cells = size * size;
+
+        items = new int[maxModulus][];
+        position = new int[maxModulus][];
+        start = new int[maxModulus][];
+        count = new int[maxModulus][];
+
+        int[] free = new int[cells];
+        int n = 0;
+        boolean anyShot = board.getShotCount() > 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (!anyShot || !board.wasShot(cell / size, cell % size)) {
+                free[n++] = cell;
+            }
+        }
+        build(1, free, n);
+    }
+
+    /**
+     * Arma la retícula de un módulo con las celdas indicadas.
+     *
+     * @param m Módulo
+     * @param free Celdas libres en sus primeras {@code n} posiciones
+     * @param n Número de celdas libres
+     */
+    private void build(int m, int[] free, int n) {
+        int[] groupStart = new int[m];
+        int[] groupCount = new int[m];
+        for (int i = 0; i < n; i++) {
+            groupCount[residue(free[i], m)]++;
+        }
+        for (int res = 1; res < m; res++) {
+            groupStart[res] = groupStart[res - 1] + groupCount[res - 1];
+        }
+
+        int[] fill = groupStart.clone();
+        int[] list = new int[n];
+        int[] pos = new int[size * size];
+        Arrays.fill(pos, -1);
+        for (int i = 0; i < n; i++) {
+            int cell = free[i];
+            int at = fill[residue(cell, m)]++;
+            list[at] = cell;
+            pos[cell] = at;
+        }
+        items[m - 1] = list;
+        position[m - 1] = pos;
+        start[m - 1] = groupStart;
+        count[m - 1] = groupCount;
+    }
+
+    /**
+     * @param m Módulo (entre 1 y el máximo configurado)
+     * @return Índice de la retícula, armándola si es la primera vez que se usa
+     */
+    private int lattice(int m) {
+        if (items[m - 1] == null) {
+            build(m, items[0], count[0][0]);
+        }
+        return m - 1;
+    }
+
+    private static int maxShipSize() {
+        int max = 1;
+        for (ShipType type : ShipType.values()) {
+            max = Math.max(max, type.getSize());
+        }
+        return max;
+    }
+
+    private int residue(int cell, int modulus) {
+        return (cell / size + cell % size) % modulus;
+    }
+
+    /**
+     * @return Número de celdas sin disparar
+     */
+    public int size() {
+        return count[0][0];
+    }
+
+    /**
+     * @param modulus Módulo de la retícula (entre 1 y el máximo configurado)
+     * @param residue Residuo de {@code fila + columna}
+     * @return Celdas sin disparar en esa clase
+     */
+    public int size(int modulus, int residue) {
+        return count[lattice(modulus)][residue];
+    }
+
+    /**
+     * @param cell Índice lineal de la celda
+     * @return true si la celda sigue disponible
+     */
+    public boolean contains(int cell) {
+        return position[0][cell] >= 0;
+    }
+
+    /**
+     * Retira una celda (normalmente porque acaba de ser disparada).
+     *
+     * @param cell Índice lineal de la celda
+     */
+    public void remove(int cell) {
+        if (!contains(cell)) return;
+
+        for (int m = 1; m <= maxModulus; m++) {
+            if (items[m - 1] == null) continue;
+            int[] list = items[m - 1];
+            int[] pos = position[m - 1];
+            int res = residue(cell, m);
+
+            int last = start[m - 1][res] + --count[m - 1][res];
+            int i = pos[cell];
+            int moved = list[last];
+            list[i] = moved;
+            pos[moved] = i;
+            pos[cell] = -1;
+        }
+    }
+
+    /**
+     * Elige una celda disponible de manera uniforme.
+     *
+     * @param random Fuente de aleatoriedad
+     * @return Índice lineal de la celda, o -1 si no quedan celdas
+     */
+    public int pick(SplittableRandom random) {
+        return pick(random, 1, 0);
+    }
+
+    /**
+     * Elige de manera uniforme una celda disponible con
+     * {@code (fila + columna) % modulus == residue}.
+     *
+     * @param random Fuente de aleatoriedad
+     * @param modulus Módulo de la retícula (entre 1 y el máximo configurado)
+     * @param residue Residuo buscado
+     * @return Índice lineal de la celda, o -1 si la clase está vacía
+     */
+    public int pick(SplittableRandom random, int modulus, int residue) {
+        int m = lattice(modulus);
+        int n = count[m][residue];
+        if (n == 0) return -1;
+        return items[m][start[m][residue] + random.nextInt(n)];
+    }
+}
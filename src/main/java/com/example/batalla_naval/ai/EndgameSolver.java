@@ -0,0 +1,585 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.PlacementTable;
+import com.example.batalla_naval.model.ShipType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Solucionador exacto del final de partida. Cuando los barcos que quedan a
+ * flote admiten pocas colocaciones consistentes con los disparos hechos, las
+ * enumera todas (memorizando las subflotas ya resueltas) y busca el disparo
+ * que minimiza la cantidad esperada de disparos restantes, suponiendo que
+ * todas las configuraciones son igual de probables.
+ * La búsqueda tiene un límite de tiempo estricto por jugada: si se agota,
+ * se dispara a la celda ocupada en más configuraciones.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class EndgameSolver {
+    /** Máximo de celdas relevantes para el árbol exacto (una máscara long) */
+    private static final int MAX_LOCAL_CELLS = 64;
+    /** Estados memorizados por jugada; acotarlos evita pausas de recolección que romperían el límite */
+    private static final int MAX_MEMO = 1 << 15;
+    private static final ShipType[] TYPES = ShipType.values();
+    private static final Timeout TIMEOUT = new Timeout();
+
+    private final int maxConfigurations;
+    private final long limitNanos;
+
+    private int lastConfigurations = -1;
+    private double lastExpectedShots = Double.NaN;
+
+    /**
+     * @param maxConfigurations Número de configuraciones a partir del cual no se intenta resolver
+     * @param limit Tiempo máximo por jugada
+     */
+    public EndgameSolver(int maxConfigurations, Duration limit) {
+        if (maxConfigurations < 1) {
+            throw new IllegalArgumentException("El umbral debe ser positivo: " + maxConfigurations);
+        }
+        this.maxConfigurations = maxConfigurations;
+        this.limitNanos = limit.toNanos();
+    }
+
+    /**
+     * @return Configuraciones consistentes en la última jugada resuelta, o -1 si no aplicó
+     */
+    public int getLastConfigurations() {
+        return lastConfigurations;
+    }
+
+    /**
+     * @return Disparos restantes esperados de la última solución exacta, o NaN
+     */
+    public double getLastExpectedShots() {
+        return lastExpectedShots;
+    }
+
+    /**
+     * Busca el mejor disparo si el final es lo bastante pequeño.
+     *
+     * @param board Tablero objetivo
+     * @return Índice de la celda a disparar, o -1 si hay demasiadas configuraciones o se agotó el tiempo al enumerar
+     */
+    public int solve(Board board) {
+        // La búsqueda usa tres cuartos del límite; el resto absorbe la
+        // respuesta de reserva y las pausas de la JVM.
+        long deadline = System.nanoTime() + limitNanos - limitNanos / 4;
+        lastConfigurations = -1;
+        lastExpectedShots = Double.NaN;
+        if (board.allShipsSunk()) return -1;
+
+        Enumerator enumerator = new Enumerator(board, deadline);
+        List<long[]> configurations;
+        try {
+            configurations = enumerator.enumerate();
+        } catch (Timeout e) {
+            return -1;
+        }
+        if (configurations == null || configurations.isEmpty()) return -1;
+        lastConfigurations = configurations.size();
+
+        Tree tree = new Tree(enumerator, configurations, deadline);
+        if (tree.cells.length > MAX_LOCAL_CELLS) {
+            return tree.mostLikelyCell();
+        }
+        try {
+            int cell = tree.bestCell();
+            lastExpectedShots = tree.rootValue;
+            return cell;
+        } catch (Timeout e) {
+            return tree.mostLikelyCell();
+        }
+    }
+
+    /**
+     * Enumera las configuraciones de los barcos a flote. Primero cubre, en
+     * orden, cada impacto pendiente con el único barco que puede pasar por él;
+     * después coloca el resto por tipo y con identificadores crecientes para no
+     * repetir configuraciones. Cada subproblema (barcos por colocar, celdas
+     * ocupadas, identificador mínimo) se memoriza.
+     */
+    private final class Enumerator {
+        private final int size;
+        private final PlacementTable table;
+        private final long[] shot;
+        private final long[] blocked;
+        private final int[] openHits;
+        private final int[] remaining = new int[TYPES.length];
+        private final long deadline;
+        private final Map<SubFleet, List<long[]>> memo = new HashMap<>();
+
+        Enumerator(Board board, long deadline) {
+            this.size = board.getSize();
+            this.table = new PlacementTable(size);
+            this.deadline = deadline;
+            int cells = size * size;
+            this.shot = new long[(cells + 63) >>> 6];
+            this.blocked = new long[shot.length];
+
+            int[] hits = new int[cells];
+            int hitCount = 0;
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (!board.wasShot(r, c)) continue;
+                    int cell = r * size + c;
+                    set(shot, cell);
+                    if (!board.wasHit(r, c) || board.getCell(r, c).getShip().isSunk()) {
+                        set(blocked, cell);
+                    } else {
+                        hits[hitCount++] = cell;
+                    }
+                }
+            }
+            this.openHits = Arrays.copyOf(hits, hitCount);
+            for (ShipType type : TYPES) {
+                remaining[type.ordinal()] = board.getRemainingShips(type);
+            }
+        }
+
+        /**
+         * @return Configuraciones (colocaciones codificadas), o null si superan el umbral
+         */
+        List<long[]> enumerate() {
+            return solve(remaining.clone(), new long[shot.length], -1);
+        }
+
+        private List<long[]> solve(int[] counts, long[] occupied, int floor) {
+            if (System.nanoTime() > deadline) throw TIMEOUT;
+
+            int hit = firstUncoveredHit(occupied);
+            int type = -1;
+            for (int t = 0; t < counts.length; t++) {
+                if (counts[t] > 0) {
+                    type = t;
+                    break;
+                }
+            }
+            if (type < 0) {
+                return hit < 0 ? Collections.singletonList(new long[0]) : Collections.emptyList();
+            }
+
+            SubFleet key = new SubFleet(counts, occupied, hit < 0 ? floor : -1);
+            if (memo.containsKey(key)) {
+                return memo.get(key);
+            }
+
+            List<long[]> result = new ArrayList<>();
+            if (hit >= 0) {
+                int r = hit / size;
+                int c = hit % size;
+                for (int t = 0; t < counts.length && result != null; t++) {
+                    if (counts[t] == 0) continue;
+                    ShipType shipType = TYPES[t];
+                    for (int k = 0; k < shipType.getSize() && result != null; k++) {
+                        result = extend(result, counts, occupied, shipType, table.id(shipType, r, c - k, false), -1);
+                        if (shipType.getSize() > 1) {
+                            result = extend(result, counts, occupied, shipType, table.id(shipType, r - k, c, true), -1);
+                        }
+                    }
+                }
+            } else {
+                ShipType shipType = TYPES[type];
+                int ids = shipType.getSize() > 1 ? table.count(shipType) : table.count(shipType) / 2;
+                for (int id = floor + 1; id < ids && result != null; id++) {
+                    result = extend(result, counts, occupied, shipType, id, counts[type] > 1 ? id : -1);
+                }
+            }
+
+            memo.put(key, result);
+            return result;
+        }
+
+        /**
+         * Agrega las configuraciones que empiezan con la colocación dada.
+         *
+         * @return La lista ampliada, o null si se superó el umbral
+         */
+        private List<long[]> extend(List<long[]> result, int[] counts, long[] occupied,
+                                    ShipType type, int id, int nextFloor) {
+            if (result == null || id < 0 || !fits(type, id, occupied)) return result;
+
+            long[] next = occupied.clone();
+            int cell = table.origin(type, id);
+            int step = table.step(type, id);
+            for (int s = 0; s < type.getSize(); s++, cell += step) {
+                set(next, cell);
+            }
+            counts[type.ordinal()]--;
+            List<long[]> rest = solve(counts.clone(), next, nextFloor);
+            counts[type.ordinal()]++;
+            if (rest == null || result.size() + rest.size() > maxConfigurations) return null;
+
+            long placement = ((long) type.ordinal() << 32) | id;
+            for (long[] tail : rest) {
+                long[] configuration = new long[tail.length + 1];
+                configuration[0] = placement;
+                System.arraycopy(tail, 0, configuration, 1, tail.length);
+                result.add(configuration);
+            }
+            return result;
+        }
+
+        /**
+         * Una colocación es posible si no pisa agua, barcos hundidos ni otros
+         * barcos, y si le queda al menos una celda sin disparar (si no, ya
+         * estaría hundida).
+         */
+        private boolean fits(ShipType type, int id, long[] occupied) {
+            int cell = table.origin(type, id);
+            int step = table.step(type, id);
+            boolean fresh = false;
+            for (int s = 0; s < type.getSize(); s++, cell += step) {
+                if (get(blocked, cell) || get(occupied, cell)) return false;
+                fresh |= !get(shot, cell);
+            }
+            return fresh;
+        }
+
+        private int firstUncoveredHit(long[] occupied) {
+            for (int hit : openHits) {
+                if (!get(occupied, hit)) return hit;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Subproblema de la enumeración: barcos por colocar, celdas ocupadas y
+     * el identificador mínimo del tipo actual.
+     */
+    private static final class SubFleet {
+        private final int[] counts;
+        private final long[] occupied;
+        private final int floor;
+        private final int hash;
+
+        SubFleet(int[] counts, long[] occupied, int floor) {
+            this.counts = counts.clone();
+            this.occupied = occupied;
+            this.floor = floor;
+            this.hash = 31 * (31 * Arrays.hashCode(counts) + Arrays.hashCode(occupied)) + floor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof SubFleet)) return false;
+            SubFleet other = (SubFleet) o;
+            return floor == other.floor && Arrays.equals(counts, other.counts)
+                    && Arrays.equals(occupied, other.occupied);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Árbol de decisión sobre las configuraciones. Solo importan las celdas
+     * sin disparar de alguna configuración, que se renumeran para caber en un
+     * long; cada barco de cada configuración es una máscara sobre ellas.
+     */
+    private static final class Tree {
+        private final int[] cells;
+        private final int[] start;
+        private final long[] shipMask;
+        private final long[] shipPlacement;
+        private final long[] fleetMask;
+        private final int[] coverage;
+        private final int count;
+        private final int words;
+        private final long deadline;
+        private final Map<State, Double> memo = new HashMap<>();
+        private double rootValue;
+
+        Tree(Enumerator enumerator, List<long[]> configurations, long deadline) {
+            this.deadline = deadline;
+            this.count = configurations.size();
+            this.words = (count + 63) >>> 6;
+
+            Map<Integer, Integer> local = new HashMap<>();
+            List<Integer> order = new ArrayList<>();
+            int ships = 0;
+            for (long[] configuration : configurations) {
+                ships += configuration.length;
+            }
+            start = new int[count + 1];
+            shipMask = new long[ships];
+            shipPlacement = new long[ships];
+            fleetMask = new long[count];
+            List<Integer> hits = new ArrayList<>();
+
+            int s = 0;
+            for (int k = 0; k < count; k++) {
+                start[k] = s;
+                for (long placement : configurations.get(k)) {
+                    ShipType type = TYPES[(int) (placement >>> 32)];
+                    int id = (int) placement;
+                    int cell = enumerator.table.origin(type, id);
+                    int step = enumerator.table.step(type, id);
+                    long mask = 0;
+                    for (int i = 0; i < type.getSize(); i++, cell += step) {
+                        if (get(enumerator.shot, cell)) continue;
+                        Integer bit = local.get(cell);
+                        if (bit == null) {
+                            bit = order.size();
+                            local.put(cell, bit);
+                            order.add(cell);
+                        }
+                        if (bit == hits.size()) {
+                            hits.add(0);
+                        }
+                        hits.set(bit, hits.get(bit) + 1);
+                        if (bit < MAX_LOCAL_CELLS) {
+                            mask |= 1L << bit;
+                        }
+                    }
+                    shipMask[s] = mask;
+                    shipPlacement[s] = placement;
+                    fleetMask[k] |= mask;
+                    s++;
+                }
+            }
+            start[count] = s;
+            cells = order.stream().mapToInt(Integer::intValue).toArray();
+            coverage = hits.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * @return Celda ocupada en más configuraciones (probabilidad exacta de acierto)
+         */
+        int mostLikelyCell() {
+            int best = 0;
+            for (int b = 1; b < coverage.length; b++) {
+                if (coverage[b] > coverage[best]) best = b;
+            }
+            return cells[best];
+        }
+
+        int bestCell() {
+            long[] all = new long[words];
+            for (int k = 0; k < count; k++) {
+                all[k >>> 6] |= 1L << k;
+            }
+            int[] choice = new int[1];
+            rootValue = expected(all, 0L, choice);
+            return cells[choice[0]];
+        }
+
+        /**
+         * Disparos esperados para terminar desde un conjunto de configuraciones
+         * y las celdas locales ya disparadas.
+         *
+         * @param choice Si no es null, recibe la celda local elegida
+         */
+        private double expected(long[] set, long shotMask, int[] choice) {
+            if (System.nanoTime() > deadline) throw TIMEOUT;
+
+            int size = cardinality(set);
+            if (size == 1 && choice == null) {
+                return Long.bitCount(fleetMask[first(set)] & ~shotMask);
+            }
+            State key = new State(set, shotMask);
+            if (choice == null) {
+                Double known = memo.get(key);
+                if (known != null) return known;
+            }
+
+            long union = 0;
+            long common = -1L;
+            long liveCells = 0;
+            boolean disjoint = true;
+            for (int k = first(set); k >= 0; k = next(set, k)) {
+                long live = fleetMask[k] & ~shotMask;
+                disjoint &= (union & live) == 0;
+                union |= live;
+                common &= live;
+                liveCells += Long.bitCount(live);
+            }
+
+            if (disjoint) {
+                // Cada acierto identifica la configuración: se tantea una por
+                // disparo y se termina la verdadera, en cualquier orden.
+                double value = (size - 1) / 2.0 + (double) liveCells / size;
+                if (choice != null) choice[0] = Long.numberOfTrailingZeros(union);
+                remember(key, value);
+                return value;
+            }
+            long candidates = common != 0 ? Long.lowestOneBit(common) : union;
+
+            double best = Double.POSITIVE_INFINITY;
+            int bestBit = -1;
+            Set<Long> signatures = new HashSet<>();
+            for (long bits = candidates; bits != 0; bits &= bits - 1) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                if (!signatures.add(signature(set, bit))) continue;
+                double value = shoot(set, size, shotMask, bit, best);
+                if (value < best) {
+                    best = value;
+                    bestBit = bit;
+                }
+            }
+
+            if (choice != null) choice[0] = bestBit;
+            remember(key, best);
+            return best;
+        }
+
+        /**
+         * Valor de disparar a una celda: 1 más el promedio de los subárboles
+         * de cada resultado observable. Se abandona en cuanto la cota inferior
+         * supera al mejor disparo conocido.
+         */
+        private double shoot(long[] set, int size, long shotMask, int bit, double bound) {
+            long after = shotMask | (1L << bit);
+            Map<Long, long[]> outcomes = new HashMap<>();
+            for (int k = first(set); k >= 0; k = next(set, k)) {
+                outcomes.computeIfAbsent(outcome(k, after, bit), o -> new long[words])[k >>> 6] |= 1L << k;
+            }
+
+            double lower = 0;
+            for (Map.Entry<Long, long[]> entry : outcomes.entrySet()) {
+                lower += lowerBound(entry.getValue(), after);
+            }
+            double total = 0;
+            for (Map.Entry<Long, long[]> entry : outcomes.entrySet()) {
+                if (1 + (total + lower) / size >= bound) return Double.POSITIVE_INFINITY;
+                long[] group = entry.getValue();
+                lower -= lowerBound(group, after);
+                if (entry.getKey() == FINISHED) continue;
+                total += cardinality(group) * expected(group, after, null);
+            }
+            return 1 + total / size;
+        }
+
+        private void remember(State key, double value) {
+            if (memo.size() < MAX_MEMO) {
+                memo.put(key, value);
+            }
+        }
+
+        /**
+         * Resume qué barco de cada configuración pasa por una celda; dos
+         * celdas con la misma firma dan los mismos resultados y basta probar una.
+         */
+        private long signature(long[] set, int bit) {
+            long hash = 0;
+            for (int k = first(set); k >= 0; k = next(set, k)) {
+                for (int s = start[k]; s < start[k + 1]; s++) {
+                    if ((shipMask[s] & (1L << bit)) != 0) {
+                        hash = hash * 0x9E3779B97F4A7C15L + s + 1;
+                        break;
+                    }
+                }
+                hash = hash * 31 + k;
+            }
+            return hash;
+        }
+
+        private static final long MISS = -1L;
+        private static final long HIT = -2L;
+        private static final long FINISHED = -3L;
+
+        /**
+         * Resultado observable de disparar: agua, tocado, fin de la partida o
+         * la colocación exacta del barco hundido (el tablero la revela).
+         */
+        private long outcome(int k, long after, int bit) {
+            for (int s = start[k]; s < start[k + 1]; s++) {
+                if ((shipMask[s] & (1L << bit)) == 0) continue;
+                if ((shipMask[s] & ~after) != 0) return HIT;
+                return (fleetMask[k] & ~after) == 0 ? FINISHED : shipPlacement[s];
+            }
+            return MISS;
+        }
+
+        /** Cada configuración exige disparar a todas sus celdas vivas (suma sobre el grupo) */
+        private double lowerBound(long[] group, long after) {
+            double sum = 0;
+            for (int k = first(group); k >= 0; k = next(group, k)) {
+                sum += Long.bitCount(fleetMask[k] & ~after);
+            }
+            return sum;
+        }
+
+        private static int cardinality(long[] set) {
+            int n = 0;
+            for (long w : set) n += Long.bitCount(w);
+            return n;
+        }
+
+        private static int first(long[] set) {
+            return next(set, -1);
+        }
+
+        private static int next(long[] set, int k) {
+            int from = k + 1;
+            int w = from >>> 6;
+            if (w >= set.length) return -1;
+            long bits = set[w] & (-1L << (from & 63));
+            while (bits == 0) {
+                if (++w >= set.length) return -1;
+                bits = set[w];
+            }
+            return (w << 6) + Long.numberOfTrailingZeros(bits);
+        }
+    }
+
+    /**
+     * Estado del árbol: configuraciones aún posibles y celdas locales disparadas.
+     */
+    private static final class State {
+        private final long[] set;
+        private final long shot;
+        private final int hash;
+
+        State(long[] set, long shot) {
+            this.set = set;
+            this.shot = shot;
+            this.hash = 31 * Arrays.hashCode(set) + Long.hashCode(shot);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof State)) return false;
+            State other = (State) o;
+            return shot == other.shot && Arrays.equals(set, other.set);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Corta la búsqueda al agotarse el tiempo; se reutiliza sin traza de pila.
+     */
+    private static final class Timeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Timeout() {
+            super("Tiempo agotado", null, false, false);
+        }
+    }
+
+    private static void set(long[] mask, int i) {
+        mask[i >>> 6] |= 1L << i;
+    }
+
+    private static boolean get(long[] mask, int i) {
+        return (mask[i >>> 6] & (1L << i)) != 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.ShotResult;
+
+/**
+ * Envoltorio que usa un {@link EndgameSolver} cuando quedan pocas
+ * configuraciones posibles y delega en otra estrategia el resto de la partida.
+ * La estrategia delegada sigue recibiendo todos los resultados para no
+ * perder la sincronía con el tablero.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class EndgameStrategy implements AiStrategy {
+    private final AiStrategy delegate;
+    private final EndgameSolver solver;
+    private boolean solved;
+
+    /**
+     * @param delegate Estrategia para el medio juego
+     * @param solver Solucionador del final
+     */
+    public EndgameStrategy(AiStrategy delegate, EndgameSolver solver) {
+        this.delegate = delegate;
+        this.solver = solver;
+    }
+
+    /**
+     * @return true si la última jugada la eligió el solucionador exacto
+     */
+    public boolean isLastShotSolved() {
+        return solved;
+    }
+
+    @Override
+    public int decideShot(Board board) {
+        int cell = solver.solve(board);
+        solved = cell >= 0;
+        return solved ? cell : delegate.decideShot(board);
+    }
+
+    @Override
+    public void onShotResult(Board board, int row, int col, ShotResult result) {
+        delegate.onShotResult(board, row, col, result);
+    }
+
+    @Override
+    public int getCandidateCount() {
+        return solved ? solver.getLastConfigurations() : delegate.getCandidateCount();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import com.example.batalla_naval.model.ShotResult;
+
+import java.util.SplittableRandom;
+
+/**
+ * Estrategia de caza y objetivo para la dificultad NORMAL.
+ * En modo caza dispara sobre una retícula {@code (fila + columna) % k}, donde
+ * {@code k} es el tamaño del barco más pequeño que sigue a flote. Tras un
+ * impacto encola las celdas vecinas y las dispara en orden (modo objetivo);
+ * al hundir un barco descarta la cola y vuelve a cazar, salvo que queden
+ * impactos de otro barco sin hundir.
+ * Todo el estado vive en arreglos reservados al sincronizar con el tablero,
+ * por lo que decidir un disparo no crea objetos.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class HuntTargetStrategy implements AiStrategy {
+    private static final ShipType[] TYPES = ShipType.values();
+
+    private final SplittableRandom random;
+
+    private Board board;
+    private int size;
+    private int processedShots;
+    private CandidateCells candidates;
+
+    /** Cola circular de celdas a probar en modo objetivo */
+    private int[] queue;
+    private boolean[] queued;
+    private int head;
+    private int queueSize;
+
+    /** Impactos que aún no pertenecen a un barco hundido */
+    private int[] openHits;
+    private int openHitCount;
+
+    /** Residuo elegido para la retícula de caza */
+    private int huntOffset;
+
+    private int lastCandidates = -1;
+
+    /**
+     * Crea la estrategia con una semilla aleatoria.
+     */
+    public HuntTargetStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * @param random Fuente de aleatoriedad
+     */
+    public HuntTargetStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int decideShot(Board board) {
+        sync(board);
+
+        while (queueSize > 0) {
+            lastCandidates = queueSize;
+            int cell = queue[head];
+            head = (head + 1) % queue.length;
+            queueSize--;
+            queued[cell] = false;
+            if (candidates.contains(cell)) return cell;
+        }
+        return hunt();
+    }
+
+    @Override
+    public void onShotResult(Board board, int row, int col, ShotResult result) {
+        if (board != this.board || board.getShotCount() != processedShots + 1) {
+            sync(board);
+            return;
+        }
+
+        int cell = row * size + col;
+        candidates.remove(cell);
+        processedShots++;
+
+        switch (result) {
+            case MISS -> { }
+            case HIT -> {
+                openHits[openHitCount++] = cell;
+                enqueueNeighbours(cell);
+            }
+            case SUNK -> sink(board.getCell(row, col).getShip());
+        }
+    }
+
+    /**
+     * Dispara sobre la retícula del barco más pequeño a flote.
+     */
+    private int hunt() {
+        int modulus = smallestAfloat();
+        if (modulus > 1 && candidates.size(modulus, huntOffset % modulus) > 0) {
+            lastCandidates = candidates.size(modulus, huntOffset % modulus);
+            return candidates.pick(random, modulus, huntOffset % modulus);
+        }
+        lastCandidates = candidates.size();
+        return candidates.pick(random);
+    }
+
+    @Override
+    public int getCandidateCount() {
+        return lastCandidates;
+    }
+
+    private int smallestAfloat() {
+        int smallest = Integer.MAX_VALUE;
+        for (ShipType type : TYPES) {
+            if (board.getRemainingShips(type) > 0) {
+                smallest = Math.min(smallest, type.getSize());
+            }
+        }
+        return smallest == Integer.MAX_VALUE ? 1 : smallest;
+    }
+
+    private void sink(Ship ship) {
+        int step = ship.isVertical() ? size : 1;
+        int cell = ship.getRow() * size + ship.getCol();
+        for (int s = 0; s < ship.getType().getSize(); s++, cell += step) {
+            removeOpenHit(cell);
+        }
+
+        clearQueue();
+        for (int i = 0; i < openHitCount; i++) {
+            enqueueNeighbours(openHits[i]);
+        }
+    }
+
+    private void removeOpenHit(int cell) {
+        for (int i = 0; i < openHitCount; i++) {
+            if (openHits[i] == cell) {
+                openHits[i] = openHits[--openHitCount];
+                return;
+            }
+        }
+    }
+
+    private void enqueueNeighbours(int cell) {
+        int r = cell / size;
+        int c = cell % size;
+        if (r > 0) enqueue(cell - size);
+        if (r < size - 1) enqueue(cell + size);
+        if (c > 0) enqueue(cell - 1);
+        if (c < size - 1) enqueue(cell + 1);
+    }
+
+    private void enqueue(int cell) {
+        if (queued[cell] || !candidates.contains(cell)) return;
+        queue[(head + queueSize) % queue.length] = cell;
+        queueSize++;
+        queued[cell] = true;
+    }
+
+    private void clearQueue() {
+        while (queueSize > 0) {
+            queued[queue[head]] = false;
+            head = (head + 1) % queue.length;
+            queueSize--;
+        }
+    }
+
+    /**
+     * Reconstruye el estado a partir del tablero (al empezar o al cargar una partida).
+     */
+    private void sync(Board board) {
+        if (board == this.board && board.getShotCount() == processedShots) {
+            return;
+        }
+        this.board = board;
+        this.size = board.getSize();
+        int cells = size * size;
+
+        candidates = new CandidateCells(board);
+        queue = new int[cells];
+        queued = new boolean[cells];
+        head = 0;
+        queueSize = 0;
+        openHits = new int[cells];
+        openHitCount = 0;
+        huntOffset = random.nextInt(Integer.MAX_VALUE);
+
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (board.wasHit(r, c) && !board.getCell(r, c).getShip().isSunk()) {
+                    openHits[openHitCount++] = r * size + c;
+                }
+            }
+        }
+        for (int i = 0; i < openHitCount; i++) {
+            enqueueNeighbours(openHits[i]);
+        }
+        processedShots = board.getShotCount();
+    }
+}
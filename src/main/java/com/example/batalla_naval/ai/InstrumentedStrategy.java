@@ -0,0 +1,76 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.ShotResult;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Envoltorio que mide cada decisión de otra estrategia (latencia, memoria
+ * reservada por el hilo y tamaño del conjunto de candidatas) y la reporta a
+ * un {@link AiMetrics}.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class InstrumentedStrategy implements AiStrategy {
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    private final String name;
+    private final AiStrategy delegate;
+    private final AiMetrics metrics;
+
+    /**
+     * @param name Nombre con el que se reportan las mediciones
+     * @param delegate Estrategia medida
+     * @param metrics Destino de las mediciones
+     */
+    public InstrumentedStrategy(String name, AiStrategy delegate, AiMetrics metrics) {
+        this.name = name;
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * @return Estrategia medida
+     */
+    public AiStrategy getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public int decideShot(Board board) {
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        int cell = delegate.decideShot(board);
+
+        long latency = System.nanoTime() - start;
+        long allocated = bytesBefore < 0 ? -1 : allocatedBytes() - bytesBefore;
+        metrics.onDecision(name, latency, allocated, delegate.getCandidateCount());
+        return cell;
+    }
+
+    @Override
+    public void onShotResult(Board board, int row, int col, ShotResult result) {
+        delegate.onShotResult(board, row, col, result);
+    }
+
+    @Override
+    public int getCandidateCount() {
+        return delegate.getCandidateCount();
+    }
+}
@@ -0,0 +1,402 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.PlacementTable;
+import com.example.batalla_naval.model.ShipType;
+import com.example.batalla_naval.model.ShotResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Estrategia Monte Carlo: genera muchas flotas enemigas completas que son
+ * consistentes con los disparos vistos (sin tocar agua ni barcos hundidos y
+ * cubriendo todos los impactos pendientes) y dispara a la celda libre que
+ * aparece ocupada con más frecuencia.
+ * El muestreo se reparte entre los hilos de un {@link ForkJoinPool} y se
+ * detiene al agotar el presupuesto de tiempo por jugada o el máximo de
+ * muestras. La espera por los hilos también tiene plazo: si el pool está
+ * ocupado, se usan solo las muestras que llegaron. Si no se obtiene
+ * ninguna muestra se usa la estrategia de densidad de probabilidad.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class MonteCarloStrategy implements AiStrategy {
+    /** Intentos al azar para ubicar un barco antes de descartar la muestra */
+    private static final int PLACEMENT_PROBES = 32;
+
+    /** Colocaciones que pueden cubrir una celda: dos orientaciones por segmento del barco más largo */
+    private static final int MAX_COVERING = 2 * Arrays.stream(ShipType.values())
+            .mapToInt(ShipType::getSize).max().orElse(1);
+
+    /** Fracción del presupuesto (1/n) reservada para juntar los resultados de los hilos */
+    private static final int COLLECT_SHARE = 10;
+
+    /** Estados de una tarea de muestreo: aún en la cola, muestreando, o descartada sin haber empezado */
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int ABANDONED = 2;
+
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int maxSamples;
+    private final SplittableRandom random;
+    private final ProbabilityDensityStrategy fallback;
+    private final TranspositionCache<long[]> heatmaps;
+
+    private volatile int lastSampleCount;
+    private volatile int lastCandidates = -1;
+
+    /**
+     * Crea la estrategia sobre el pool común.
+     *
+     * @param budget Tiempo máximo de cálculo por jugada
+     */
+    public MonteCarloStrategy(Duration budget) {
+        this(ForkJoinPool.commonPool(), budget, 200_000, new SplittableRandom());
+    }
+
+    /**
+     * @param pool Pool donde se reparte el muestreo
+     * @param budget Tiempo máximo de cálculo por jugada
+     * @param maxSamples Muestras máximas por jugada (se corta antes si se agota el tiempo)
+     * @param random Fuente de aleatoriedad
+     */
+    public MonteCarloStrategy(ForkJoinPool pool, Duration budget, int maxSamples, SplittableRandom random) {
+        this(pool, budget, maxSamples, random, null);
+    }
+
+    /**
+     * Crea la estrategia reutilizando mapas de calor de posiciones ya vistas.
+     * Un mapa guardado con menos de {@code maxSamples} muestras se completa
+     * con muestreo nuevo y se vuelve a guardar acumulado.
+     *
+     * @param heatmaps Caché de conteos por clave observada y flota, o null
+     */
+    public MonteCarloStrategy(ForkJoinPool pool, Duration budget, int maxSamples, SplittableRandom random,
+                              TranspositionCache<long[]> heatmaps) {
+        this.heatmaps = heatmaps;
+        this.pool = pool;
+        this.budgetNanos = budget.toNanos();
+        this.maxSamples = maxSamples;
+        this.random = random;
+        this.fallback = new ProbabilityDensityStrategy(random.split());
+    }
+
+    /**
+     * @return Muestras consistentes usadas en la última decisión
+     */
+    public int getLastSampleCount() {
+        return lastSampleCount;
+    }
+
+    @Override
+    public int decideShot(Board board) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        // Los hilos dejan de muestrear un poco antes, para que juntar los resultados quepa en el plazo.
+        long sampleDeadline = start + budgetNanos - budgetNanos / COLLECT_SHARE;
+        // Y a los que ya empezaron se les espera como mucho otra porción igual después del plazo.
+        long graceDeadline = deadline + budgetNanos / COLLECT_SHARE;
+        Constraints constraints = new Constraints(board);
+        long key = TranspositionCache.keyOf(board);
+        long[] cached = heatmaps == null ? null : heatmaps.get(key);
+        if (cached != null && cached.length == constraints.cells + 1 && cached[constraints.cells] >= maxSamples) {
+            lastSampleCount = (int) cached[constraints.cells];
+            return pick(constraints, cached);
+        }
+
+        int workers = Math.max(1, pool.getParallelism());
+        int quota = Math.max(1, maxSamples / workers);
+        List<ForkJoinTask<long[]>> tasks = new ArrayList<>(workers);
+        AtomicIntegerArray states = new AtomicIntegerArray(workers);
+        for (int w = 0; w < workers; w++) {
+            SplittableRandom workerRandom = random.split();
+            int id = w;
+            tasks.add(pool.submit(() -> states.compareAndSet(id, PENDING, RUNNING)
+                    ? constraints.sample(workerRandom, quota, sampleDeadline)
+                    : null));
+        }
+
+        long[] counts = new long[constraints.cells];
+        long samples = 0;
+        for (int w = 0; w < workers; w++) {
+            long[] partial = await(tasks.get(w), deadline, graceDeadline, states, w);
+            if (partial == null) {
+                continue;
+            }
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += partial[i];
+            }
+            samples += partial[counts.length];
+        }
+        if (cached != null && cached.length == counts.length + 1) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += cached[i];
+            }
+            samples += cached[counts.length];
+        }
+        lastSampleCount = (int) samples;
+        if (heatmaps != null && samples > 0) {
+            long[] stored = Arrays.copyOf(counts, counts.length + 1);
+            stored[counts.length] = samples;
+            heatmaps.put(key, stored);
+        }
+
+        if (samples == 0) {
+            int cell = fallback.decideShot(board);
+            lastCandidates = fallback.getCandidateCount();
+            return cell;
+        }
+        return pick(constraints, counts);
+    }
+
+    /**
+     * Espera el resultado de un hilo sin pasarse del plazo. Si al vencer la
+     * tarea ni siquiera empezó, porque el pool está ocupado con otras
+     * partidas, se descarta y la jugada sigue con lo que haya. Si ya está
+     * muestreando se espera hasta el margen: corta sola al llegar su propio
+     * plazo, así que solo falta lo que tarde en entregar, y si se pasa del
+     * margen su resultado se ignora.
+     *
+     * @param deadline Plazo de la jugada, en {@link System#nanoTime()}
+     * @param graceDeadline Último momento para esperar una tarea que ya empezó
+     * @return Conteos del hilo, o null si no llegó a empezar o no terminó a tiempo
+     */
+    private static long[] await(ForkJoinTask<long[]> task, long deadline, long graceDeadline,
+                                AtomicIntegerArray states, int id) {
+        try {
+            try {
+                return task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (states.compareAndSet(id, PENDING, ABANDONED)) {
+                    task.cancel(false);
+                    return null;
+                }
+            }
+            return task.get(Math.max(0, graceDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            states.compareAndSet(id, PENDING, ABANDONED);
+            task.cancel(false);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private int pick(Constraints constraints, long[] counts) {
+        int candidates = 0;
+        for (int i = 0; i < constraints.cells; i++) {
+            if (counts[i] > 0) candidates++;
+        }
+        lastCandidates = candidates;
+        return constraints.argmax(counts, random);
+    }
+
+    @Override
+    public int getCandidateCount() {
+        return lastCandidates;
+    }
+
+    @Override
+    public void onShotResult(Board board, int row, int col, ShotResult result) {
+        fallback.onShotResult(board, row, col, result);
+    }
+
+    /**
+     * Foto inmutable de lo que se sabe del tablero, compartida por los hilos de muestreo.
+     */
+    private static final class Constraints {
+        private final int size;
+        private final int cells;
+        private final PlacementTable table;
+        private final long[] shot;
+        private final long[] blocked;
+        private final int[] openHits;
+        private final ShipType[] remaining;
+
+        Constraints(Board board) {
+            this.size = board.getSize();
+            this.cells = size * size;
+            this.table = new PlacementTable(size);
+            this.shot = new long[(cells + 63) >>> 6];
+            this.blocked = new long[shot.length];
+
+            int[] hits = new int[cells];
+            int hitCount = 0;
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (!board.wasShot(r, c)) continue;
+                    int cell = r * size + c;
+                    set(shot, cell);
+                    if (!board.wasHit(r, c) || board.getCell(r, c).getShip().isSunk()) {
+                        set(blocked, cell);
+                    } else {
+                        hits[hitCount++] = cell;
+                    }
+                }
+            }
+            this.openHits = Arrays.copyOf(hits, hitCount);
+
+            List<ShipType> afloat = new ArrayList<>();
+            for (ShipType type : ShipType.values()) {
+                for (int i = 0; i < board.getRemainingShips(type); i++) {
+                    afloat.add(type);
+                }
+            }
+            this.remaining = afloat.toArray(new ShipType[0]);
+        }
+
+        /**
+         * Genera muestras hasta la cuota o el plazo.
+         *
+         * @return Conteo de ocupación por celda, con el número de muestras en la última posición
+         */
+        long[] sample(SplittableRandom random, int quota, long deadline) {
+            long[] counts = new long[cells + 1];
+            long[] occupied = new long[shot.length];
+            boolean[] used = new boolean[remaining.length];
+            int[] candidates = new int[MAX_COVERING];
+
+            for (int n = 0; n < quota && System.nanoTime() < deadline; n++) {
+                if (!sampleFleet(random, occupied, used, candidates)) continue;
+
+                for (int w = 0; w < occupied.length; w++) {
+                    long bits = occupied[w] & ~shot[w];
+                    while (bits != 0) {
+                        counts[(w << 6) + Long.numberOfTrailingZeros(bits)]++;
+                        bits &= bits - 1;
+                    }
+                }
+                counts[cells]++;
+            }
+            return counts;
+        }
+
+        /**
+         * Ubica primero barcos que cubran los impactos pendientes y luego el resto al azar.
+         *
+         * @return false si la muestra resultó inconsistente
+         */
+        private boolean sampleFleet(SplittableRandom random, long[] occupied, boolean[] used, int[] candidates) {
+            Arrays.fill(occupied, 0L);
+            Arrays.fill(used, false);
+
+            for (int hit : openHits) {
+                if (get(occupied, hit)) continue;
+                if (!coverHit(hit, random, occupied, used, candidates)) return false;
+            }
+
+            for (int i = 0; i < remaining.length; i++) {
+                if (used[i]) continue;
+                if (!placeAnywhere(remaining[i], random, occupied)) return false;
+                used[i] = true;
+            }
+            return true;
+        }
+
+        private boolean coverHit(int hit, SplittableRandom random, long[] occupied, boolean[] used, int[] candidates) {
+            int r = hit / size;
+            int c = hit % size;
+            int start = random.nextInt(remaining.length);
+
+            for (int k = 0; k < remaining.length; k++) {
+                int i = (start + k) % remaining.length;
+                if (used[i]) continue;
+
+                ShipType type = remaining[i];
+                int found = 0;
+                for (int s = 0; s < type.getSize(); s++) {
+                    found = addIfFree(type, table.id(type, r, c - s, false), occupied, candidates, found);
+                    found = addIfFree(type, table.id(type, r - s, c, true), occupied, candidates, found);
+                }
+                if (found > 0) {
+                    mark(type, candidates[random.nextInt(found)], occupied);
+                    used[i] = true;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int addIfFree(ShipType type, int id, long[] occupied, int[] candidates, int found) {
+            if (id >= 0 && fits(type, id, occupied)) {
+                candidates[found++] = id;
+            }
+            return found;
+        }
+
+        private boolean placeAnywhere(ShipType type, SplittableRandom random, long[] occupied) {
+            int n = table.count(type);
+            for (int probe = 0; probe < PLACEMENT_PROBES; probe++) {
+                int id = random.nextInt(n);
+                if (fits(type, id, occupied)) {
+                    mark(type, id, occupied);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean fits(ShipType type, int id, long[] occupied) {
+            int cell = table.origin(type, id);
+            int step = table.step(type, id);
+            for (int s = 0; s < type.getSize(); s++, cell += step) {
+                if (get(blocked, cell) || get(occupied, cell)) return false;
+            }
+            return true;
+        }
+
+        private void mark(ShipType type, int id, long[] occupied) {
+            int cell = table.origin(type, id);
+            int step = table.step(type, id);
+            for (int s = 0; s < type.getSize(); s++, cell += step) {
+                set(occupied, cell);
+            }
+        }
+
+        /**
+         * Celda sin disparar con más apariciones; los empates se resuelven al azar.
+         */
+        int argmax(long[] counts, SplittableRandom random) {
+            int best = -1;
+            long bestCount = -1;
+            int ties = 0;
+            for (int cell = 0; cell < cells; cell++) {
+                if (get(shot, cell)) continue;
+                if (counts[cell] > bestCount) {
+                    best = cell;
+                    bestCount = counts[cell];
+                    ties = 1;
+                } else if (counts[cell] == bestCount && random.nextInt(++ties) == 0) {
+                    best = cell;
+                }
+            }
+            return best;
+        }
+
+        private static boolean get(long[] mask, int i) {
+            return (mask[i >>> 6] & (1L << i)) != 0;
+        }
+
+        private static void set(long[] mask, int i) {
+            mask[i >>> 6] |= 1L << i;
+        }
+    }
+}
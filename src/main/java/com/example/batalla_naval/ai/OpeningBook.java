@@ -0,0 +1,361 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.PlacementTable;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Libro de aperturas: mapas de calor precalculados para los primeros
+ * disparos de una partida, indexados por la clave observada del tablero
+ * ({@link Board#getObservedKey()}). Para un tamaño de tablero y una flota
+ * dados esos mapas son siempre los mismos, así que se calculan una vez con
+ * muchas flotas de muestra y se guardan en un archivo compacto que se abre
+ * con memoria mapeada; consultar es una búsqueda binaria sin cálculos.
+ * Formato: cabecera (magia, versión, tamaño, clave de flota, entradas),
+ * claves ordenadas y, por entrada, la mejor celda y la probabilidad de
+ * barco de cada celda en 16 bits.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class OpeningBook {
+    private static final int MAGIC = 0x424E4F42;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final double SCALE = 65535.0;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int cells;
+    private final long fleetKey;
+    private final int entries;
+    private final int recordsOffset;
+    private final int recordBytes;
+
+    private OpeningBook(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Libro de aperturas inválido");
+        }
+        this.size = buffer.getInt(8);
+        this.fleetKey = buffer.getLong(12);
+        this.entries = buffer.getInt(20);
+        this.cells = size * size;
+        this.recordsOffset = HEADER_BYTES + entries * Long.BYTES;
+        this.recordBytes = Integer.BYTES + cells * Character.BYTES;
+        if (size < 1 || entries < 0 || (long) recordsOffset + (long) entries * recordBytes != buffer.capacity()) {
+            throw new IOException("Libro de aperturas truncado");
+        }
+    }
+
+    /**
+     * Abre un libro con memoria mapeada de solo lectura.
+     *
+     * @param file Archivo del libro
+     * @return Libro listo para consultar
+     * @throws IOException Si no se puede leer o el formato no es válido
+     */
+    public static OpeningBook open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new OpeningBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Identifica la flota que corresponde a un tamaño de tablero: los tipos
+     * de barco, sus tamaños y cuántos hay de cada uno.
+     *
+     * @param size Tamaño del tablero
+     * @return Huella de la flota
+     */
+    public static long fleetKey(int size) {
+        long key = size;
+        for (ShipType type : ShipType.values()) {
+            key = key * 0x9E3779B97F4A7C15L + type.ordinal();
+            key = key * 0x9E3779B97F4A7C15L + type.getSize();
+            key = key * 0x9E3779B97F4A7C15L + type.getCountFor(size);
+        }
+        return key ^ (key >>> 29);
+    }
+
+    /**
+     * @param directory Carpeta de los libros
+     * @param size Tamaño del tablero
+     * @return Archivo del libro para ese tamaño y la flota actual
+     */
+    public static Path fileFor(Path directory, int size) {
+        return directory.resolve("opening_" + size + "_" + Long.toHexString(fleetKey(size)) + ".book");
+    }
+
+    /**
+     * @return Tamaño del tablero del libro
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Huella de la flota con la que se generó
+     */
+    public long getFleetKey() {
+        return fleetKey;
+    }
+
+    /**
+     * @return Número de posiciones guardadas
+     */
+    public int getEntryCount() {
+        return entries;
+    }
+
+    /**
+     * @param key Clave observada del tablero
+     * @return Mejor celda para esa posición, o -1 si no está en el libro
+     */
+    public int bestShot(long key) {
+        int entry = find(key);
+        return entry < 0 ? -1 : buffer.getInt(recordsOffset + entry * recordBytes);
+    }
+
+    /**
+     * @param key Clave observada del tablero
+     * @param cell Índice de la celda
+     * @return Probabilidad de que haya un barco en la celda, o NaN si la posición no está en el libro
+     */
+    public double getProbability(long key, int cell) {
+        int entry = find(key);
+        if (entry < 0) return Double.NaN;
+        return buffer.getChar(recordsOffset + entry * recordBytes + Integer.BYTES + cell * Character.BYTES) / SCALE;
+    }
+
+    private int find(long key) {
+        int lo = 0;
+        int hi = entries - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long k = buffer.getLong(HEADER_BYTES + mid * Long.BYTES);
+            if (k < key) {
+                lo = mid + 1;
+            } else if (k > key) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Genera un libro y lo escribe de forma atómica (archivo temporal y renombrado).
+     * Se muestrean {@code samples} flotas con {@link FleetGenerator}; cada
+     * posición reparte las flotas consistentes según el resultado del disparo
+     * elegido, así que los mapas de calor de todas las posiciones salen del
+     * mismo muestreo sin descartar flotas.
+     *
+     * @param file Archivo destino
+     * @param size Tamaño del tablero
+     * @param plies Disparos de apertura cubiertos
+     * @param samples Flotas de muestra
+     * @param minSamples Flotas mínimas para guardar una posición
+     * @param seed Semilla del muestreo
+     * @throws IOException Si no se puede escribir
+     */
+    public static void generate(Path file, int size, int plies, int samples, int minSamples, long seed)
+            throws IOException {
+        Builder builder = new Builder(size, samples, minSamples, seed);
+        int[] all = new int[samples];
+        for (int i = 0; i < samples; i++) {
+            all[i] = i;
+        }
+        builder.expand(all, new int[0], plies);
+        builder.write(file);
+    }
+
+    /**
+     * Recorre el árbol de aperturas siguiendo el mejor disparo de cada posición.
+     */
+    private static final class Builder {
+        private final int size;
+        private final int cells;
+        private final int minSamples;
+        private final FleetGenerator generator;
+        private final PlacementTable table;
+        private final int ships;
+        private final int[] fleets;
+        private final List<long[]> keys = new ArrayList<>();
+        private final List<char[]> heats = new ArrayList<>();
+        private final List<Integer> best = new ArrayList<>();
+
+        Builder(int size, int samples, int minSamples, long seed) {
+            this.size = size;
+            this.cells = size * size;
+            this.minSamples = minSamples;
+            this.generator = new FleetGenerator(size);
+            this.table = generator.getPlacements();
+            this.ships = generator.getShipCount();
+            this.fleets = generator.generateBulk(seed, samples);
+        }
+
+        void expand(int[] subset, int[] shots, int pliesLeft) {
+            boolean[] shot = new boolean[cells];
+            for (int cell : shots) {
+                shot[cell] = true;
+            }
+
+            long[] counts = new long[cells];
+            for (int f : subset) {
+                for (int i = 0; i < ships; i++) {
+                    ShipType type = generator.getShipType(i);
+                    int id = fleets[f * ships + i];
+                    int cell = table.origin(type, id);
+                    int step = table.step(type, id);
+                    for (int s = 0; s < type.getSize(); s++, cell += step) {
+                        if (!shot[cell]) counts[cell]++;
+                    }
+                }
+            }
+
+            int target = -1;
+            char[] heat = new char[cells];
+            for (int cell = 0; cell < cells; cell++) {
+                heat[cell] = (char) Math.round(SCALE * counts[cell] / subset.length);
+                if (!shot[cell] && (target < 0 || counts[cell] > counts[target])) {
+                    target = cell;
+                }
+            }
+            if (target < 0) return;
+
+            keys.add(new long[]{observedKey(subset[0], shots), keys.size()});
+            heats.add(heat);
+            best.add(target);
+            if (pliesLeft <= 1) return;
+
+            int[] next = Arrays.copyOf(shots, shots.length + 1);
+            next[shots.length] = target;
+            for (int[] child : partition(subset, shot, target)) {
+                if (child.length >= minSamples) {
+                    expand(child, next, pliesLeft - 1);
+                }
+            }
+        }
+
+        /**
+         * Agrupa las flotas según lo que vería el tirador: agua, tocado o el
+         * barco exacto que se hunde.
+         */
+        private List<int[]> partition(int[] subset, boolean[] shot, int target) {
+            Map<Long, int[]> groups = new HashMap<>();
+            Map<Long, Integer> sizes = new HashMap<>();
+            long[] outcome = new long[subset.length];
+            for (int n = 0; n < subset.length; n++) {
+                outcome[n] = outcome(subset[n], shot, target);
+                sizes.merge(outcome[n], 1, Integer::sum);
+            }
+            Map<Long, Integer> filled = new HashMap<>();
+            for (int n = 0; n < subset.length; n++) {
+                int[] group = groups.computeIfAbsent(outcome[n], o -> new int[sizes.get(o)]);
+                group[filled.merge(outcome[n], 1, Integer::sum) - 1] = subset[n];
+            }
+            return new ArrayList<>(groups.values());
+        }
+
+        private long outcome(int f, boolean[] shot, int target) {
+            for (int i = 0; i < ships; i++) {
+                ShipType type = generator.getShipType(i);
+                int id = fleets[f * ships + i];
+                int cell = table.origin(type, id);
+                int step = table.step(type, id);
+                boolean covers = false;
+                boolean sunk = true;
+                for (int s = 0; s < type.getSize(); s++, cell += step) {
+                    if (cell == target) {
+                        covers = true;
+                    } else if (!shot[cell]) {
+                        sunk = false;
+                    }
+                }
+                if (!covers) continue;
+                if (!sunk) return -2L;
+                boolean vertical = type.getSize() > 1 && table.isVertical(type, id);
+                return ((long) type.ordinal() << 32) | ((long) table.origin(type, id) << 1) | (vertical ? 1 : 0);
+            }
+            return -1L;
+        }
+
+        /**
+         * Reproduce la posición sobre un tablero con una flota consistente;
+         * la clave observada no depende de cuál se use.
+         */
+        private long observedKey(int f, int[] shots) {
+            Board board = new Board(size);
+            try {
+                for (int i = 0; i < ships; i++) {
+                    ShipType type = generator.getShipType(i);
+                    int id = fleets[f * ships + i];
+                    board.placeShip(new Ship(type), table.row(type, id), table.col(type, id),
+                            table.isVertical(type, id));
+                }
+            } catch (InvalidPlacementException e) {
+                throw new IllegalStateException("Flota de muestra inválida", e);
+            }
+            for (int cell : shots) {
+                board.shootAt(cell / size, cell % size);
+            }
+            return board.getObservedKey();
+        }
+
+        void write(Path file) throws IOException {
+            keys.sort((a, b) -> Long.compare(a[0], b[0]));
+            List<long[]> unique = new ArrayList<>();
+            for (long[] entry : keys) {
+                if (unique.isEmpty() || unique.get(unique.size() - 1)[0] != entry[0]) {
+                    unique.add(entry);
+                }
+            }
+
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeInt(size);
+                    out.writeLong(fleetKey(size));
+                    out.writeInt(unique.size());
+                    for (long[] entry : unique) {
+                        out.writeLong(entry[0]);
+                    }
+                    for (long[] entry : unique) {
+                        int index = (int) entry[1];
+                        out.writeInt(best.get(index));
+                        for (char h : heats.get(index)) {
+                            out.writeChar(h);
+                        }
+                    }
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.ShotResult;
+
+import java.util.function.IntFunction;
+
+/**
+ * Envoltorio que juega los primeros disparos desde un {@link OpeningBook}
+ * y delega en otra estrategia cuando la posición no está en el libro.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class OpeningBookStrategy implements AiStrategy {
+    private final AiStrategy delegate;
+    private final IntFunction<OpeningBook> books;
+    private boolean fromBook;
+
+    /**
+     * Usa los libros compartidos de {@link OpeningBooks}.
+     *
+     * @param delegate Estrategia para el resto de la partida
+     */
+    public OpeningBookStrategy(AiStrategy delegate) {
+        this(delegate, OpeningBooks::get);
+    }
+
+    /**
+     * @param delegate Estrategia para el resto de la partida
+     * @param books Libro por tamaño de tablero (puede devolver null)
+     */
+    public OpeningBookStrategy(AiStrategy delegate, IntFunction<OpeningBook> books) {
+        this.delegate = delegate;
+        this.books = books;
+    }
+
+    /**
+     * @return true si la última jugada salió del libro
+     */
+    public boolean isLastShotFromBook() {
+        return fromBook;
+    }
+
+    @Override
+    public int decideShot(Board board) {
+        int size = board.getSize();
+        OpeningBook book = books.apply(size);
+        if (book != null && book.getSize() == size) {
+            int cell = book.bestShot(board.getObservedKey());
+            if (cell >= 0 && !board.wasShot(cell / size, cell % size)) {
+                fromBook = true;
+                return cell;
+            }
+        }
+        fromBook = false;
+        return delegate.decideShot(board);
+    }
+
+    @Override
+    public void onShotResult(Board board, int row, int col, ShotResult result) {
+        delegate.onShotResult(board, row, col, result);
+    }
+
+    @Override
+    public int getCandidateCount() {
+        return fromBook ? 1 : delegate.getCandidateCount();
+    }
+}
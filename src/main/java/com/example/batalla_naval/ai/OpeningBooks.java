@@ -0,0 +1,99 @@
+package com.example.batalla_naval.ai;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Libros de apertura por tamaño de tablero guardados en {@code saves/}.
+ * Un libro existente se abre con memoria mapeada la primera vez que se pide;
+ * si falta (por ejemplo para una flota nueva) se genera en un hilo de fondo
+ * y, mientras tanto, las consultas devuelven null para que la IA calcule
+ * sus jugadas como siempre.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class OpeningBooks {
+    private static final Path DIRECTORY = Path.of("saves");
+
+    /** Disparos de apertura cubiertos y calidad del muestreo */
+    private static final int PLIES = 8;
+    private static final int SAMPLES = 400_000;
+    private static final int MIN_SAMPLES = 2_000;
+    private static final long SEED = 0x5EEDB00CL;
+
+    /** Los libros de tableros más grandes ocuparían demasiado y casi no se reutilizan */
+    public static final int MAX_SIZE = 20;
+
+    private static final Map<Integer, OpeningBook> BOOKS = new ConcurrentHashMap<>();
+    private static final Set<Integer> PENDING = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService GENERATOR = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "opening-book");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private OpeningBooks() {
+    }
+
+    /**
+     * Devuelve el libro de un tamaño sin bloquear: lo abre si ya existe en
+     * disco o programa su generación si no.
+     *
+     * @param size Tamaño del tablero
+     * @return Libro listo, o null si aún no está disponible
+     */
+    public static OpeningBook get(int size) {
+        OpeningBook book = BOOKS.get(size);
+        if (book != null || size > MAX_SIZE || PENDING.contains(size)) {
+            return book;
+        }
+        return openOrSchedule(size);
+    }
+
+    /**
+     * Abre o programa el libro de un tamaño al arrancar el juego.
+     *
+     * @param size Tamaño del tablero
+     */
+    public static void preload(int size) {
+        get(size);
+    }
+
+    private static synchronized OpeningBook openOrSchedule(int size) {
+        OpeningBook book = BOOKS.get(size);
+        if (book != null || PENDING.contains(size)) {
+            return book;
+        }
+
+        Path file = OpeningBook.fileFor(DIRECTORY, size);
+        if (Files.exists(file)) {
+            try {
+                book = OpeningBook.open(file);
+                BOOKS.put(size, book);
+                return book;
+            } catch (IOException e) {
+                System.err.println("Libro de aperturas dañado, se regenera: " + e.getMessage());
+            }
+        }
+
+        PENDING.add(size);
+        GENERATOR.execute(() -> {
+            try {
+                OpeningBook.generate(file, size, PLIES, SAMPLES, MIN_SAMPLES, SEED);
+                BOOKS.put(size, OpeningBook.open(file));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("No se pudo generar el libro de aperturas: " + e.getMessage());
+            } finally {
+                PENDING.remove(size);
+            }
+        });
+        return null;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.PlacementTable;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Modelo aprendido de cómo colocan sus barcos los jugadores humanos: cuenta,
+ * por tipo de barco, cuántas veces se usó cada colocación (celda inicial y
+ * orientación) en las partidas terminadas. La IA lo usa como peso previo de
+ * cada colocación al construir su mapa de calor.
+ * Actualizarlo es sumar uno por barco y el archivo es un arreglo de enteros
+ * (unos pocos KB), así que se guarda al final de cada partida y se carga en
+ * milisegundos.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class PlacementPrior {
+    private static final int MAGIC = 0x424E5050;
+    private static final int VERSION = 1;
+    private static final ShipType[] TYPES = ShipType.values();
+
+    /** Peso de una colocación cuando el modelo no sabe nada de ella */
+    public static final int UNIFORM_WEIGHT = 16;
+    /** Cuenta ficticia por colocación; evita descartar las que aún no se vieron */
+    private static final double PSEUDO_COUNT = 1.0;
+    private static final int MAX_WEIGHT = UNIFORM_WEIGHT * 16;
+
+    private final int size;
+    private final PlacementTable table;
+    private final int[][] counts;
+    private int games;
+
+    /**
+     * Crea un modelo vacío (todas las colocaciones igual de probables).
+     *
+     * @param size Tamaño del tablero
+     */
+    public PlacementPrior(int size) {
+        this.size = size;
+        this.table = new PlacementTable(size);
+        this.counts = new int[TYPES.length][];
+        for (ShipType type : TYPES) {
+            counts[type.ordinal()] = new int[table.count(type)];
+        }
+    }
+
+    /**
+     * @param directory Carpeta de guardado
+     * @param size Tamaño del tablero
+     * @return Archivo del modelo para ese tamaño
+     */
+    public static Path fileFor(Path directory, int size) {
+        return directory.resolve("placement_prior_" + size + ".bin");
+    }
+
+    /**
+     * Carga un modelo, o crea uno vacío si el archivo no existe o no es válido.
+     *
+     * @param file Archivo del modelo
+     * @param size Tamaño del tablero esperado
+     * @return Modelo cargado o vacío
+     */
+    public static PlacementPrior loadOrEmpty(Path file, int size) {
+        try {
+            return load(file, size);
+        } catch (NoSuchFileException e) {
+            return new PlacementPrior(size);
+        } catch (IOException e) {
+            System.err.println("Modelo de colocaciones inválido, se empieza de cero: " + e.getMessage());
+            return new PlacementPrior(size);
+        }
+    }
+
+    /**
+     * @param file Archivo del modelo
+     * @param size Tamaño del tablero esperado
+     * @return Modelo cargado
+     * @throws IOException Si no se puede leer o no corresponde al tamaño
+     */
+    public static PlacementPrior load(Path file, int size) throws IOException {
+        PlacementPrior prior = new PlacementPrior(size);
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (in.remaining() != prior.byteSize() || in.getInt() != MAGIC || in.getInt() != VERSION
+                || in.getInt() != size) {
+            throw new IOException("El archivo no es un modelo de colocaciones de " + size + "x" + size);
+        }
+        prior.games = in.getInt();
+        for (int[] typeCounts : prior.counts) {
+            in.asIntBuffer().get(typeCounts);
+            in.position(in.position() + typeCounts.length * Integer.BYTES);
+        }
+        return prior;
+    }
+
+    private int byteSize() {
+        int ints = 4;
+        for (int[] typeCounts : counts) {
+            ints += typeCounts.length;
+        }
+        return ints * Integer.BYTES;
+    }
+
+    /**
+     * Guarda el modelo de forma atómica (archivo temporal y renombrado).
+     *
+     * @param file Archivo destino
+     * @throws IOException Si no se puede escribir
+     */
+    public synchronized void save(Path file) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(byteSize());
+        out.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(games);
+        for (int[] typeCounts : counts) {
+            for (int count : typeCounts) {
+                out.putInt(count);
+            }
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, out.array());
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Suma las colocaciones de un tablero colocado por una persona.
+     *
+     * @param board Tablero con la flota del jugador
+     */
+    public synchronized void record(Board board) {
+        if (board.getSize() != size) {
+            throw new IllegalArgumentException("Tablero de " + board.getSize() + " para un modelo de " + size);
+        }
+        for (Ship ship : board.getShips()) {
+            ShipType type = ship.getType();
+            int id = table.id(type, ship.getRow(), ship.getCol(), ship.isVertical() && type.getSize() > 1);
+            if (id >= 0) {
+                counts[type.ordinal()][id]++;
+            }
+        }
+        games++;
+    }
+
+    /**
+     * @return Tamaño del tablero del modelo
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Partidas registradas
+     */
+    public synchronized int getGames() {
+        return games;
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @param id Identificador de colocación ({@link PlacementTable})
+     * @return Veces que los jugadores usaron esa colocación
+     */
+    public synchronized int getCount(ShipType type, int id) {
+        return counts[type.ordinal()][id];
+    }
+
+    /**
+     * Peso entero de una colocación, proporcional a su frecuencia suavizada:
+     * {@link #UNIFORM_WEIGHT} si el modelo está vacío o la colocación es tan
+     * común como el promedio. Las fragatas verticales comparten el peso de
+     * la horizontal, porque ocupan la misma celda.
+     *
+     * @param type Tipo de barco
+     * @param id Identificador de colocación
+     * @return Peso entre 1 y {@code 16 * UNIFORM_WEIGHT}
+     */
+    public synchronized int weight(ShipType type, int id) {
+        int[] typeCounts = counts[type.ordinal()];
+        if (type.getSize() == 1 && id >= typeCounts.length / 2) {
+            id -= typeCounts.length / 2;
+        }
+        int placements = type.getSize() == 1 ? typeCounts.length / 2 : typeCounts.length;
+        int seen = games * type.getCountFor(size);
+        double ratio = placements * (typeCounts[id] + PSEUDO_COUNT) / (seen + PSEUDO_COUNT * placements);
+        return (int) Math.max(1, Math.min(MAX_WEIGHT, Math.round(UNIFORM_WEIGHT * ratio)));
+    }
+}
@@ -0,0 +1,369 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Cell;
+import com.example.batalla_naval.model.PlacementTable;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import com.example.batalla_naval.model.ShotResult;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Estrategia de densidad de probabilidad para la dificultad HARD.
+ * Mantiene, para cada celda, cuántas colocaciones de los barcos restantes
+ * son todavía posibles sobre ella (mapa de calor). Cada disparo fallido o
+ * barco hundido descarta solo las colocaciones que pasan por esas celdas,
+ * por lo que el mapa se actualiza de forma incremental.
+ * Con impactos pendientes la estrategia pasa a modo objetivo y puntúa las
+ * celdas vecinas según las colocaciones que cubren esos impactos.
+ * Opcionalmente comparte una {@link TranspositionCache} de decisiones por
+ * estado observado y flota; en ese caso los empates se resuelven con un hash del
+ * estado, de modo que la decisión guardada es la misma que se calcularía.
+ * Con un {@link PlacementPrior} cada colocación pesa según lo común que es
+ * entre los jugadores humanos en lugar de pesar todas lo mismo.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class ProbabilityDensityStrategy implements AiStrategy {
+    private static final ShipType[] TYPES = ShipType.values();
+
+    private final TranspositionCache<Integer> decisions;
+    private final PlacementPrior prior;
+    /** Sal para desempatar; es 0 cuando hay caché para que la decisión dependa solo del estado */
+    private final long tieSalt;
+
+    private Board board;
+    private int size;
+    private PlacementTable table;
+    private int processedShots;
+
+    /** Colocaciones aún posibles, por tipo de barco */
+    private boolean[][] valid;
+    /** Peso previo de cada colocación, por tipo; null si todas pesan 1 */
+    private int[][] placementWeight;
+    /** Peso de las colocaciones posibles que cubren cada celda, por tipo de barco */
+    private int[][] cover;
+    /** Barcos a flote por tipo; pondera las colocaciones de ese tipo */
+    private int[] weight;
+    /** Suma ponderada de colocaciones posibles por celda */
+    private long[] heat;
+
+    /** Copia local de las celdas disparadas, para no consultar el tablero en cada celda */
+    private boolean[] shot;
+
+    /** Impactos que aún no pertenecen a un barco hundido */
+    private int[] openHits;
+    private int openHitCount;
+
+    /** Puntajes del modo objetivo, reutilizados entre decisiones */
+    private long[] targetScore;
+
+    private int lastCandidates = -1;
+    private long stateKey;
+
+    /**
+     * Crea la estrategia con una semilla aleatoria.
+     */
+    public ProbabilityDensityStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Crea la estrategia con una fuente de aleatoriedad fija (para desempates).
+     *
+     * @param random Fuente de aleatoriedad
+     */
+    public ProbabilityDensityStrategy(SplittableRandom random) {
+        this(random, null);
+    }
+
+    /**
+     * Crea la estrategia compartiendo decisiones con otras instancias.
+     *
+     * @param random Fuente de aleatoriedad (solo se usa sin caché)
+     * @param decisions Caché de disparos por clave observada y flota, o null
+     */
+    public ProbabilityDensityStrategy(SplittableRandom random, TranspositionCache<Integer> decisions) {
+        this(random, decisions, null);
+    }
+
+    /**
+     * Crea la estrategia con un modelo de colocaciones humanas. Las
+     * decisiones dependen del modelo, así que no conviene compartir la caché
+     * con estrategias que no lo usan.
+     *
+     * @param random Fuente de aleatoriedad (solo se usa sin caché)
+     * @param decisions Caché de disparos por clave observada y flota, o null
+     * @param prior Modelo de colocaciones, o null para pesos uniformes
+     */
+    public ProbabilityDensityStrategy(SplittableRandom random, TranspositionCache<Integer> decisions,
+                                      PlacementPrior prior) {
+        this.decisions = decisions;
+        this.prior = prior;
+        this.tieSalt = decisions == null ? random.nextLong() : 0L;
+    }
+
+    @Override
+    public int decideShot(Board board) {
+        sync(board);
+        stateKey = TranspositionCache.keyOf(board);
+        if (decisions == null) {
+            return decide();
+        }
+
+        Integer cached = decisions.get(stateKey);
+        if (cached != null && !shot[cached]) {
+            return cached;
+        }
+        int cell = decide();
+        decisions.put(stateKey, cell);
+        return cell;
+    }
+
+    private int decide() {
+        return openHitCount > 0 ? bestTargetCell() : bestHuntCell();
+    }
+
+    @Override
+    public void onShotResult(Board board, int row, int col, ShotResult result) {
+        if (board != this.board || board.getShotCount() != processedShots + 1) {
+            rebuild(board);
+            return;
+        }
+        apply(row, col, result);
+        processedShots++;
+    }
+
+    @Override
+    public int getCandidateCount() {
+        return lastCandidates;
+    }
+
+    /**
+     * @param board Tablero objetivo
+     * @param row Fila
+     * @param col Columna
+     * @return Peso actual de la celda en el mapa de calor
+     */
+    public long getHeat(Board board, int row, int col) {
+        sync(board);
+        return heat[row * size + col];
+    }
+
+    private void sync(Board board) {
+        if (board != this.board || board.getShotCount() != processedShots) {
+            rebuild(board);
+        }
+    }
+
+    /**
+     * Reconstruye el estado completo a partir del tablero (al empezar o al cargar una partida).
+     */
+    private void rebuild(Board board) {
+        this.board = board;
+        this.size = board.getSize();
+        this.table = new PlacementTable(size);
+
+        int cells = size * size;
+        valid = new boolean[TYPES.length][];
+        cover = new int[TYPES.length][cells];
+        weight = new int[TYPES.length];
+        placementWeight = prior != null && prior.getSize() == size ? new int[TYPES.length][] : null;
+        heat = new long[cells];
+        shot = new boolean[cells];
+        openHits = new int[cells];
+        openHitCount = 0;
+        targetScore = new long[cells];
+
+        for (ShipType type : TYPES) {
+            int t = type.ordinal();
+            weight[t] = board.getRemainingShips(type);
+            int n = table.count(type);
+            valid[t] = new boolean[n];
+            if (placementWeight != null) {
+                placementWeight[t] = new int[n];
+                for (int id = 0; id < n; id++) {
+                    placementWeight[t][id] = prior.weight(type, id);
+                }
+            }
+            for (int id = 0; id < n; id++) {
+                valid[t][id] = true;
+                int p = placementWeight(t, id);
+                int cell = table.origin(type, id);
+                int step = table.step(type, id);
+                for (int s = 0; s < type.getSize(); s++, cell += step) {
+                    cover[t][cell] += p;
+                    heat[cell] += (long) weight[t] * p;
+                }
+            }
+        }
+
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (!board.wasShot(r, c)) continue;
+                shot[r * size + c] = true;
+                if (!board.wasHit(r, c)) {
+                    block(r * size + c);
+                } else if (board.getCell(r, c).getShip().isSunk()) {
+                    block(r * size + c);
+                } else {
+                    openHits[openHitCount++] = r * size + c;
+                }
+            }
+        }
+        processedShots = board.getShotCount();
+    }
+
+    private void apply(int row, int col, ShotResult result) {
+        int cell = row * size + col;
+        shot[cell] = true;
+        switch (result) {
+            case MISS -> block(cell);
+            case HIT -> openHits[openHitCount++] = cell;
+            case SUNK -> sink(board.getCell(row, col));
+        }
+    }
+
+    /**
+     * Retira un barco hundido: baja su peso y bloquea sus celdas.
+     */
+    private void sink(Cell cell) {
+        Ship ship = cell.getShip();
+        int t = ship.getType().ordinal();
+
+        weight[t]--;
+        for (int i = 0; i < heat.length; i++) {
+            heat[i] -= cover[t][i];
+        }
+
+        int step = ship.isVertical() ? size : 1;
+        int sunkCell = ship.getRow() * size + ship.getCol();
+        for (int s = 0; s < ship.getType().getSize(); s++, sunkCell += step) {
+            block(sunkCell);
+            removeOpenHit(sunkCell);
+        }
+    }
+
+    private void removeOpenHit(int cell) {
+        for (int i = 0; i < openHitCount; i++) {
+            if (openHits[i] == cell) {
+                openHits[i] = openHits[--openHitCount];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Descarta todas las colocaciones que pasan por una celda.
+     */
+    private void block(int cell) {
+        int r = cell / size;
+        int c = cell % size;
+        for (ShipType type : TYPES) {
+            for (int k = 0; k < type.getSize(); k++) {
+                invalidate(type, table.id(type, r, c - k, false));
+                invalidate(type, table.id(type, r - k, c, true));
+            }
+        }
+    }
+
+    private void invalidate(ShipType type, int id) {
+        int t = type.ordinal();
+        if (id < 0 || !valid[t][id]) return;
+
+        valid[t][id] = false;
+        int p = placementWeight(t, id);
+        int cell = table.origin(type, id);
+        int step = table.step(type, id);
+        for (int s = 0; s < type.getSize(); s++, cell += step) {
+            cover[t][cell] -= p;
+            heat[cell] -= (long) weight[t] * p;
+        }
+    }
+
+    private int placementWeight(int t, int id) {
+        return placementWeight == null ? 1 : placementWeight[t][id];
+    }
+
+    /**
+     * Modo caza: la celda sin disparar con mayor peso en el mapa de calor.
+     */
+    private int bestHuntCell() {
+        return argmax(heat);
+    }
+
+    /**
+     * Modo objetivo: puntúa las celdas libres de las colocaciones posibles
+     * que pasan por los impactos pendientes.
+     */
+    private int bestTargetCell() {
+        Arrays.fill(targetScore, 0L);
+
+        for (int h = 0; h < openHitCount; h++) {
+            int r = openHits[h] / size;
+            int c = openHits[h] % size;
+            for (ShipType type : TYPES) {
+                int w = weight[type.ordinal()];
+                if (w == 0) continue;
+                for (int k = 0; k < type.getSize(); k++) {
+                    scoreTarget(type, table.id(type, r, c - k, false), w);
+                    scoreTarget(type, table.id(type, r - k, c, true), w);
+                }
+            }
+        }
+
+        int best = argmax(targetScore);
+        return targetScore[best] > 0 ? best : bestHuntCell();
+    }
+
+    private void scoreTarget(ShipType type, int id, int w) {
+        if (id < 0 || !valid[type.ordinal()][id]) return;
+
+        long score = (long) w * placementWeight(type.ordinal(), id);
+        int cell = table.origin(type, id);
+        int step = table.step(type, id);
+        for (int s = 0; s < type.getSize(); s++, cell += step) {
+            if (!shot[cell]) {
+                targetScore[cell] += score;
+            }
+        }
+    }
+
+    /**
+     * Celda sin disparar con el mayor puntaje; los empates se resuelven con un
+     * hash de la celda y el estado, que es pseudoaleatorio pero reproducible.
+     */
+    private int argmax(long[] score) {
+        int best = -1;
+        long bestScore = Long.MIN_VALUE;
+        long bestTie = 0;
+        lastCandidates = 0;
+        for (int cell = 0; cell < score.length; cell++) {
+            if (shot[cell]) continue;
+            long s = score[cell];
+            if (s > 0) lastCandidates++;
+            if (s > bestScore) {
+                best = cell;
+                bestScore = s;
+                bestTie = tieBreak(cell);
+            } else if (s == bestScore) {
+                long tie = tieBreak(cell);
+                if (tie < bestTie) {
+                    best = cell;
+                    bestTie = tie;
+                }
+            }
+        }
+        return best;
+    }
+
+    private long tieBreak(int cell) {
+        long z = tieSalt ^ stateKey ^ (cell * 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
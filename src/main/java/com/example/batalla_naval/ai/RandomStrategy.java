@@ -0,0 +1,86 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.ShotResult;
+
+import java.util.SplittableRandom;
+
+/**
+ * Estrategia que dispara al azar entre las celdas sin disparar.
+ * Opcionalmente prefiere una retícula en damero ({@code (fila + columna) % 2}),
+ * que basta para encontrar cualquier barco de dos o más celdas; cuando la
+ * retícula se agota dispara a cualquier celda libre.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class RandomStrategy implements AiStrategy {
+    private final SplittableRandom random;
+    private final boolean parity;
+
+    private Board board;
+    private CandidateCells candidates;
+    private int processedShots;
+    private int parityResidue;
+    private int lastCandidates = -1;
+
+    /**
+     * Crea la estrategia completamente aleatoria con una semilla aleatoria.
+     */
+    public RandomStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Crea la estrategia completamente aleatoria.
+     *
+     * @param random Fuente de aleatoriedad
+     */
+    public RandomStrategy(SplittableRandom random) {
+        this(random, false);
+    }
+
+    /**
+     * @param random Fuente de aleatoriedad
+     * @param parity true para preferir las celdas de una clase del damero
+     */
+    public RandomStrategy(SplittableRandom random, boolean parity) {
+        this.random = random;
+        this.parity = parity;
+    }
+
+    @Override
+    public int decideShot(Board board) {
+        sync(board);
+        if (parity && candidates.size(2, parityResidue) > 0) {
+            lastCandidates = candidates.size(2, parityResidue);
+            return candidates.pick(random, 2, parityResidue);
+        }
+        lastCandidates = candidates.size();
+        return candidates.pick(random);
+    }
+
+    @Override
+    public int getCandidateCount() {
+        return lastCandidates;
+    }
+
+    @Override
+    public void onShotResult(Board board, int row, int col, ShotResult result) {
+        if (board != this.board || board.getShotCount() != processedShots + 1) {
+            sync(board);
+            return;
+        }
+        candidates.remove(row * board.getSize() + col);
+        processedShots++;
+    }
+
+    private void sync(Board board) {
+        if (board != this.board || board.getShotCount() != processedShots) {
+            this.board = board;
+            this.candidates = new CandidateCells(board, 2);
+            this.processedShots = board.getShotCount();
+            this.parityResidue = random.nextInt(2);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.batalla_naval.ai;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché acotada de análisis de la IA indexada por la clave Zobrist observada
+ * de un tablero ({@link Board#getObservedKey()}) combinada con su flota
+ * (ver {@link #keyOf(Board)}).
+ * Está dividida en segmentos con su propio candado para que varios hilos de
+ * simulación la compartan, y cada segmento desaloja con el algoritmo CLOCK
+ * (segunda oportunidad), que se aproxima a LRU sin mover entradas en cada lectura.
+ * Las claves se guardan en arreglos primitivos, así que consultar no crea objetos.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ *
+ * @param <V> Tipo del valor guardado (mapa de calor, disparo elegido, etc.)
+ */
+public class TranspositionCache<V> {
+    private final Segment<V>[] segments;
+    private final int segmentMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity Número máximo aproximado de entradas
+     */
+    @SuppressWarnings("unchecked")
+    public TranspositionCache(int capacity) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(16, capacity / 64)));
+        segments = (Segment<V>[]) new Segment<?>[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(Math.max(1, capacity / count));
+        }
+        segmentMask = count - 1;
+    }
+
+    /**
+     * Clave de caché de un tablero: la clave observada mezclada con cuántos
+     * barcos de cada tipo se colocaron al empezar. La clave observada no
+     * cambia con los barcos ocultos, así que sin la flota dos partidas con
+     * flotas distintas compartirían análisis que no sirven para la otra.
+     *
+     * @param board Tablero objetivo
+     * @return Clave de 64 bits
+     */
+    public static long keyOf(Board board) {
+        int[] fleet = new int[ShipType.values().length];
+        for (Ship ship : board.getShips()) {
+            fleet[ship.getType().ordinal()]++;
+        }
+        long key = board.getObservedKey();
+        for (int t = 0; t < fleet.length; t++) {
+            key ^= mix(((long) t << 32) | fleet[t]);
+        }
+        return key;
+    }
+
+    private static long mix(long z) {
+        z = (z + 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private Segment<V> segmentFor(long key) {
+        return segments[(int) (key >>> 59) & segmentMask];
+    }
+
+    /**
+     * @param key Clave Zobrist
+     * @return Valor guardado, o null si no está
+     */
+    public V get(long key) {
+        V value = segmentFor(key).get(key);
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+
+    /**
+     * Guarda o reemplaza un valor, desalojando otro si el segmento está lleno.
+     *
+     * @param key Clave Zobrist
+     * @param value Valor a guardar
+     */
+    public void put(long key, V value) {
+        segmentFor(key).put(key, value);
+    }
+
+    /**
+     * @return Número de entradas guardadas
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return Consultas que encontraron un valor
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Consultas que no encontraron un valor
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Segmento con capacidad fija. Las entradas viven en ranuras; un índice
+     * de direccionamiento abierto traduce clave a ranura.
+     */
+    private static final class Segment<V> {
+        private final long[] slotKeys;
+        private final Object[] slotValues;
+        private final boolean[] referenced;
+        private int used;
+        private int hand;
+
+        /** Índice: clave y ranura (-1 = libre), sondeo lineal */
+        private final long[] indexKeys;
+        private final int[] indexSlots;
+        private final int indexMask;
+
+        Segment(int capacity) {
+            slotKeys = new long[capacity];
+            slotValues = new Object[capacity];
+            referenced = new boolean[capacity];
+
+            int indexSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+            indexKeys = new long[indexSize];
+            indexSlots = new int[indexSize];
+            Arrays.fill(indexSlots, -1);
+            indexMask = indexSize - 1;
+        }
+
+        synchronized int size() {
+            return used;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V get(long key) {
+            int i = find(key);
+            if (i < 0) return null;
+            int slot = indexSlots[i];
+            referenced[slot] = true;
+            return (V) slotValues[slot];
+        }
+
+        synchronized void put(long key, V value) {
+            int i = find(key);
+            if (i >= 0) {
+                int slot = indexSlots[i];
+                slotValues[slot] = value;
+                referenced[slot] = true;
+                return;
+            }
+
+            int slot;
+            if (used < slotKeys.length) {
+                slot = used++;
+            } else {
+                slot = evict();
+            }
+            slotKeys[slot] = key;
+            slotValues[slot] = value;
+            referenced[slot] = false;
+            insert(key, slot);
+        }
+
+        /**
+         * Avanza la manecilla dando una segunda oportunidad a las ranuras
+         * referenciadas y libera la primera que no lo esté.
+         */
+        private int evict() {
+            while (referenced[hand]) {
+                referenced[hand] = false;
+                hand = (hand + 1) % slotKeys.length;
+            }
+            int victim = hand;
+            hand = (hand + 1) % slotKeys.length;
+            remove(slotKeys[victim]);
+            slotValues[victim] = null;
+            return victim;
+        }
+
+        private static int spread(long key) {
+            return (int) (key ^ (key >>> 32));
+        }
+
+        private int find(long key) {
+            for (int i = spread(key) & indexMask; ; i = (i + 1) & indexMask) {
+                if (indexSlots[i] < 0) return -1;
+                if (indexKeys[i] == key) return i;
+            }
+        }
+
+        private void insert(long key, int slot) {
+            int i = spread(key) & indexMask;
+            while (indexSlots[i] >= 0) {
+                i = (i + 1) & indexMask;
+            }
+            indexKeys[i] = key;
+            indexSlots[i] = slot;
+        }
+
+        /**
+         * Borra una clave del índice desplazando hacia atrás las entradas
+         * siguientes para no dejar huecos en las cadenas de sondeo.
+         */
+        private void remove(long key) {
+            int i = find(key);
+            if (i < 0) return;
+
+            int j = i;
+            while (true) {
+                j = (j + 1) & indexMask;
+                if (indexSlots[j] < 0) break;
+                int home = spread(indexKeys[j]) & indexMask;
+                boolean movable = (j > i) ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    indexKeys[i] = indexKeys[j];
+                    indexSlots[i] = indexSlots[j];
+                    i = j;
+                }
+            }
+            indexSlots[i] = -1;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.batalla_naval.controller;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capa de ritmo de la IA: separa cuándo se calcula una jugada de cuándo se
+ * muestra. El controlador calcula y aplica los disparos de inmediato y le
+ * entrega a esta clase los avisos para la vista; aquí se liberan en orden,
+ * uno por cada intervalo configurado, desde un hilo programado.
+ * Los plazos se cuentan desde el inicio del turno y no desde que termina el
+ * cálculo, así que una jugada lenta se solapa con la pausa en lugar de
+ * sumarse a ella. Con intervalo cero los avisos salen sin espera (modo
+ * rápido o sin interfaz).
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class AiPacer {
+    private final ScheduledExecutorService scheduler;
+    /** Si el temporizador es propio y se detiene con {@link #shutdown()} */
+    private final boolean ownsScheduler;
+    private volatile boolean stopped;
+
+    private volatile long cadenceNanos;
+    /** Momento (System.nanoTime) en que sale el último aviso programado */
+    private long lastDue = System.nanoTime();
+    /** Último grupo programado; los avisos con su mismo plazo se suman a él */
+    private Due tail;
+
+    /**
+     * @param cadence Tiempo entre disparos mostrados; puede ser cero
+     */
+    public AiPacer(Duration cadence) {
+        this(cadence, Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "ai-pacer");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Crea una capa de ritmo sobre un temporizador compartido con otras
+     * partidas; {@link #shutdown()} descarta sus avisos pero no lo detiene.
+     *
+     * @param cadence Tiempo entre disparos mostrados; puede ser cero
+     * @param scheduler Temporizador compartido
+     */
+    public AiPacer(Duration cadence, ScheduledExecutorService scheduler) {
+        this(cadence, scheduler, false);
+    }
+
+    private AiPacer(Duration cadence, ScheduledExecutorService scheduler, boolean ownsScheduler) {
+        this.scheduler = scheduler;
+        this.ownsScheduler = ownsScheduler;
+        setCadence(cadence);
+    }
+
+    /**
+     * @param cadence Tiempo entre disparos mostrados; puede ser cero
+     */
+    public void setCadence(Duration cadence) {
+        if (cadence.isNegative()) {
+            throw new IllegalArgumentException("El intervalo no puede ser negativo: " + cadence);
+        }
+        this.cadenceNanos = cadence.toNanos();
+    }
+
+    /**
+     * @return Tiempo entre disparos mostrados
+     */
+    public Duration getCadence() {
+        return Duration.ofNanos(cadenceNanos);
+    }
+
+    /**
+     * Marca el inicio de un turno: el primer aviso pautado sale un intervalo
+     * después de ahora (o del último aviso pendiente, si aún no salió).
+     */
+    public synchronized void beginTurn() {
+        lastDue = Math.max(System.nanoTime(), lastDue);
+    }
+
+    /**
+     * Programa un aviso un intervalo después del anterior.
+     *
+     * @param event Aviso para la vista
+     */
+    public synchronized void pace(Runnable event) {
+        schedule(event, Math.max(System.nanoTime(), lastDue + cadenceNanos));
+    }
+
+    /**
+     * Programa un aviso justo después del anterior, sin intervalo extra
+     * (por ejemplo el fin del turno tras el último disparo).
+     *
+     * @param event Aviso para la vista
+     */
+    public synchronized void then(Runnable event) {
+        schedule(event, Math.max(System.nanoTime(), lastDue));
+    }
+
+    /**
+     * Los avisos con el mismo plazo van en una sola tarea: dos tareas con
+     * igual plazo podrían salir en cualquier orden, porque cada demora se
+     * calcula con una lectura distinta del reloj.
+     */
+    private void schedule(Runnable event, long due) {
+        lastDue = due;
+        if (stopped || scheduler.isShutdown()) {
+            return;
+        }
+        if (tail != null && tail.due == due && !tail.started) {
+            tail.events.add(event);
+            return;
+        }
+        tail = new Due(due, event);
+        scheduler.schedule(tail, due - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Avisos que salen en el mismo momento, en el orden en que se pidieron.
+     */
+    private final class Due implements Runnable {
+        private final long due;
+        private final List<Runnable> events = new ArrayList<>();
+        /** Protegido por el candado del AiPacer; una vez iniciado no se agregan avisos */
+        private boolean started;
+
+        Due(long due, Runnable event) {
+            this.due = due;
+            events.add(event);
+        }
+
+        @Override
+        public void run() {
+            synchronized (AiPacer.this) {
+                started = true;
+            }
+            for (Runnable event : events) {
+                if (stopped) {
+                    return;
+                }
+                try {
+                    event.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error al mostrar un disparo de la IA: " + e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Descarta los avisos pendientes y, si el temporizador es propio, detiene el hilo.
+     */
+    public void shutdown() {
+        stopped = true;
+        if (ownsScheduler) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -1,20 +1,39 @@
 package com.example.batalla_naval.controller;
 
+import com.example.batalla_naval.ai.AiMetrics;
+import com.example.batalla_naval.ai.AiStrategies;
+import com.example.batalla_naval.ai.AiStrategy;
+import com.example.batalla_naval.ai.AiStrategyProvider;
+import com.example.batalla_naval.ai.EndgameSolver;
+import com.example.batalla_naval.ai.EndgameStrategy;
+import com.example.batalla_naval.ai.InstrumentedStrategy;
+import com.example.batalla_naval.ai.MonteCarloStrategy;
+import com.example.batalla_naval.ai.OpeningBookStrategy;
+import com.example.batalla_naval.ai.PlacementPrior;
 import com.example.batalla_naval.exceptions.InvalidPlacementException;
 import com.example.batalla_naval.model.*;
+import com.example.batalla_naval.persistence.AutoSaver;
+import com.example.batalla_naval.persistence.GameLog;
 import com.example.batalla_naval.persistence.PlayerRecord;
 import com.example.batalla_naval.persistence.SaveManager;
+import com.example.batalla_naval.persistence.SaveSlots;
+import com.example.batalla_naval.persistence.SlotInfo;
 import com.example.batalla_naval.view.TurnListener;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Random;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Controlador principal del juego.
- * Maneja la lógica del juego, turnos, fases, IA y guardado.
+ * Adapta el {@link GameEngine}, que tiene las reglas, a la aplicación: corre
+ * la IA en su hilo, marca el ritmo de sus disparos, guarda la partida y
+ * avisa a la vista.
  * Autores: Jairo Andres &  Juan Sebastian Tapia
  * Version: 1.0
  * Fecha: 2025
@@ -25,15 +44,35 @@ public class GameController {
        CONSTANTES Y CONFIGURACIÓN
        ========================= */
 
-    private static final Path SAVE_FILE = Path.of("saves/game_state.ser");
+    private static final Path SAVE_FILE = SaveManager.directory().resolve("game_state.ser");
+
+    /** Eventos de la bitácora entre dos puntos de control completos */
+    private static final int CHECKPOINT_INTERVAL = 32;
+
+    /** Intervalo por defecto entre disparos de la IA mostrados en la vista */
+    private static final Duration AI_SHOT_DELAY = Duration.ofMillis(700);
+
+    /** Configuraciones posibles por debajo de las cuales la IA difícil resuelve el final exactamente */
+    private static final int ENDGAME_MAX_CONFIGURATIONS = 64;
+
+    /** Tiempo máximo del solucionador exacto por disparo; cabe dentro de la pausa de la IA */
+    private static final Duration ENDGAME_TIME_LIMIT = Duration.ofMillis(300);
+
+    /** Partidas registradas a partir de las cuales el modelo de colocaciones reemplaza al libro de aperturas */
+    private static final int PRIOR_MIN_GAMES = 5;
 
     /* =========================
        ESTADO DEL JUEGO
        ========================= */
 
-    private Board playerBoard;
-    private Board enemyBoard;
-    private GamePhase phase = GamePhase.SETUP;
+    private final GameEngine engine;
+    private final Board playerBoard;
+    private final Board enemyBoard;
+    /**
+     * Fase que ve la vista. Sigue a la del motor salvo al final del turno
+     * enemigo, cuando espera a que se terminen de mostrar sus disparos.
+     */
+    private volatile GamePhase phase = GamePhase.SETUP;
 
     private String playerNickname = "Jugador";
     private Difficulty difficulty = Difficulty.EASY;
@@ -42,8 +81,19 @@ public class GameController {
        IA
        ========================= */
 
-    public final ExecutorService aiExecutor = Executors.newSingleThreadExecutor();
-    private final Random random = new Random();
+    /** Ejecutor en serie de esta partida, prestado del {@link GameSessionHost} */
+    public final ExecutorService aiExecutor;
+    private final AiPacer aiPacer;
+    private AiMetrics aiMetrics = AiMetrics.NONE;
+    private EndgameSolver endgameSolver = new EndgameSolver(ENDGAME_MAX_CONFIGURATIONS, ENDGAME_TIME_LIMIT);
+    /** Modelo de cómo coloca sus barcos el jugador; se carga al elegir la dificultad difícil */
+    private volatile PlacementPrior placementPrior;
+    private volatile AiStrategy aiStrategy = createStrategy(difficulty);
+
+    /** Primera jugada del próximo turno enemigo, calculada durante el turno del jugador */
+    private volatile Speculation speculation;
+    private final LongAdder speculationsUsed = new LongAdder();
+    private final LongAdder speculationsDiscarded = new LongAdder();
 
     /* =========================
        LISTENERS
@@ -51,13 +101,71 @@ public class GameController {
 
     private TurnListener turnListener;
 
+    /* =========================
+       GUARDADO DIFERIDO
+       ========================= */
+
+    private final AutoSaver autoSaver;
+    private final GameLog gameLog;
+    /** Ranura donde se guarda la partida, o null para usar {@link #SAVE_FILE} */
+    private final SaveSlots saveSlots;
+    private final int slotId;
+    /** Solo los usa {@link #persist()}, que el {@link AutoSaver} nunca corre en paralelo */
+    private int lastRecordedSunk = -1;
+    private boolean placementsRecorded;
+
     /**
-     * Crea un nuevo controlador del juego.
+     * Crea un nuevo controlador del juego en el anfitrión compartido de la aplicación.
      *
      * @param playerBoard tablero del jugador
      * @param enemyBoard tablero del enemigo
      */
     public GameController(Board playerBoard, Board enemyBoard) {
+        this(playerBoard, enemyBoard, GameSessionHost.getDefault());
+    }
+
+    /**
+     * Crea un controlador cuya IA corre en los hilos de un anfitrión de partidas.
+     *
+     * @param playerBoard tablero del jugador
+     * @param enemyBoard tablero del enemigo
+     * @param host anfitrión que presta los hilos
+     */
+    public GameController(Board playerBoard, Board enemyBoard, GameSessionHost host) {
+        this(playerBoard, enemyBoard, host, null, null);
+    }
+
+    /**
+     * Crea un controlador que guarda la partida en una ranura.
+     *
+     * @param playerBoard tablero del jugador
+     * @param enemyBoard tablero del enemigo
+     * @param saveSlots ranuras de guardado
+     * @param slot ranura de esta partida
+     */
+    public GameController(Board playerBoard, Board enemyBoard, SaveSlots saveSlots, SlotInfo slot) {
+        this(playerBoard, enemyBoard, GameSessionHost.getDefault(), saveSlots, slot);
+    }
+
+    /**
+     * Crea un controlador en un anfitrión de partidas que guarda en una ranura.
+     *
+     * @param playerBoard tablero del jugador
+     * @param enemyBoard tablero del enemigo
+     * @param host anfitrión que presta los hilos
+     * @param saveSlots ranuras de guardado, o null para usar el guardado único
+     * @param slot ranura de esta partida (ignorada si no hay ranuras)
+     */
+    public GameController(Board playerBoard, Board enemyBoard, GameSessionHost host,
+                          SaveSlots saveSlots, SlotInfo slot) {
+        this.saveSlots = saveSlots;
+        this.slotId = saveSlots == null ? 0 : slot.getId();
+        this.gameLog = new GameLog(saveSlots == null ? SAVE_FILE : saveSlots.checkpointOf(slotId),
+                CHECKPOINT_INTERVAL);
+        this.aiExecutor = host.openSession();
+        this.aiPacer = new AiPacer(AI_SHOT_DELAY, host.getTimer());
+        this.autoSaver = new AutoSaver(host.getIoExecutor(), this::persist);
+        this.engine = new GameEngine(playerBoard, enemyBoard);
         this.playerBoard = playerBoard;
         this.enemyBoard = enemyBoard;
     }
@@ -82,6 +190,76 @@ public class GameController {
      */
     public void setDifficulty(Difficulty difficulty) {
         this.difficulty = difficulty;
+        replaceStrategy(createStrategy(difficulty));
+    }
+
+    /**
+     * Continúa una partida cargada con su identificador, para que su
+     * bitácora se siga usando. Va antes de la primera jugada.
+     *
+     * @param gameId identificador del estado cargado
+     */
+    public void setGameId(long gameId) {
+        gameLog.setGameId(gameId);
+    }
+
+    /**
+     * Asigna el destino de la telemetría de la IA y recrea la estrategia
+     * actual para que reporte sus decisiones ahí.
+     *
+     * @param metrics gancho de métricas
+     */
+    public void setAiMetrics(AiMetrics metrics) {
+        this.aiMetrics = metrics;
+        replaceStrategy(createStrategy(difficulty));
+    }
+
+    /**
+     * Cambia el solucionador exacto del final que usa la dificultad difícil
+     * (por ejemplo con otro umbral de configuraciones o límite de tiempo).
+     *
+     * @param solver solucionador, o null para desactivarlo
+     */
+    public void setEndgameSolver(EndgameSolver solver) {
+        this.endgameSolver = solver;
+        replaceStrategy(createStrategy(difficulty));
+    }
+
+    /**
+     * Reemplaza la estrategia de la IA elegida por la dificultad, por
+     * ejemplo por una {@link MonteCarloStrategy} con presupuesto de tiempo.
+     *
+     * @param strategy estrategia a usar en los turnos del enemigo
+     */
+    public void setAiStrategy(AiStrategy strategy) {
+        replaceStrategy(strategy);
+    }
+
+    /**
+     * Cambia la estrategia descartando la jugada especulativa de la anterior
+     * y, si es el turno del jugador, vuelve a especular con la nueva.
+     */
+    private void replaceStrategy(AiStrategy strategy) {
+        this.aiStrategy = strategy;
+        if (speculation != null) {
+            speculation = null;
+            speculationsDiscarded.increment();
+            aiMetrics.onSpeculation(false);
+        }
+        if (phase == GamePhase.PLAYER_TURN) {
+            speculate();
+        }
+    }
+
+    /**
+     * Cambia el ritmo con el que se muestran los disparos de la IA. No afecta
+     * al cálculo, que ocurre de inmediato; con {@link Duration#ZERO} el turno
+     * enemigo se muestra sin pausas (modo rápido o sin interfaz).
+     *
+     * @param delay intervalo entre disparos mostrados
+     */
+    public void setAiShotDelay(Duration delay) {
+        aiPacer.setCadence(delay);
     }
 
     /**
@@ -105,20 +283,69 @@ public class GameController {
         return phase;
     }
 
-    public void setPhase(GamePhase phase) {
+    /**
+     * Indica si la partida terminó, ya sea por fase o porque alguno de los
+     * tableros perdió todos sus barcos. Es de tiempo constante.
+     *
+     * @return true si el juego terminó
+     */
+    public boolean isGameOver() {
+        return phase == GamePhase.GAME_OVER
+                || playerBoard.allShipsSunk()
+                || enemyBoard.allShipsSunk();
+    }
+
+    public synchronized void setPhase(GamePhase phase) {
+        engine.setPhase(phase);
         this.phase = phase;
+        if (phase == GamePhase.PLAYER_TURN) {
+            speculate();
+        }
+    }
+
+    /**
+     * @return Turnos enemigos que empezaron con la jugada especulativa ya lista
+     */
+    public long getSpeculationsUsed() {
+        return speculationsUsed.sum();
+    }
+
+    /**
+     * @return Jugadas especulativas calculadas que no sirvieron (cambió el tablero o la estrategia)
+     */
+    public long getSpeculationsDiscarded() {
+        return speculationsDiscarded.sum();
     }
 
     /**
      * Inicia la partida después de la fase de colocación.
      */
-    public void startGame() {
-        placeEnemyShipsRandomly();
-        phase = GamePhase.PLAYER_TURN;
-        saveGameSafe();
+    public synchronized void startGame() {
+        phase = engine.start(new SplittableRandom());
+        for (Ship ship : enemyBoard.getShips()) {
+            gameLog.placed(true, ship);
+        }
+        gameLog.started();
+        speculate();
+        autoSave();
         notifyTurnFinished();
     }
 
+    /**
+     * Coloca un barco del jugador durante la fase de colocación.
+     *
+     * @param ship barco a colocar
+     * @param row fila inicial
+     * @param col columna inicial
+     * @param vertical orientación
+     * @throws InvalidPlacementException si el barco no cabe ahí
+     */
+    public synchronized void placePlayerShip(Ship ship, int row, int col, boolean vertical)
+            throws InvalidPlacementException {
+        engine.place(ship, row, col, vertical);
+        gameLog.placed(false, ship);
+    }
+
     /* =========================
        DISPARO DEL JUGADOR
        ========================= */
@@ -136,23 +363,19 @@ public class GameController {
             throw new IllegalStateException("No es el turno del jugador");
         }
 
-        ShotResult result = enemyBoard.shootAt(row, col);
-        System.out.println("Jugador disparó: " + result);
-
-        if (enemyBoard.allShipsSunk()) {
+        GameEngine.Outcome outcome = engine.playerShoots(row, col);
+        gameLog.shot(true, row, col);
+        if (outcome.isGameOver()) {
             endGame(true);
-            return result;
+            return outcome.getResult();
         }
 
-        if (result == ShotResult.MISS) {
-            phase = GamePhase.ENEMY_TURN;
-            autoSave();
+        phase = outcome.getPhase();
+        autoSave();
+        if (phase == GamePhase.ENEMY_TURN) {
             aiExecutor.submit(this::aiPlay);
-        } else {
-            autoSave();
         }
-
-        return result;
+        return outcome.getResult();
     }
 
     /* =========================
@@ -160,46 +383,104 @@ public class GameController {
        ========================= */
 
     /**
-     * Ejecuta el turno de la IA según la dificultad.
+     * Ejecuta el turno de la IA según la dificultad. Los disparos se calculan
+     * y aplican de inmediato; el {@link AiPacer} los muestra a su ritmo y
+     * devuelve el turno al jugador después del último.
      */
     private void aiPlay() {
-        try {
-            boolean aiContinues = true;
-
-            while (aiContinues && phase == GamePhase.ENEMY_TURN) {
+        aiPacer.beginTurn();
 
-                Thread.sleep(700);
+        int[] speculative = takeSpeculation();
+        while (enginePhase() == GamePhase.ENEMY_TURN && !Thread.currentThread().isInterrupted()) {
 
-                int[] shot = decideAiShot();
-                int r = shot[0];
-                int c = shot[1];
+            int[] shot = speculative != null ? speculative : decideAiShot();
+            speculative = null;
+            int r = shot[0];
+            int c = shot[1];
 
-                ShotResult result = playerBoard.shootAt(r, c);
-                autoSave();
+            GameEngine.Outcome outcome;
+            synchronized (this) {
+                outcome = engine.enemyShoots(r, c);
+                gameLog.shot(false, r, c);
+            }
+            ShotResult result = outcome.getResult();
+            aiStrategy.onShotResult(playerBoard, r, c, result);
+            autoSave();
 
+            aiPacer.pace(() -> {
                 if (turnListener != null) {
                     turnListener.onEnemyShot(r, c, result);
                 }
+            });
 
-                if (playerBoard.allShipsSunk()) {
-                    endGame(false);
-                    return;
-                }
+            if (outcome.isGameOver()) {
+                endGame(false);
+                return;
+            }
+        }
 
-                // 🔑 regla clave
-                if (result == ShotResult.MISS) {
-                    aiContinues = false;
-                }
+        aiPacer.then(() -> {
+            if (phase != GamePhase.ENEMY_TURN) {
+                return;
             }
+            phase = GamePhase.PLAYER_TURN;
+            speculate();
+            autoSave();
+            notifyTurnFinished();
+        });
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    /**
+     * Programa en el hilo de la IA el cálculo de su próxima jugada mientras
+     * piensa el jugador. Su tablero no cambia durante ese turno, así que la
+     * decisión sigue siendo válida cuando empiece el turno enemigo; si aun
+     * así cambió algo, {@link #takeSpeculation()} la descarta.
+     */
+    private void speculate() {
+        if (playerBoard == null || aiExecutor.isShutdown()) {
             return;
         }
+        AiStrategy strategy = aiStrategy;
+        try {
+            aiExecutor.execute(() -> {
+                if (phase != GamePhase.PLAYER_TURN || strategy != aiStrategy || playerBoard.allShipsSunk()) {
+                    return;
+                }
+                long key = playerBoard.getZobristKey();
+                int shots = playerBoard.getShotCount();
+                int cell = strategy.decideShot(playerBoard);
+                speculation = new Speculation(strategy, shots, key, cell);
+            });
+        } catch (RejectedExecutionException e) {
+            // El controlador se está cerrando; no hace falta especular.
+        }
+    }
 
-        phase = GamePhase.PLAYER_TURN;
-        saveGameSafe();
-        notifyTurnFinished();
+    /**
+     * Recupera la jugada especulativa si sigue siendo válida para la
+     * estrategia y el tablero actuales.
+     *
+     * @return arreglo {fila, columna}, o null si no hay una utilizable
+     */
+    private int[] takeSpeculation() {
+        Speculation s = speculation;
+        speculation = null;
+        if (s == null) {
+            return null;
+        }
+
+        int size = playerBoard.getSize();
+        boolean valid = s.strategy == aiStrategy
+                && s.shotCount == playerBoard.getShotCount()
+                && s.boardKey == playerBoard.getZobristKey()
+                && !playerBoard.wasShot(s.cell / size, s.cell % size);
+        (valid ? speculationsUsed : speculationsDiscarded).increment();
+        aiMetrics.onSpeculation(valid);
+        return valid ? new int[]{s.cell / size, s.cell % size} : null;
+    }
+
+    private synchronized GamePhase enginePhase() {
+        return engine.getPhase();
     }
 
     public String getPlayerNickname() { return playerNickname; }
@@ -212,14 +493,35 @@ public class GameController {
      * @return arreglo {fila, columna}
      */
     private int[] decideAiShot() {
-        
-        int r, c;
-        do {
-            r = random.nextInt(Board.SIZE);
-            c = random.nextInt(Board.SIZE);
-        } while (playerBoard.getCell(r, c).wasShot());
+        int size = playerBoard.getSize();
+        int cell = aiStrategy.decideShot(playerBoard);
+        return new int[]{cell / size, cell % size};
+    }
 
-        return new int[]{r, c};
+    /**
+     * Crea la estrategia de disparo para una dificultad, con telemetría.
+     * En difícil, el mapa de calor usa el modelo de colocaciones del jugador;
+     * mientras ese modelo tenga pocas partidas la apertura sale del libro de
+     * aperturas, y el final lo resuelve el solucionador exacto.
+     *
+     * @param difficulty dificultad seleccionada
+     * @return estrategia de la IA
+     */
+    private AiStrategy createStrategy(Difficulty difficulty) {
+        if (difficulty != Difficulty.HARD) {
+            return AiStrategies.create(difficulty, new SplittableRandom(), aiMetrics);
+        }
+        AiStrategyProvider provider = AiStrategies.forDifficulty(difficulty);
+        PlacementPrior prior = loadPlacementPrior();
+        boolean learned = prior != null && prior.getGames() >= PRIOR_MIN_GAMES;
+        AiStrategy strategy = provider.create(new SplittableRandom(), learned ? prior : null);
+        if (endgameSolver != null) {
+            strategy = new EndgameStrategy(strategy, endgameSolver);
+        }
+        if (!learned) {
+            strategy = new OpeningBookStrategy(strategy);
+        }
+        return new InstrumentedStrategy(provider.getName(), strategy, aiMetrics);
     }
 
     /* =========================
@@ -233,44 +535,111 @@ public class GameController {
      */
     private void endGame(boolean playerWon) {
         phase = GamePhase.GAME_OVER;
-        deleteSave();
-        notifyGameOver(playerWon);
+        CompletableFuture<Void> saved = autoSaver.request();
+        aiPacer.then(() -> saved.whenComplete((ignored, error) -> notifyGameOver(playerWon)));
+    }
+
+    /**
+     * @return Modelo de colocaciones del tamaño del tablero del jugador, o null si aún no hay tablero
+     */
+    private PlacementPrior loadPlacementPrior() {
+        if (playerBoard == null) {
+            return null;
+        }
+        int size = playerBoard.getSize();
+        if (placementPrior == null || placementPrior.getSize() != size) {
+            placementPrior = PlacementPrior.loadOrEmpty(PlacementPrior.fileFor(SAVE_FILE.getParent(), size), size);
+        }
+        return placementPrior;
+    }
+
+    /**
+     * Suma la flota que colocó el jugador al modelo de colocaciones y lo guarda.
+     */
+    private void recordPlayerPlacements() {
+        PlacementPrior prior = loadPlacementPrior();
+        if (prior == null || playerBoard.getShips().isEmpty()) {
+            return;
+        }
+        prior.record(playerBoard);
+        try {
+            prior.save(PlacementPrior.fileFor(SAVE_FILE.getParent(), prior.getSize()));
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar el modelo de colocaciones: " + e.getMessage());
+        }
     }
 
+    /**
+     * Cierra la partida: descarta el trabajo pendiente de la IA, interrumpe
+     * el que esté en curso, libera su sesión en el anfitrión y espera a que
+     * el último estado quede escrito.
+     */
     public void shutdown() {
         aiExecutor.shutdownNow();
+        aiPacer.shutdown();
+        autoSaver.flush();
     }
 
     /* =========================
        GUARDADO
        ========================= */
 
-    private void saveGame() throws IOException {
-        GameState state = new GameState(playerBoard, enemyBoard, phase);
-        SaveManager.saveGame(state, SAVE_FILE);
+    /**
+     * Pide guardar la partida; la escritura la hace {@link #autoSaver} en
+     * un hilo de E/S, agrupando los pedidos seguidos.
+     */
+    private void autoSave() {
+        autoSaver.request();
     }
 
-    private void saveGameSafe() {
-        try {
-            saveGame();
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Lleva el disco al estado actual: agrega los eventos nuevos a la
+     * bitácora (con un punto de control cada {@link #CHECKPOINT_INTERVAL}),
+     * borra el guardado si la partida terminó, agrega el registro del
+     * jugador si hundió otro barco y, una sola vez al final, guarda sus
+     * colocaciones. Corre en el hilo de E/S; solo la preparación en memoria
+     * se hace bajo el candado de la partida.
+     *
+     * @throws IOException si falla la escritura
+     */
+    private void persist() throws IOException {
+        GameLog.Flush flush;
+        boolean over;
+        int sunk;
+        GamePhase savedPhase;
+        int turns;
+        synchronized (this) {
+            over = engine.isGameOver();
+            savedPhase = engine.getPhase();
+            flush = gameLog.prepare(
+                    new GameState(playerBoard, enemyBoard, savedPhase, difficulty, playerNickname));
+            sunk = enemyBoard.countSunkShips();
+            turns = enemyBoard.getShotCount();
         }
-    }
 
-    private void autoSave() {
-        try {
-            saveGame();
-            PlayerRecord record =
-                    new PlayerRecord(playerNickname, enemyBoard.countSunkShips());
-            SaveManager.savePlayerRecord(record);
-        } catch (IOException e) {
-            e.printStackTrace();
+        gameLog.write(flush);
+        if (!over && saveSlots != null) {
+            saveSlots.update(slotId, playerNickname, difficulty, savedPhase, turns);
+        }
+        if (over) {
+            deleteSave();
+            if (!placementsRecorded) {
+                placementsRecorded = true;
+                recordPlayerPlacements();
+            }
+        }
+        if (sunk != lastRecordedSunk) {
+            SaveManager.savePlayerRecord(new PlayerRecord(playerNickname, sunk));
+            lastRecordedSunk = sunk;
         }
     }
 
-    private void deleteSave() {
-        SaveManager.deleteSave(SAVE_FILE);
+    private void deleteSave() throws IOException {
+        if (saveSlots != null) {
+            saveSlots.delete(slotId);
+        } else {
+            gameLog.deleteCheckpoint();
+        }
     }
 
     /* =========================
@@ -302,41 +671,19 @@ public class GameController {
     }
 
     /**
-     * Coloca todos los barcos del enemigo de forma aleatoria en su tablero.
+     * Jugada calculada de antemano junto con el estado para el que vale.
      */
-    private void placeEnemyShipsRandomly() {
-        Board enemyBoard = this.enemyBoard;
-        Random random = new Random();
-
-        for (ShipType type : ShipType.values()) {
-            int count = 0;
-
-            while (count < type.getMaxCount()) {
-                int row = random.nextInt(10);
-                int col = random.nextInt(10);
-                boolean vertical = random.nextBoolean();
-
-                try {
-                    Ship ship = new Ship(type);
-                    enemyBoard.placeShip(ship, row, col, vertical);
-                    count++;
-                } catch (Exception ignored) {
-                    // Si no se puede colocar, intenta otra posición
-                }
-            }
+    private static final class Speculation {
+        private final AiStrategy strategy;
+        private final int shotCount;
+        private final long boardKey;
+        private final int cell;
+
+        Speculation(AiStrategy strategy, int shotCount, long boardKey, int cell) {
+            this.strategy = strategy;
+            this.shotCount = shotCount;
+            this.boardKey = boardKey;
+            this.cell = cell;
         }
     }
-
-
-
-    /* =========================
-       ENUM DE FASES
-       ========================= */
-
-    public enum GamePhase {
-        SETUP,
-        PLAYER_TURN,
-        ENEMY_TURN,
-        GAME_OVER
-    }
 }
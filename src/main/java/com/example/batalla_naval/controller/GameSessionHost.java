@@ -0,0 +1,290 @@
+package com.example.batalla_naval.controller;
+
+import com.example.batalla_naval.model.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Anfitrión de muchas partidas a la vez sobre un número fijo de hilos.
+ * Cada partida recibe una {@link Session}: un ejecutor propio que corre sus
+ * tareas en serie y en orden, pero prestadas de un grupo compartido. Una
+ * sesión corre una sola tarea por turno y vuelve al final de la cola, así
+ * que una partida con mucho trabajo pendiente no retrasa a las demás más
+ * que una tarea. Los disparos que la vista muestra con pausa se programan
+ * en un único temporizador también compartido, y los guardados en un
+ * grupo aparte de a lo sumo {@value #IO_THREADS} hilos de E/S.
+ * Así, miles de partidas simultáneas usan un hilo de trabajo por núcleo,
+ * el temporizador y los de E/S, y cerrar una partida descarta sus tareas pendientes e
+ * interrumpe la que esté corriendo sin afectar a las otras.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class GameSessionHost {
+
+    private static final class DefaultHolder {
+        private static final GameSessionHost INSTANCE =
+                new GameSessionHost(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /** Los guardados esperan sobre todo al disco, así que bastan pocos hilos */
+    static final int IO_THREADS = 2;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService timer;
+    private final ThreadPoolExecutor io;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param threads Hilos de trabajo compartidos por todas las partidas
+     */
+    public GameSessionHost(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un hilo: " + threads);
+        }
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("game-worker-"));
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("game-timer-"));
+        int ioThreads = Math.min(threads, IO_THREADS);
+        this.io = new ThreadPoolExecutor(ioThreads, ioThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads("game-io-"));
+    }
+
+    /**
+     * @return Anfitrión compartido de la aplicación, con un hilo por núcleo
+     */
+    public static GameSessionHost getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Abre una sesión vacía.
+     *
+     * @return Ejecutor en serie de una partida
+     * @throws RejectedExecutionException Si el anfitrión ya se cerró
+     */
+    public Session openSession() {
+        if (workers.isShutdown()) {
+            throw new RejectedExecutionException("El anfitrión de partidas está cerrado");
+        }
+        Session session = new Session();
+        sessions.add(session);
+        return session;
+    }
+
+    /**
+     * Crea una partida alojada aquí.
+     *
+     * @param playerBoard Tablero del jugador
+     * @param enemyBoard Tablero del enemigo
+     * @return Controlador cuya IA y ritmo corren en los hilos compartidos
+     */
+    public GameController openGame(Board playerBoard, Board enemyBoard) {
+        return new GameController(playerBoard, enemyBoard, this);
+    }
+
+    /**
+     * @return Temporizador compartido para el ritmo de los disparos mostrados
+     */
+    ScheduledExecutorService getTimer() {
+        return timer;
+    }
+
+    /**
+     * @return Hilos compartidos para el guardado diferido, aparte de los de
+     *         juego para que la espera del disco no retrase ningún turno
+     */
+    Executor getIoExecutor() {
+        return io;
+    }
+
+    /**
+     * @return Sesiones abiertas
+     */
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * @return Hilos de trabajo
+     */
+    public int getThreads() {
+        return workers.getMaximumPoolSize();
+    }
+
+    /**
+     * Cierra todas las sesiones y detiene los hilos.
+     */
+    public void shutdown() {
+        for (Session session : sessions) {
+            session.shutdownNow();
+        }
+        workers.shutdownNow();
+        timer.shutdownNow();
+        io.shutdown();
+    }
+
+    /**
+     * Ejecutor en serie de una partida. Sus tareas corren de a una, en el
+     * orden en que llegaron, en cualquiera de los hilos compartidos.
+     * {@link #shutdown()} deja terminar las pendientes; {@link #shutdownNow()}
+     * las descarta e interrumpe la tarea en curso; la interrupción
+     * se limpia al terminarla para no afectar al hilo prestado.
+     */
+    public final class Session extends AbstractExecutorService {
+        private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+        private final Object lock = new Object();
+        /** true mientras hay un turno de esta sesión en la cola compartida o corriendo */
+        private boolean scheduled;
+        private boolean closed;
+        private Thread runner;
+
+        private Session() {
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            synchronized (lock) {
+                if (closed) {
+                    throw new RejectedExecutionException("La partida está cerrada");
+                }
+                mailbox.add(task);
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            dispatch();
+        }
+
+        private void dispatch() {
+            try {
+                workers.execute(this::runNext);
+            } catch (RejectedExecutionException e) {
+                synchronized (lock) {
+                    scheduled = false;
+                    closed = true;
+                    mailbox.clear();
+                    lock.notifyAll();
+                }
+                sessions.remove(this);
+                throw e;
+            }
+        }
+
+        /**
+         * Un turno de la sesión: corre una tarea y, si quedan más, vuelve a
+         * la cola compartida detrás de las demás partidas.
+         */
+        private void runNext() {
+            Runnable task;
+            synchronized (lock) {
+                task = mailbox.poll();
+                runner = Thread.currentThread();
+            }
+            try {
+                if (task != null) {
+                    task.run();
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Error en una tarea de la partida: " + e);
+            } finally {
+                boolean again;
+                synchronized (lock) {
+                    runner = null;
+                    Thread.interrupted();
+                    again = !mailbox.isEmpty();
+                    scheduled = again;
+                    lock.notifyAll();
+                }
+                if (again) {
+                    try {
+                        dispatch();
+                    } catch (RejectedExecutionException e) {
+                        // El anfitrión se cerró mientras corría la tarea.
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            synchronized (lock) {
+                closed = true;
+                lock.notifyAll();
+            }
+            sessions.remove(this);
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            List<Runnable> pending = new ArrayList<>();
+            synchronized (lock) {
+                closed = true;
+                Runnable task;
+                while ((task = mailbox.poll()) != null) {
+                    pending.add(task);
+                }
+                if (runner != null) {
+                    runner.interrupt();
+                }
+                lock.notifyAll();
+            }
+            sessions.remove(this);
+            return pending;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            synchronized (lock) {
+                return closed;
+            }
+        }
+
+        @Override
+        public boolean isTerminated() {
+            synchronized (lock) {
+                return closed && runner == null && mailbox.isEmpty();
+            }
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (lock) {
+                while (!isTerminated()) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) {
+                        return false;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(lock, left);
+                }
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.batalla_naval.model;
+
+import java.io.Serializable;
+
+/**
+ * Conjunto de bits por celda dividido en bloques que se reservan solo cuando
+ * se marca alguna celda del bloque. Un tablero grande con pocos disparos ocupa
+ * así poca memoria, y consultar o marcar una celda es una operación de bits.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+class BitGrid implements Serializable {
+    private static final long serialVersionUID = 86011780038388661L;
+
+    /** Palabras de 64 bits por bloque (4096 celdas) */
+    private static final int CHUNK_WORDS = 64;
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    private final long[][] chunks;
+    private final int chunkWords;
+
+    /**
+     * Crea una rejilla de bits vacía.
+     *
+     * @param bits Número de celdas que debe cubrir
+     */
+    BitGrid(int bits) {
+        int words = (bits + 63) >>> 6;
+        this.chunkWords = Math.min(CHUNK_WORDS, Math.max(1, words));
+        this.chunks = new long[(bits + CHUNK_MASK) >>> CHUNK_SHIFT][];
+    }
+
+    /**
+     * @param i Índice de la celda
+     * @return true si el bit está marcado
+     */
+    boolean get(int i) {
+        long[] chunk = chunks[i >>> CHUNK_SHIFT];
+        return chunk != null && (chunk[(i & CHUNK_MASK) >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Marca un bit, reservando su bloque si es necesario.
+     *
+     * @param i Índice de la celda
+     */
+    void set(int i) {
+        int c = i >>> CHUNK_SHIFT;
+        long[] chunk = chunks[c];
+        if (chunk == null) {
+            chunk = new long[chunkWords];
+            chunks[c] = chunk;
+        }
+        chunk[(i & CHUNK_MASK) >>> 6] |= 1L << i;
+    }
+}
@@ -9,39 +9,120 @@ import java.util.*;
 /**
  * Representa el tablero de juego de batalla naval.
  * Contiene celdas, barcos y maneja la lógica de colocación y disparos.
+ * Internamente la ocupación, los disparos y los impactos se guardan como
+ * máscaras de bits por bloques que se reservan bajo demanda, y los barcos se
+ * indexan por su celda inicial. No se crea un objeto por celda, por lo que la
+ * memoria y el costo de un disparo no dependen del tamaño del océano.
  * Autores: Jairo Andres &  Juan Sebastian Tapia
  * Version: 1.0
  * Fecha: 2025
  */
 public class Board implements Serializable {
-    /** Tamaño del tablero (cuadrado) */
+    /** Tamaño por defecto del tablero (cuadrado) */
     public static final int SIZE = 10;
 
-    private final Map<String, Cell> cells = new HashMap<>();
+    /** Tamaño máximo soportado para variantes de océano grande */
+    public static final int MAX_SIZE = 4096;
+
+    /** Largo del barco más grande; limita la búsqueda del barco que ocupa una celda */
+    private static final int MAX_SHIP_SIZE = maxShipSize();
+
+    /* Rasgos que aporta una celda a la clave Zobrist */
+    private static final int Z_MISS = 1;
+    private static final int Z_HIT = 2;
+    private static final int Z_SHIP = 16;
+    private static final int Z_SUNK = 32;
+
+    private final int size;
+
+    private final BitGrid occupancy;
+    private final BitGrid shots;
+    private final BitGrid hits;
+
     private final List<Ship> ships = new ArrayList<>();
-    private final Set<String> occupied = new HashSet<>();
-    private final LinkedList<String> shotsHistory = new LinkedList<>();
+    private final ShipIndex shipsByOrigin = new ShipIndex();
+
+    /** Contadores que se actualizan en cada hundimiento, indexados por ordinal de ShipType */
+    private final int[] remainingByType = new int[ShipType.values().length];
+    private int sunkCount;
+
+    /**
+     * Claves Zobrist: la completa incluye los barcos; la observada solo lo que
+     * ve quien dispara (agua, impacto y barcos hundidos con su tipo).
+     */
+    private long zobristKey;
+    private long observedKey;
+
+    /** Índices de celda en el orden en que fueron disparadas */
+    private int[] shotOrder = new int[16];
+    private int shotCount;
 
     /**
-     * Constructor que inicializa un tablero vacío.
+     * Constructor que inicializa un tablero vacío de tamaño por defecto.
      */
     public Board() {
-        for (int r = 0; r < SIZE; r++) {
-            for (int c = 0; c < SIZE; c++) {
-                cells.put(key(r, c), new Cell(r, c));
-            }
+        this(SIZE);
+    }
+
+    /**
+     * Constructor que inicializa un tablero vacío de tamaño arbitrario.
+     *
+     * @param size Número de filas y columnas
+     * @throws IllegalArgumentException Si el tamaño está fuera de [1, MAX_SIZE]
+     */
+    public Board(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Tamaño de tablero inválido: " + size);
         }
+        this.size = size;
+        int cellCount = size * size;
+        this.occupancy = new BitGrid(cellCount);
+        this.shots = new BitGrid(cellCount);
+        this.hits = new BitGrid(cellCount);
+        this.zobristKey = mix(size);
+        this.observedKey = zobristKey;
+    }
+
+    private static int maxShipSize() {
+        int max = 0;
+        for (ShipType type : ShipType.values()) {
+            max = Math.max(max, type.getSize());
+        }
+        return max;
+    }
+
+    /**
+     * Clave pseudoaleatoria de un rasgo de una celda. Se calcula con
+     * splitmix64 en lugar de guardarse en una tabla, así que es estable entre
+     * ejecuciones y no ocupa memoria en tableros grandes.
+     */
+    private static long zobrist(int cell, int feature) {
+        return mix(((long) cell << 8) | feature);
+    }
+
+    private static long mix(long z) {
+        z = (z + 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
     /**
-     * Genera una clave única para una celda.
+     * @return Número de filas (y columnas) del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Calcula el índice lineal de una celda.
      *
      * @param r Fila
      * @param c Columna
-     * @return Clave en formato "fila,columna"
+     * @return Índice en el rango [0, size * size)
      */
-    private static String key(int r, int c) {
-        return r + "," + c;
+    private int index(int r, int c) {
+        return r * size + c;
     }
 
     /**
@@ -52,7 +133,7 @@ public class Board implements Serializable {
      * @return true si las coordenadas son válidas
      */
     private boolean inRange(int r, int c) {
-        return (r >= 0 && r < SIZE) && (c >= 0 && c < SIZE);
+        return (r >= 0 && r < size) && (c >= 0 && c < size);
     }
 
     /**
@@ -64,36 +145,33 @@ public class Board implements Serializable {
      * @param vertical true para orientación vertical, false para horizontal
      * @throws InvalidPlacementException Si el barco no cabe o se superpone con otro
      */
-    public void placeShip(Ship ship, int startR, int startC, boolean vertical) throws InvalidPlacementException {
-        int size = ship.getType().getSize();
-        List<String> positions = new ArrayList<>();
+    public synchronized void placeShip(Ship ship, int startR, int startC, boolean vertical) throws InvalidPlacementException {
+        int length = ship.getType().getSize();
 
-        // Calcular posiciones que ocuparía el barco
-        for (int i = 0; i < size; i++) {
+        // Verificar límites y superposición sin modificar el tablero
+        for (int i = 0; i < length; i++) {
             int r = vertical ? startR + i : startR;
             int c = vertical ? startC : startC + i;
 
             if (!inRange(r, c)) {
                 throw new InvalidPlacementException("Barco fuera de límites en " + r + "," + c);
             }
-            positions.add(key(r, c));
-        }
-
-        // Verificar superposición
-        for (String pos : positions) {
-            if (occupied.contains(pos)) {
-                throw new InvalidPlacementException("Barco se superpone en " + pos);
+            if (occupancy.get(index(r, c))) {
+                throw new InvalidPlacementException("Barco se superpone en " + r + "," + c);
             }
         }
 
         // Colocar el barco
-        for (String pos : positions) {
-            Cell cell = cells.get(pos);
-            cell.setShip(ship);
-            ship.addPosition(pos);
-            occupied.add(pos);
+        for (int i = 0; i < length; i++) {
+            int r = vertical ? startR + i : startR;
+            int c = vertical ? startC : startC + i;
+            occupancy.set(index(r, c));
+            zobristKey ^= zobrist(index(r, c), Z_SHIP + ship.getType().ordinal());
         }
+        ship.place(startR, startC, vertical);
+        shipsByOrigin.put(index(startR, startC), ship);
         ships.add(ship);
+        remainingByType[ship.getType().ordinal()]++;
     }
 
     /**
@@ -109,37 +187,165 @@ public class Board implements Serializable {
             throw new GameStateException("Disparo fuera de límites: " + r + "," + c);
         }
 
-        String pos = key(r, c);
-        Cell cell = cells.get(pos);
-
-        if (cell.wasShot()) {
-            throw new GameStateException("Celda ya disparada: " + pos);
+        int idx = index(r, c);
+        if (shots.get(idx)) {
+            throw new GameStateException("Celda ya disparada: " + r + "," + c);
         }
 
-        cell.markShot();
-        shotsHistory.addFirst(pos);
+        shots.set(idx);
+        if (shotCount == shotOrder.length) {
+            shotOrder = Arrays.copyOf(shotOrder, shotCount * 2);
+        }
+        shotOrder[shotCount++] = idx;
 
-        if (!cell.hasShip()) {
+        if (!occupancy.get(idx)) {
+            updateKeys(zobrist(idx, Z_MISS));
             return ShotResult.MISS;
-        } else {
-            Ship ship = cell.getShip();
-            ship.registerHit(pos);
-            return ship.isSunk() ? ShotResult.SUNK : ShotResult.HIT;
         }
+
+        hits.set(idx);
+        updateKeys(zobrist(idx, Z_HIT));
+        Ship ship = shipAt(r, c);
+        if (ship.registerHit(r, c) && ship.isSunk()) {
+            sunkCount++;
+            remainingByType[ship.getType().ordinal()]--;
+
+            // Los impactos del barco pasan a ser celdas hundidas de su tipo
+            int step = ship.isVertical() ? size : 1;
+            int cell = index(ship.getRow(), ship.getCol());
+            for (int s = 0; s < ship.getType().getSize(); s++, cell += step) {
+                updateKeys(zobrist(cell, Z_HIT) ^ zobrist(cell, Z_SUNK + ship.getType().ordinal()));
+            }
+            return ShotResult.SUNK;
+        }
+        return ShotResult.HIT;
+    }
+
+    private void updateKeys(long delta) {
+        zobristKey ^= delta;
+        observedKey ^= delta;
     }
 
     /**
-     * @return true si todos los barcos han sido hundidos
+     * Clave Zobrist del estado completo (barcos y disparos). Dos tableros con
+     * los mismos barcos y los mismos disparos tienen la misma clave, sin
+     * importar el orden en que ocurrieron.
+     *
+     * @return Clave de 64 bits
+     */
+    public synchronized long getZobristKey() {
+        return zobristKey;
+    }
+
+    /**
+     * Clave Zobrist de lo que ve quien dispara: agua, impactos y barcos
+     * hundidos con su tipo, pero no los barcos ocultos. Sirve para reutilizar
+     * análisis de la IA entre partidas que llegan al mismo estado.
+     *
+     * @return Clave de 64 bits
+     */
+    public synchronized long getObservedKey() {
+        return observedKey;
+    }
+
+    /**
+     * Busca el barco que ocupa una celda probando las posibles celdas
+     * iniciales a la izquierda y hacia arriba.
+     *
+     * @param r Fila
+     * @param c Columna
+     * @return El barco en la celda, o null si está vacía
      */
-    public boolean allShipsSunk() {
-        if (ships.isEmpty()) {
-            return false;
+    private Ship shipAt(int r, int c) {
+        if (!occupancy.get(index(r, c))) {
+            return null;
         }
+        for (int k = 0; k < MAX_SHIP_SIZE; k++) {
+            if (c - k >= 0) {
+                Ship ship = shipsByOrigin.get(index(r, c - k));
+                if (ship != null && !ship.isVertical() && ship.occupies(r, c)) return ship;
+            }
+            if (r - k >= 0) {
+                Ship ship = shipsByOrigin.get(index(r - k, c));
+                if (ship != null && ship.isVertical() && ship.occupies(r, c)) return ship;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indica si una celda ya fue disparada, sin pasar por {@link Cell}.
+     *
+     * @param r Fila
+     * @param c Columna
+     * @return true si la celda ya recibió un disparo
+     */
+    public synchronized boolean wasShot(int r, int c) {
+        return inRange(r, c) && shots.get(index(r, c));
+    }
+
+    /**
+     * Indica si una celda contiene parte de un barco.
+     *
+     * @param r Fila
+     * @param c Columna
+     * @return true si hay un barco en la celda
+     */
+    public synchronized boolean hasShip(int r, int c) {
+        return inRange(r, c) && occupancy.get(index(r, c));
+    }
+
+    /**
+     * Indica si una celda fue disparada y contenía un barco.
+     *
+     * @param r Fila
+     * @param c Columna
+     * @return true si la celda es un impacto
+     */
+    public synchronized boolean wasHit(int r, int c) {
+        return inRange(r, c) && hits.get(index(r, c));
+    }
 
-        for (Ship s : ships) {
-            if (!s.isSunk()) return false;
+    /**
+     * @return Número de disparos recibidos por el tablero
+     */
+    public synchronized int getShotCount() {
+        return shotCount;
+    }
+
+    /**
+     * @return true si todos los barcos han sido hundidos
+     */
+    public synchronized boolean allShipsSunk() {
+        return !ships.isEmpty() && sunkCount == ships.size();
+    }
+
+    /**
+     * @return Número de barcos que siguen a flote
+     */
+    public synchronized int getRemainingShipCount() {
+        return ships.size() - sunkCount;
+    }
+
+    /**
+     * Cuenta los barcos de un tipo que siguen a flote.
+     *
+     * @param type Tipo de barco
+     * @return Número de barcos de ese tipo sin hundir
+     */
+    public synchronized int getRemainingShips(ShipType type) {
+        return remainingByType[type.ordinal()];
+    }
+
+    /**
+     * @return Barcos a flote agrupados por tipo
+     */
+    public synchronized Map<ShipType, Integer> getRemainingShipsByType() {
+        Map<ShipType, Integer> remaining = new EnumMap<>(ShipType.class);
+        for (ShipType type : ShipType.values()) {
+            remaining.put(type, remainingByType[type.ordinal()]);
         }
-        return true;
+        return remaining;
     }
 
 
@@ -150,17 +356,17 @@ public class Board implements Serializable {
      */
     public void printBoard(boolean showShips) {
         System.out.print("  ");
-        for (int c = 0; c < SIZE; c++) System.out.print(c + " ");
+        for (int c = 0; c < size; c++) System.out.print(c + " ");
         System.out.println();
 
-        for (int r = 0; r < SIZE; r++) {
+        for (int r = 0; r < size; r++) {
             System.out.print(r + " ");
-            for (int c = 0; c < SIZE; c++) {
-                Cell cell = cells.get(key(r, c));
+            for (int c = 0; c < size; c++) {
+                int idx = index(r, c);
                 char ch = '.';
-                if (cell.wasShot()) {
-                    ch = cell.hasShip() ? 'X' : 'o';
-                } else if (showShips && cell.hasShip()) {
+                if (shots.get(idx)) {
+                    ch = occupancy.get(idx) ? 'X' : 'o';
+                } else if (showShips && occupancy.get(idx)) {
                     ch = 'S';
                 }
                 System.out.print(ch + " ");
@@ -172,8 +378,20 @@ public class Board implements Serializable {
     /**
      * @return Historial de disparos (más recientes primero)
      */
-    public List<String> getShotsHistory() {
-        return new ArrayList<>(shotsHistory);
+    public synchronized List<String> getShotsHistory() {
+        List<String> history = new ArrayList<>(shotCount);
+        for (int i = shotCount - 1; i >= 0; i--) {
+            int idx = shotOrder[i];
+            history.add((idx / size) + "," + (idx % size));
+        }
+        return history;
+    }
+
+    /**
+     * @return Índices de las celdas disparadas (fila * tamaño + columna), en el orden de los disparos
+     */
+    public synchronized int[] getShotOrder() {
+        return Arrays.copyOf(shotOrder, shotCount);
     }
 
     /**
@@ -184,14 +402,26 @@ public class Board implements Serializable {
     }
 
     /**
-     * Obtiene una celda específica.
+     * Obtiene una celda específica. Las celdas no se almacenan: se devuelve
+     * una copia con el estado actual de la posición, que no queda ligada al
+     * tablero. Marcarla como disparada o asignarle otro barco no cambia el
+     * tablero, y no refleja los disparos posteriores; para disparar se usa
+     * {@link #shootAt(int, int)}. El barco que contiene sí es el del tablero.
      *
      * @param r Fila
      * @param c Columna
-     * @return La celda en las coordenadas especificadas
+     * @return La celda en las coordenadas especificadas, o null si está fuera del tablero
      */
     public synchronized Cell getCell(int r, int c) {
-        return cells.get(key(r, c));
+        if (!inRange(r, c)) {
+            return null;
+        }
+        Cell cell = new Cell(r, c);
+        cell.setShip(shipAt(r, c));
+        if (shots.get(index(r, c))) {
+            cell.markShot();
+        }
+        return cell;
     }
 
     /**
@@ -199,13 +429,7 @@ public class Board implements Serializable {
      *
      * @return Número de barcos hundidos
      */
-    public int countSunkShips() {
-        int count = 0;
-        for (Ship ship : ships) {
-            if (ship.isSunk()) {
-                count++;
-            }
-        }
-        return count;
+    public synchronized int countSunkShips() {
+        return sunkCount;
     }
-}
\ No newline at end of file
+}
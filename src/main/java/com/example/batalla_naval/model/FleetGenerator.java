@@ -0,0 +1,241 @@
+package com.example.batalla_naval.model;
+
+import com.example.batalla_naval.exceptions.GameStateException;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Generador de flotas aleatorias válidas sin excepciones.
+ * Las flotas pequeñas (la estándar de 10x10 tiene diez barcos) se sortean
+ * enteras: cada barco toma cualquier colocación de su tipo y, si la flota
+ * queda superpuesta, se descarta y se sortea otra. Así todas las flotas
+ * válidas salen con la misma probabilidad; en 10x10 cerca de una de cada
+ * seis sirve.
+ * Con muchos barcos casi ninguna flota sorteada entera sería válida, así
+ * que se colocan de uno en uno: cada barco se elige de manera uniforme entre
+ * las colocaciones de su tipo que no se superponen con los ya ubicados
+ * (primero unos pocos identificadores al azar contra una máscara de
+ * ocupación y, si todos chocan, una de las colocaciones libres). Esa flota
+ * no es uniforme: favorece las colocaciones que dejan más espacio a los
+ * barcos que faltan.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public class FleetGenerator {
+    /** Barcos hasta los que la flota se sortea entera */
+    private static final int WHOLE_FLEET_MAX_SHIPS = 16;
+
+    /** Flotas enteras descartadas antes de pasar a colocar barco por barco */
+    private static final int MAX_REJECTIONS = 256;
+
+    /** Intentos aleatorios antes de enumerar las colocaciones libres */
+    private static final int RANDOM_PROBES = 8;
+
+    /** Reinicios permitidos si una flota queda sin espacio para algún barco */
+    private static final int MAX_RESTARTS = 64;
+
+    /** Flotas por tarea en la generación masiva; fija la secuencia para una semilla */
+    private static final int BULK_CHUNK = 4096;
+
+    private final int size;
+    private final PlacementTable placements;
+    private final ShipType[] fleet;
+
+    /**
+     * Crea un generador con la flota estándar escalada al tamaño del tablero.
+     *
+     * @param size Número de filas (y columnas) del tablero
+     */
+    public FleetGenerator(int size) {
+        this.size = size;
+        this.placements = new PlacementTable(size);
+
+        List<ShipType> types = new ArrayList<>();
+        for (ShipType type : ShipType.values()) {
+            for (int i = 0; i < type.getCountFor(size); i++) {
+                types.add(type);
+            }
+        }
+        this.fleet = types.toArray(new ShipType[0]);
+    }
+
+    /**
+     * @return Tabla usada para decodificar los identificadores de colocación
+     */
+    public PlacementTable getPlacements() {
+        return placements;
+    }
+
+    /**
+     * @return Número de barcos de cada flota generada
+     */
+    public int getShipCount() {
+        return fleet.length;
+    }
+
+    /**
+     * @param i Posición del barco dentro de la flota
+     * @return Tipo del barco en esa posición
+     */
+    public ShipType getShipType(int i) {
+        return fleet[i];
+    }
+
+    /**
+     * Genera una flota.
+     *
+     * @param random Fuente de aleatoriedad
+     * @return Identificadores de colocación, uno por barco en el orden de {@link #getShipType(int)}
+     */
+    public int[] generate(SplittableRandom random) {
+        int[] out = new int[fleet.length];
+        generate(random, out, 0, newScratch());
+        return out;
+    }
+
+    /**
+     * Genera muchas flotas en paralelo. El resultado depende solo de la
+     * semilla, no del número de núcleos ni del orden de ejecución.
+     *
+     * @param seed Semilla
+     * @param fleets Número de flotas a generar
+     * @return Arreglo de {@code fleets * getShipCount()} identificadores de colocación
+     */
+    public int[] generateBulk(long seed, int fleets) {
+        int[] out = new int[fleets * fleet.length];
+        int chunks = (fleets + BULK_CHUNK - 1) / BULK_CHUNK;
+
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            SplittableRandom random = new SplittableRandom(seed ^ (chunk * 0x9E3779B97F4A7C15L));
+            long[] scratch = newScratch();
+            int end = Math.min(fleets, (chunk + 1) * BULK_CHUNK);
+            for (int f = chunk * BULK_CHUNK; f < end; f++) {
+                generate(random, out, f * fleet.length, scratch);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Genera una flota y la coloca en un tablero vacío.
+     *
+     * @param board Tablero sin barcos del mismo tamaño que el generador
+     * @param random Fuente de aleatoriedad
+     */
+    public void placeOn(Board board, SplittableRandom random) {
+        int[] ids = generate(random);
+        try {
+            for (int i = 0; i < fleet.length; i++) {
+                ShipType type = fleet[i];
+                board.placeShip(new Ship(type),
+                        placements.row(type, ids[i]),
+                        placements.col(type, ids[i]),
+                        placements.isVertical(type, ids[i]));
+            }
+        } catch (InvalidPlacementException e) {
+            throw new GameStateException("El tablero no estaba vacío: " + e.getMessage());
+        }
+    }
+
+    private long[] newScratch() {
+        return new long[(size * size + 63) >>> 6];
+    }
+
+    /**
+     * Escribe una flota válida en {@code out[offset..offset + getShipCount())}.
+     */
+    private void generate(SplittableRandom random, int[] out, int offset, long[] occupied) {
+        if (fleet.length <= WHOLE_FLEET_MAX_SHIPS) {
+            for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+                if (sampleWhole(random, out, offset, occupied)) {
+                    return;
+                }
+            }
+        }
+
+        for (int restart = 0; restart <= MAX_RESTARTS; restart++) {
+            Arrays.fill(occupied, 0L);
+
+            int i = 0;
+            while (i < fleet.length) {
+                int id = pick(fleet[i], random, occupied);
+                if (id < 0) break;
+                mark(fleet[i], id, occupied);
+                out[offset + i] = id;
+                i++;
+            }
+            if (i == fleet.length) {
+                return;
+            }
+        }
+        throw new GameStateException("La flota no cabe en un tablero de " + size + "x" + size);
+    }
+
+    /**
+     * Sortea cada barco entre todas las colocaciones de su tipo.
+     *
+     * @return true si la flota no tiene superposiciones
+     */
+    private boolean sampleWhole(SplittableRandom random, int[] out, int offset, long[] occupied) {
+        Arrays.fill(occupied, 0L);
+        for (int i = 0; i < fleet.length; i++) {
+            int n = placements.count(fleet[i]);
+            if (n == 0) return false;
+            int id = random.nextInt(n);
+            if (!fits(fleet[i], id, occupied)) return false;
+            mark(fleet[i], id, occupied);
+            out[offset + i] = id;
+        }
+        return true;
+    }
+
+    /**
+     * Elige de manera uniforme una colocación libre.
+     *
+     * @return Identificador de colocación, o -1 si no hay ninguna libre
+     */
+    private int pick(ShipType type, SplittableRandom random, long[] occupied) {
+        int n = placements.count(type);
+        if (n == 0) return -1;
+
+        for (int probe = 0; probe < RANDOM_PROBES; probe++) {
+            int id = random.nextInt(n);
+            if (fits(type, id, occupied)) return id;
+        }
+
+        int free = 0;
+        for (int id = 0; id < n; id++) {
+            if (fits(type, id, occupied)) free++;
+        }
+        if (free == 0) return -1;
+
+        int k = random.nextInt(free);
+        for (int id = 0; id < n; id++) {
+            if (fits(type, id, occupied) && k-- == 0) return id;
+        }
+        return -1;
+    }
+
+    private boolean fits(ShipType type, int id, long[] occupied) {
+        int cell = placements.origin(type, id);
+        int step = placements.step(type, id);
+        for (int s = 0; s < type.getSize(); s++, cell += step) {
+            if ((occupied[cell >>> 6] & (1L << cell)) != 0) return false;
+        }
+        return true;
+    }
+
+    private void mark(ShipType type, int id, long[] occupied) {
+        int cell = placements.origin(type, id);
+        int step = placements.step(type, id);
+        for (int s = 0; s < type.getSize(); s++, cell += step) {
+            occupied[cell >>> 6] |= 1L << cell;
+        }
+    }
+}
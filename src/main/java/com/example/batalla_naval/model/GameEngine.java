@@ -0,0 +1,231 @@
+package com.example.batalla_naval.model;
+
+import com.example.batalla_naval.exceptions.GameStateException;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+
+import java.util.SplittableRandom;
+
+/**
+ * Reglas de una partida sin interfaz, hilos ni archivos: colocación, disparos
+ * de ambos lados y transiciones de fase. Cada acción devuelve su resultado y
+ * la fase siguiente en vez de notificar a nadie, así que sirve igual detrás
+ * de la vista, en un servidor o en un simulador. Crear un motor solo guarda
+ * referencias a los tableros, y los resultados son instancias compartidas,
+ * por lo que jugar no reserva memoria más allá de la de los tableros.
+ * No es seguro entre hilos; quien lo use debe serializar las llamadas.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class GameEngine {
+    private final Board playerBoard;
+    private final Board enemyBoard;
+    private GamePhase phase;
+    private boolean playerWon;
+
+    /**
+     * Crea una partida en fase de colocación.
+     *
+     * @param playerBoard Tablero del jugador
+     * @param enemyBoard Tablero del enemigo
+     */
+    public GameEngine(Board playerBoard, Board enemyBoard) {
+        this(playerBoard, enemyBoard, GamePhase.SETUP);
+    }
+
+    /**
+     * Crea o restaura una partida en la fase indicada.
+     *
+     * @param playerBoard Tablero del jugador
+     * @param enemyBoard Tablero del enemigo
+     * @param phase Fase actual
+     */
+    public GameEngine(Board playerBoard, Board enemyBoard, GamePhase phase) {
+        this.playerBoard = playerBoard;
+        this.enemyBoard = enemyBoard;
+        setPhase(phase);
+    }
+
+    /**
+     * Coloca un barco del jugador.
+     *
+     * @param ship Barco a colocar
+     * @param row Fila inicial
+     * @param col Columna inicial
+     * @param vertical Orientación
+     * @throws InvalidPlacementException Si el barco se sale o choca con otro
+     * @throws GameStateException Si la partida ya empezó
+     */
+    public void place(Ship ship, int row, int col, boolean vertical) throws InvalidPlacementException {
+        requirePhase(GamePhase.SETUP);
+        playerBoard.placeShip(ship, row, col, vertical);
+    }
+
+    /**
+     * Termina la colocación: si el enemigo aún no tiene flota se la coloca
+     * al azar, y el primer turno es del jugador.
+     *
+     * @param random Generador para la flota enemiga
+     * @return Fase siguiente ({@link GamePhase#PLAYER_TURN})
+     * @throws GameStateException Si la partida ya empezó
+     */
+    public GamePhase start(SplittableRandom random) {
+        requirePhase(GamePhase.SETUP);
+        if (enemyBoard.getShips().isEmpty()) {
+            new FleetGenerator(enemyBoard.getSize()).placeOn(enemyBoard, random);
+        }
+        phase = GamePhase.PLAYER_TURN;
+        return phase;
+    }
+
+    /**
+     * Dispara el jugador al tablero enemigo. Un agua pasa el turno al
+     * enemigo; hundir el último barco termina la partida.
+     *
+     * @param row Fila
+     * @param col Columna
+     * @return Resultado y fase siguiente
+     * @throws GameStateException Si no es el turno del jugador o la celda no es válida
+     */
+    public Outcome playerShoots(int row, int col) {
+        requirePhase(GamePhase.PLAYER_TURN);
+        return resolve(enemyBoard.shootAt(row, col), enemyBoard, true, GamePhase.ENEMY_TURN);
+    }
+
+    /**
+     * Dispara el enemigo al tablero del jugador. Un agua devuelve el turno
+     * al jugador; hundir el último barco termina la partida.
+     *
+     * @param row Fila
+     * @param col Columna
+     * @return Resultado y fase siguiente
+     * @throws GameStateException Si no es el turno del enemigo o la celda no es válida
+     */
+    public Outcome enemyShoots(int row, int col) {
+        requirePhase(GamePhase.ENEMY_TURN);
+        return resolve(playerBoard.shootAt(row, col), playerBoard, false, GamePhase.PLAYER_TURN);
+    }
+
+    private Outcome resolve(ShotResult result, Board target, boolean byPlayer, GamePhase onMiss) {
+        if (result == ShotResult.SUNK && target.allShipsSunk()) {
+            phase = GamePhase.GAME_OVER;
+            playerWon = byPlayer;
+        } else if (result == ShotResult.MISS) {
+            phase = onMiss;
+        }
+        return Outcome.of(result, phase);
+    }
+
+    private void requirePhase(GamePhase expected) {
+        if (phase != expected) {
+            throw new GameStateException("Acción de " + expected + " durante " + phase);
+        }
+    }
+
+    /**
+     * Fuerza la fase, por ejemplo al restaurar una partida guardada. Si la
+     * fase es {@link GamePhase#GAME_OVER}, el ganador se deduce de los tableros.
+     *
+     * @param phase Fase nueva
+     */
+    public void setPhase(GamePhase phase) {
+        this.phase = phase;
+        this.playerWon = phase == GamePhase.GAME_OVER && enemyBoard.allShipsSunk();
+    }
+
+    /**
+     * @return Fase actual
+     */
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return true si la partida terminó
+     */
+    public boolean isGameOver() {
+        return phase == GamePhase.GAME_OVER;
+    }
+
+    /**
+     * @return true si la partida terminó y ganó el jugador
+     */
+    public boolean hasPlayerWon() {
+        return phase == GamePhase.GAME_OVER && playerWon;
+    }
+
+    /**
+     * @return Tablero del jugador
+     */
+    public Board getPlayerBoard() {
+        return playerBoard;
+    }
+
+    /**
+     * @return Tablero del enemigo
+     */
+    public Board getEnemyBoard() {
+        return enemyBoard;
+    }
+
+    /**
+     * Resultado de un disparo junto con la fase en que queda la partida.
+     * Hay una instancia por combinación, así que se comparan con ==.
+     */
+    public static final class Outcome {
+        private static final ShotResult[] RESULTS = ShotResult.values();
+        private static final GamePhase[] PHASES = GamePhase.values();
+        private static final Outcome[] ALL = new Outcome[RESULTS.length * PHASES.length];
+
+        static {
+            for (ShotResult result : RESULTS) {
+                for (GamePhase phase : PHASES) {
+                    ALL[result.ordinal() * PHASES.length + phase.ordinal()] = new Outcome(result, phase);
+                }
+            }
+        }
+
+        private final ShotResult result;
+        private final GamePhase phase;
+
+        private Outcome(ShotResult result, GamePhase phase) {
+            this.result = result;
+            this.phase = phase;
+        }
+
+        /**
+         * @param result Resultado del disparo
+         * @param phase Fase siguiente
+         * @return Instancia compartida para esa combinación
+         */
+        public static Outcome of(ShotResult result, GamePhase phase) {
+            return ALL[result.ordinal() * PHASES.length + phase.ordinal()];
+        }
+
+        /**
+         * @return Resultado del disparo
+         */
+        public ShotResult getResult() {
+            return result;
+        }
+
+        /**
+         * @return Fase en que queda la partida
+         */
+        public GamePhase getPhase() {
+            return phase;
+        }
+
+        /**
+         * @return true si el disparo terminó la partida
+         */
+        public boolean isGameOver() {
+            return phase == GamePhase.GAME_OVER;
+        }
+
+        @Override
+        public String toString() {
+            return result + " -> " + phase;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.batalla_naval.model;
+
+/**
+ * Fases de una partida: colocación de barcos, turno de cada lado y fin.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public enum GamePhase {
+    SETUP,
+    PLAYER_TURN,
+    ENEMY_TURN,
+    GAME_OVER
+}
@@ -1,19 +1,26 @@
 package com.example.batalla_naval.model;
 
-import com.example.batalla_naval.controller.GameController;
 import java.io.Serializable;
 
 /**
  * Representa el estado completo del juego para poder guardar y cargar partidas.
- * Contiene ambos tableros y la fase actual del juego.
+ * Contiene ambos tableros, la fase actual del juego y, si se conocen, la
+ * dificultad, el apodo del jugador y el identificador de la partida.
  * Autores: Jairo Andres &  Juan Sebastian Tapia
  * Version: 1.0
  * Fecha: 2025
  */
 public class GameState implements Serializable {
+    /** Fijo para seguir leyendo los guardados serializados antes de agregar dificultad y apodo */
+    private static final long serialVersionUID = 1762764461013608899L;
+
     private final Board playerBoard;
     private final Board enemyBoard;
-    private final GameController.GamePhase phase;
+    private final GamePhase phase;
+    private final Difficulty difficulty;
+    private final String nickname;
+    /** 0 en los guardados anteriores al identificador; la serialización de Java lo deja así */
+    private final long gameId;
 
     /**
      * Constructor del estado del juego.
@@ -22,10 +29,42 @@ public class GameState implements Serializable {
      * @param enemyBoard Tablero del enemigo
      * @param phase Fase actual del juego
      */
-    public GameState(Board playerBoard, Board enemyBoard, GameController.GamePhase phase) {
+    public GameState(Board playerBoard, Board enemyBoard, GamePhase phase) {
+        this(playerBoard, enemyBoard, phase, null, null);
+    }
+
+    /**
+     * Constructor del estado del juego con los datos de la partida.
+     *
+     * @param playerBoard Tablero del jugador
+     * @param enemyBoard Tablero del enemigo
+     * @param phase Fase actual del juego
+     * @param difficulty Dificultad, o null si no se conoce
+     * @param nickname Apodo del jugador, o null si no se conoce
+     */
+    public GameState(Board playerBoard, Board enemyBoard, GamePhase phase,
+                     Difficulty difficulty, String nickname) {
+        this(playerBoard, enemyBoard, phase, difficulty, nickname, 0);
+    }
+
+    /**
+     * Constructor del estado del juego con los datos y el identificador de la partida.
+     *
+     * @param playerBoard Tablero del jugador
+     * @param enemyBoard Tablero del enemigo
+     * @param phase Fase actual del juego
+     * @param difficulty Dificultad, o null si no se conoce
+     * @param nickname Apodo del jugador, o null si no se conoce
+     * @param gameId Identificador de la partida, o 0 si no se conoce
+     */
+    public GameState(Board playerBoard, Board enemyBoard, GamePhase phase,
+                     Difficulty difficulty, String nickname, long gameId) {
         this.playerBoard = playerBoard;
         this.enemyBoard = enemyBoard;
         this.phase = phase;
+        this.difficulty = difficulty;
+        this.nickname = nickname;
+        this.gameId = gameId;
     }
 
     /**
@@ -45,7 +84,28 @@ public class GameState implements Serializable {
     /**
      * @return Fase actual del juego
      */
-    public GameController.GamePhase getPhase() {
+    public GamePhase getPhase() {
         return phase;
     }
+
+    /**
+     * @return Dificultad de la partida, o null en guardados antiguos
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * @return Apodo del jugador, o null en guardados antiguos
+     */
+    public String getNickname() {
+        return nickname;
+    }
+
+    /**
+     * @return Identificador de la partida, o 0 en guardados antiguos
+     */
+    public long getGameId() {
+        return gameId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.example.batalla_naval.model;
+
+/**
+ * Enumeración de todas las colocaciones legales de cada tipo de barco en un
+ * tablero vacío. Cada colocación se identifica con un entero: primero todas
+ * las horizontales (fila por fila) y luego todas las verticales. La fila, la
+ * columna y las celdas de una colocación se calculan aritméticamente, así que
+ * la tabla no guarda arreglos y sirve igual para tableros de cualquier tamaño.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class PlacementTable {
+    private final int size;
+
+    /**
+     * @param size Número de filas (y columnas) del tablero
+     */
+    public PlacementTable(int size) {
+        this.size = size;
+    }
+
+    /**
+     * @return Número de filas (y columnas) del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @return Posiciones iniciales posibles a lo largo del eje del barco
+     */
+    private int span(ShipType type) {
+        return Math.max(0, size - type.getSize() + 1);
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @return Número de colocaciones en una sola orientación
+     */
+    private int perOrientation(ShipType type) {
+        return size * span(type);
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @return Número total de colocaciones legales en un tablero vacío
+     */
+    public int count(ShipType type) {
+        return 2 * perOrientation(type);
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @param id Identificador de colocación
+     * @return true si la colocación es vertical
+     */
+    public boolean isVertical(ShipType type, int id) {
+        return id >= perOrientation(type);
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @param id Identificador de colocación
+     * @return Fila de la celda inicial
+     */
+    public int row(ShipType type, int id) {
+        int per = perOrientation(type);
+        return id >= per ? (id - per) / size : id / span(type);
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @param id Identificador de colocación
+     * @return Columna de la celda inicial
+     */
+    public int col(ShipType type, int id) {
+        int per = perOrientation(type);
+        return id >= per ? (id - per) % size : id % span(type);
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @param id Identificador de colocación
+     * @return Índice lineal (fila * tamaño + columna) de la celda inicial
+     */
+    public int origin(ShipType type, int id) {
+        return row(type, id) * size + col(type, id);
+    }
+
+    /**
+     * @param type Tipo de barco
+     * @param id Identificador de colocación
+     * @return Distancia en índice lineal entre dos segmentos consecutivos
+     */
+    public int step(ShipType type, int id) {
+        return isVertical(type, id) ? size : 1;
+    }
+
+    /**
+     * Calcula el identificador de una colocación.
+     *
+     * @param type Tipo de barco
+     * @param row Fila inicial
+     * @param col Columna inicial
+     * @param vertical Orientación
+     * @return Identificador, o -1 si el barco no cabe en esa posición
+     */
+    public int id(ShipType type, int row, int col, boolean vertical) {
+        int span = span(type);
+        if (vertical) {
+            if (row < 0 || row >= span || col < 0 || col >= size) return -1;
+            return perOrientation(type) + row * size + col;
+        }
+        if (row < 0 || row >= size || col < 0 || col >= span) return -1;
+        return row * span + col;
+    }
+}
@@ -7,14 +7,24 @@ import java.util.List;
 /**
  * Representa un barco en el juego de batalla naval.
  * Mantiene registro de sus posiciones y los impactos recibidos.
+ * Las posiciones se describen por la celda inicial y la orientación, y los
+ * impactos como una máscara de bits por segmento junto con un contador de
+ * segmentos intactos, por lo que registrar un impacto o consultar si está
+ * hundido es de tiempo constante.
  * Autores: Jairo Andres &  Juan Sebastian Tapia
  * Version: 1.0
  * Fecha: 2025
  */
 public class Ship implements Serializable {
     private final ShipType type;
-    private final List<String> positions;
-    private final List<String> hits;
+
+    private int row = -1;
+    private int col = -1;
+    private boolean vertical;
+    private int length;
+
+    private int hitMask;
+    private int remaining;
 
     /**
      * Constructor del barco.
@@ -23,8 +33,6 @@ public class Ship implements Serializable {
      */
     public Ship(ShipType type) {
         this.type = type;
-        this.positions = new ArrayList<>();
-        this.hits = new ArrayList<>();
     }
 
     /**
@@ -34,22 +42,82 @@ public class Ship implements Serializable {
         return type;
     }
 
+    /**
+     * Ubica el barco completo a partir de su celda inicial.
+     * Lo usa el tablero al colocar el barco; reinicia los impactos.
+     *
+     * @param startR Fila inicial
+     * @param startC Columna inicial
+     * @param vertical true si el barco se extiende hacia abajo
+     */
+    void place(int startR, int startC, boolean vertical) {
+        this.row = startR;
+        this.col = startC;
+        this.vertical = vertical;
+        this.length = type.getSize();
+        this.hitMask = 0;
+        this.remaining = length;
+    }
+
     /**
      * Agrega una posición al barco durante su colocación.
+     * Las posiciones deben agregarse en orden y ser contiguas: la segunda va
+     * a la derecha o debajo de la primera y fija la orientación, y las
+     * siguientes continúan en esa misma línea.
      *
      * @param pos Posición en formato "fila,columna"
+     * @throws IllegalArgumentException Si la posición no sigue a la última agregada
      */
     public void addPosition(String pos) {
-        positions.add(pos);
+        int r = parseRow(pos);
+        int c = parseCol(pos);
+
+        if (length == 0) {
+            row = r;
+            col = c;
+        } else {
+            boolean down = length == 1 ? r != row : vertical;
+            if (r != (down ? row + length : row) || c != (down ? col : col + length)) {
+                throw new IllegalArgumentException("Posición no contigua al barco: " + pos);
+            }
+            vertical = down;
+        }
+        length++;
+        remaining++;
     }
 
     /**
      * @return Lista de posiciones que ocupa el barco
      */
     public List<String> getPositions() {
+        List<String> positions = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            positions.add(segmentRow(i) + "," + segmentCol(i));
+        }
         return positions;
     }
 
+    /**
+     * @return Fila de la celda inicial, o -1 si el barco no ha sido colocado
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * @return Columna de la celda inicial, o -1 si el barco no ha sido colocado
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * @return true si el barco está colocado en vertical
+     */
+    public boolean isVertical() {
+        return vertical;
+    }
+
     /**
      * Verifica si el barco ocupa una posición específica.
      *
@@ -57,24 +125,105 @@ public class Ship implements Serializable {
      * @return true si el barco ocupa la posición
      */
     public boolean occupies(String pos) {
-        return positions.contains(pos);
+        return occupies(parseRow(pos), parseCol(pos));
+    }
+
+    /**
+     * Verifica si el barco ocupa una celda.
+     *
+     * @param r Fila
+     * @param c Columna
+     * @return true si el barco ocupa la celda
+     */
+    public boolean occupies(int r, int c) {
+        return segmentOf(r, c) >= 0;
     }
 
     /**
      * Registra un impacto en el barco.
      *
      * @param pos Posición impactada en formato "fila,columna"
+     * @return true si el impacto es nuevo (la celda es del barco y no había sido impactada)
      */
-    public void registerHit(String pos) {
-        if (occupies(pos) && !hits.contains(pos)) {
-            hits.add(pos);
+    public boolean registerHit(String pos) {
+        return registerHit(parseRow(pos), parseCol(pos));
+    }
+
+    /**
+     * Registra un impacto en el barco.
+     *
+     * @param r Fila impactada
+     * @param c Columna impactada
+     * @return true si el impacto es nuevo (la celda es del barco y no había sido impactada)
+     */
+    public boolean registerHit(int r, int c) {
+        int segment = segmentOf(r, c);
+        if (segment < 0) {
+            return false;
         }
+
+        int bit = 1 << segment;
+        if ((hitMask & bit) != 0) {
+            return false;
+        }
+        hitMask |= bit;
+        remaining--;
+        return true;
     }
 
     /**
      * @return true si el barco ha sido hundido (todos sus segmentos impactados)
      */
     public boolean isSunk() {
-        return hits.size() >= positions.size();
+        return remaining == 0;
+    }
+
+    /**
+     * @return Número de segmentos que aún no han sido impactados
+     */
+    public int getRemainingSegments() {
+        return remaining;
+    }
+
+    /**
+     * @return Máscara de segmentos impactados (bit i = segmento i desde la celda inicial)
+     */
+    public int getHitMask() {
+        return hitMask;
+    }
+
+    /**
+     * Calcula el segmento del barco que corresponde a una celda.
+     *
+     * @param r Fila
+     * @param c Columna
+     * @return Índice del segmento, o -1 si el barco no ocupa la celda
+     */
+    private int segmentOf(int r, int c) {
+        int offset;
+        if (vertical) {
+            if (c != col) return -1;
+            offset = r - row;
+        } else {
+            if (r != row) return -1;
+            offset = c - col;
+        }
+        return (offset >= 0 && offset < length) ? offset : -1;
+    }
+
+    private int segmentRow(int segment) {
+        return vertical ? row + segment : row;
+    }
+
+    private int segmentCol(int segment) {
+        return vertical ? col : col + segment;
+    }
+
+    private static int parseRow(String pos) {
+        return Integer.parseInt(pos.substring(0, pos.indexOf(',')));
+    }
+
+    private static int parseCol(String pos) {
+        return Integer.parseInt(pos.substring(pos.indexOf(',') + 1));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.example.batalla_naval.model;
+
+import java.io.Serializable;
+
+/**
+ * Índice de barcos por celda inicial (tabla hash de direccionamiento abierto
+ * con claves primitivas). Su tamaño depende del número de barcos y no del
+ * número de celdas del tablero.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+class ShipIndex implements Serializable {
+    private static final long serialVersionUID = 6510710301302438553L;
+
+    /** Las claves se guardan desplazadas en uno para que 0 signifique "vacío" */
+    private int[] keys = new int[16];
+    private Ship[] values = new Ship[16];
+    private int size;
+
+    /**
+     * Registra un barco por el índice de su celda inicial.
+     *
+     * @param origin Índice lineal de la celda inicial
+     * @param ship Barco a registrar
+     */
+    void put(int origin, Ship ship) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        insert(keys, values, origin + 1, ship);
+        size++;
+    }
+
+    /**
+     * @param origin Índice lineal de una celda
+     * @return El barco que empieza en esa celda, o null
+     */
+    Ship get(int origin) {
+        int key = origin + 1;
+        int mask = keys.length - 1;
+        for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == key) return values[slot];
+            if (k == 0) return null;
+        }
+    }
+
+    private void grow() {
+        int[] newKeys = new int[keys.length * 2];
+        Ship[] newValues = new Ship[values.length * 2];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                insert(newKeys, newValues, keys[i], values[i]);
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    private static void insert(int[] keys, Ship[] values, int key, Ship ship) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = ship;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
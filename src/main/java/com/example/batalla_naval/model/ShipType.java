@@ -34,4 +34,18 @@ public enum ShipType {
     public int getMaxCount() {
         return maxCount;
     }
+
+    /**
+     * Cantidad de barcos de este tipo para un tablero de cualquier tamaño.
+     * La flota crece en proporción al área respecto al tablero por defecto,
+     * manteniendo la misma densidad de ocupación.
+     *
+     * @param boardSize Número de filas (y columnas) del tablero
+     * @return Cantidad de barcos de este tipo, nunca menor que {@link #getMaxCount()}
+     */
+    public int getCountFor(int boardSize) {
+        long area = (long) boardSize * boardSize;
+        long base = (long) Board.SIZE * Board.SIZE;
+        return (int) Math.max(maxCount, maxCount * area / base);
+    }
 }
@@ -0,0 +1,124 @@
+package com.example.batalla_naval.persistence;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Guardado automático diferido: quien juega solo pide un guardado y sigue;
+ * la escritura ocurre después en un hilo de E/S. Los pedidos que llegan
+ * mientras se escribe se agrupan en una sola escritura siguiente, que toma
+ * el estado más reciente, así que una racha de disparos cuesta a lo sumo
+ * dos escrituras y ningún disparo espera al disco.
+ * Cada pedido devuelve un futuro que se completa cuando una escritura
+ * posterior a él terminó; esperarlo garantiza que el disco refleja al menos
+ * ese estado (al cerrar la partida o al terminarla).
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class AutoSaver {
+
+    /**
+     * Escritura del estado actual. Debe tomar ella misma la instantánea, ya
+     * que corre más tarde que el pedido.
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        /**
+         * @throws IOException Si no se puede escribir
+         */
+        void save() throws IOException;
+    }
+
+    private final Executor io;
+    private final SaveTask task;
+
+    private final Object lock = new Object();
+    /** Pedidos recibidos y pedidos cubiertos por una escritura terminada */
+    private long requested;
+    private long written;
+    private boolean running;
+    /** Se completa al terminar la próxima escritura que empiece */
+    private CompletableFuture<Void> nextWrite = new CompletableFuture<>();
+
+    /**
+     * @param io Ejecutor donde se escribe
+     * @param task Escritura del estado actual
+     */
+    public AutoSaver(Executor io, SaveTask task) {
+        this.io = io;
+        this.task = task;
+    }
+
+    /**
+     * Pide un guardado del estado actual sin esperar a que se escriba.
+     *
+     * @return Futuro que se completa cuando el disco refleja al menos el estado de este momento
+     */
+    public CompletableFuture<Void> request() {
+        CompletableFuture<Void> done;
+        synchronized (lock) {
+            requested++;
+            done = nextWrite;
+            if (running) {
+                return done;
+            }
+            running = true;
+        }
+        try {
+            io.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // Sin hilo de E/S (por ejemplo al cerrar la aplicación): se escribe aquí.
+            drain();
+        }
+        return done;
+    }
+
+    /**
+     * Si hay pedidos sin escribir, espera a que el estado actual quede
+     * escrito. Si no los hay no escribe nada.
+     */
+    public void flush() {
+        if (getPending() > 0) {
+            request().join();
+        }
+    }
+
+    /**
+     * @return Pedidos que aún no cubre ninguna escritura terminada
+     */
+    public long getPending() {
+        synchronized (lock) {
+            return requested - written;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            long generation;
+            CompletableFuture<Void> done;
+            synchronized (lock) {
+                if (written == requested) {
+                    running = false;
+                    return;
+                }
+                generation = requested;
+                done = nextWrite;
+                nextWrite = new CompletableFuture<>();
+            }
+
+            try {
+                task.save();
+            } catch (IOException | RuntimeException e) {
+                System.err.println("No se pudo guardar la partida: " + e.getMessage());
+            }
+
+            synchronized (lock) {
+                written = generation;
+            }
+            done.complete(null);
+        }
+    }
+}
@@ -0,0 +1,547 @@
+package com.example.batalla_naval.persistence;
+
+import com.example.batalla_naval.exceptions.GameStateException;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.GameEngine;
+import com.example.batalla_naval.model.GamePhase;
+import com.example.batalla_naval.model.GameState;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bitácora de eventos de una partida: cada colocación, el inicio y cada
+ * disparo se agregan al final de un archivo en unos pocos bytes, en vez de
+ * reescribir el {@link GameState} entero en cada turno. Cada cierto número
+ * de eventos se escribe además un punto de control, que es el archivo de
+ * guardado de siempre ({@code .ser}).
+ * Cargar es leer el punto de control y volver a aplicar, con un
+ * {@link GameEngine}, los eventos posteriores. La cantidad de eventos que ya
+ * contiene un punto de control se deduce de él mismo (barcos, inicio y
+ * disparos), así que la bitácora no necesita marcas y guarda la historia
+ * completa de la partida. Ambos llevan el identificador de la partida, y
+ * una bitácora solo se aplica al punto de control de su misma partida. Si
+ * una escritura se corta a medias, o el último evento está dañado, se lee
+ * hasta el evento anterior.
+ * Las llamadas de registro y {@link #prepare(GameState)} se hacen con el
+ * estado de la partida quieto; {@link #write(Flush)} corre después, siempre
+ * desde un mismo hilo a la vez.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class GameLog {
+    private static final int MAGIC = 0x424E474C;
+    private static final int VERSION = 2;
+    /** Mágico, versión, tamaño del tablero, eventos anteriores al primero del archivo e identificador de la partida */
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + Long.BYTES;
+    /** Versión sin identificador de partida; se lee como de una partida con identificador 0 */
+    private static final int LEGACY_VERSION = 1;
+    private static final int LEGACY_HEADER_BYTES = 4 * Integer.BYTES;
+
+    private static final byte PLACE = 1;
+    private static final byte START = 2;
+    private static final byte SHOT = 3;
+    private static final ShipType[] TYPES = ShipType.values();
+
+    private final Path checkpointFile;
+    private final Path logFile;
+    private final int checkpointInterval;
+
+    /* Eventos aún no escritos; protegidos por this */
+    private byte[] pending = new byte[64];
+    private int pendingBytes;
+    private int pendingEvents;
+    private int eventsSinceCheckpoint;
+    private boolean checkpointed;
+    private long gameId = newGameId();
+
+    /** Si ya se comprobó que la bitácora en disco corresponde a esta partida; solo lo escribe write */
+    private volatile boolean logReady;
+
+    /**
+     * @param checkpointFile Archivo del punto de control (el guardado de la partida)
+     * @param checkpointInterval Eventos entre puntos de control
+     */
+    public GameLog(Path checkpointFile, int checkpointInterval) {
+        if (checkpointInterval < 1) {
+            throw new IllegalArgumentException("Intervalo de puntos de control inválido: " + checkpointInterval);
+        }
+        this.checkpointFile = checkpointFile;
+        this.logFile = logFileFor(checkpointFile);
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * @param checkpointFile Archivo del punto de control
+     * @return Bitácora que lo acompaña, con extensión {@code .log}
+     */
+    public static Path logFileFor(Path checkpointFile) {
+        String name = checkpointFile.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return checkpointFile.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + ".log");
+    }
+
+    private static long newGameId() {
+        SplittableRandom random = new SplittableRandom();
+        long id;
+        do {
+            id = random.nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    /**
+     * Continúa una partida cargada con su mismo identificador, para que su
+     * bitácora se siga usando. Sin esto la partida recibe uno nuevo y
+     * empieza otra bitácora. Debe llamarse antes del primer
+     * {@link #prepare(GameState)}.
+     *
+     * @param gameId Identificador del estado cargado; con 0 (guardado antiguo) se queda el nuevo
+     */
+    public synchronized void setGameId(long gameId) {
+        if (checkpointed) {
+            throw new IllegalStateException("La bitácora ya empezó a escribirse");
+        }
+        if (gameId != 0) {
+            this.gameId = gameId;
+        }
+    }
+
+    /* =========================
+       REGISTRO
+       ========================= */
+
+    /**
+     * @param enemy true si el barco es del enemigo
+     * @param ship Barco ya colocado
+     */
+    public synchronized void placed(boolean enemy, Ship ship) {
+        ensureCapacity(8);
+        pending[pendingBytes++] = PLACE;
+        pending[pendingBytes++] = (byte) (enemy ? 1 : 0);
+        pending[pendingBytes++] = (byte) ship.getType().ordinal();
+        putShort(ship.getRow());
+        putShort(ship.getCol());
+        pending[pendingBytes++] = (byte) (ship.isVertical() ? 1 : 0);
+        eventAdded();
+    }
+
+    /**
+     * Fin de la colocación; va después de los barcos de ambos lados.
+     */
+    public synchronized void started() {
+        ensureCapacity(1);
+        pending[pendingBytes++] = START;
+        eventAdded();
+    }
+
+    /**
+     * @param byPlayer true si disparó el jugador
+     * @param row Fila
+     * @param col Columna
+     */
+    public synchronized void shot(boolean byPlayer, int row, int col) {
+        ensureCapacity(6);
+        pending[pendingBytes++] = SHOT;
+        pending[pendingBytes++] = (byte) (byPlayer ? 1 : 0);
+        putShort(row);
+        putShort(col);
+        eventAdded();
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (pendingBytes + bytes > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingBytes + bytes));
+        }
+    }
+
+    private void putShort(int value) {
+        pending[pendingBytes++] = (byte) (value >>> 8);
+        pending[pendingBytes++] = (byte) value;
+    }
+
+    private void eventAdded() {
+        pendingEvents++;
+        eventsSinceCheckpoint++;
+    }
+
+    /* =========================
+       ESCRITURA
+       ========================= */
+
+    /**
+     * Toma los eventos pendientes y, si toca, una instantánea para el punto
+     * de control. Es rápido y no toca el disco; debe llamarse sin que la
+     * partida cambie mientras tanto.
+     *
+     * @param state Estado actual, que ya incluye los eventos pendientes
+     * @return Escritura a hacer con {@link #write(Flush)}
+     * @throws IOException Si el estado no se puede serializar
+     */
+    public synchronized Flush prepare(GameState state) throws IOException {
+        byte[] checkpoint = null;
+        // Mientras la bitácora no esté lista, write puede tener que empezar otra y necesita el punto de control.
+        if (!checkpointed || !logReady || eventsSinceCheckpoint >= checkpointInterval) {
+            checkpoint = SaveManager.toBytes(new GameState(state.getPlayerBoard(), state.getEnemyBoard(),
+                    state.getPhase(), state.getDifficulty(), state.getNickname(), gameId));
+            checkpointed = true;
+            eventsSinceCheckpoint = 0;
+        }
+        int total = eventCount(state);
+        Flush flush = new Flush(state.getPlayerBoard().getSize(), total - pendingEvents, gameId,
+                Arrays.copyOf(pending, pendingBytes), checkpoint);
+        pendingBytes = 0;
+        pendingEvents = 0;
+        return flush;
+    }
+
+    /**
+     * Agrega los eventos a la bitácora y, si la escritura lo incluye,
+     * reescribe el punto de control. La bitácora va primero: si el proceso
+     * se corta entre ambas, el punto de control viejo más la bitácora nueva
+     * siguen dando el estado correcto. Si la bitácora en disco es de otra
+     * partida y hay que empezarla de nuevo, el orden se invierte: el punto
+     * de control ya tiene todos los eventos, y la bitácora vieja que queda
+     * si se corta antes de reemplazarla no corresponde a él.
+     *
+     * @param flush Escritura preparada
+     * @throws IOException Si falla la escritura
+     */
+    public void write(Flush flush) throws IOException {
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        boolean checkpointWritten = false;
+        if (!logReady) {
+            if (eventsInLog(logFile, flush.size, flush.gameId) != flush.firstEvent) {
+                if (flush.checkpoint != null) {
+                    SaveManager.saveBytes(flush.checkpoint, checkpointFile);
+                    checkpointWritten = true;
+                }
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                        .putInt(MAGIC).putInt(VERSION).putInt(flush.size).putInt(flush.firstEvent)
+                        .putLong(flush.gameId);
+                Files.write(logFile, header.array());
+            }
+            logReady = true;
+        }
+        if (flush.events.length > 0) {
+            Files.write(logFile, flush.events, StandardOpenOption.APPEND);
+        }
+        if (flush.checkpoint != null && !checkpointWritten) {
+            SaveManager.saveBytes(flush.checkpoint, checkpointFile);
+        }
+    }
+
+    /**
+     * Borra el punto de control al terminar la partida. La bitácora se
+     * conserva con la historia completa hasta que empiece otra partida.
+     */
+    public void deleteCheckpoint() {
+        SaveManager.deleteSave(checkpointFile);
+    }
+
+    /**
+     * Eventos que contiene un estado: los barcos de ambos tableros, el
+     * inicio si ya se jugó y los disparos de ambos lados.
+     *
+     * @param state Estado de la partida
+     * @return Número de eventos que lo producen
+     */
+    public static int eventCount(GameState state) {
+        return state.getPlayerBoard().getShips().size()
+                + state.getEnemyBoard().getShips().size()
+                + (state.getPhase() == GamePhase.SETUP ? 0 : 1)
+                + state.getPlayerBoard().getShotCount()
+                + state.getEnemyBoard().getShotCount();
+    }
+
+    /* =========================
+       LECTURA
+       ========================= */
+
+    /**
+     * Carga una partida: el punto de control más los eventos posteriores de
+     * la bitácora, si la bitácora es de la misma partida y llega hasta él.
+     *
+     * @param checkpointFile Archivo del punto de control
+     * @return Estado reconstruido
+     * @throws IOException Si no se puede leer el punto de control
+     * @throws ClassNotFoundException Si el punto de control no es un estado válido
+     */
+    public static GameState load(Path checkpointFile) throws IOException, ClassNotFoundException {
+        GameState state = SaveManager.loadGame(checkpointFile);
+        Board player = state.getPlayerBoard();
+        Board enemy = state.getEnemyBoard();
+        Contents contents = readLog(logFileFor(checkpointFile), player.getSize());
+        if (contents == null || contents.gameId != state.getGameId()) {
+            return state;
+        }
+
+        ByteBuffer log = contents.events;
+        int skip = eventCount(state) - contents.baseEvents;
+        if (skip < 0) {
+            return state;
+        }
+        GameEngine engine = new GameEngine(player, enemy, state.getPhase());
+        for (int event = 0; hasEvent(log); event++) {
+            byte tag = log.get(log.position());
+            if (event < skip) {
+                log.position(log.position() + eventBytes(tag));
+                continue;
+            }
+            try {
+                apply(engine, log);
+            } catch (GameStateException | InvalidPlacementException e) {
+                System.err.println("Bitácora inconsistente, se carga hasta el evento " + event + ": " + e.getMessage());
+                break;
+            }
+        }
+        return new GameState(player, enemy, engine.getPhase(), state.getDifficulty(), state.getNickname(),
+                state.getGameId());
+    }
+
+    /**
+     * Lee la historia completa guardada en la bitácora.
+     *
+     * @param logFile Archivo de bitácora
+     * @param size Tamaño del tablero
+     * @return Eventos en orden, desde el primero que contiene el archivo
+     * @throws IOException Si no se puede leer
+     */
+    public static List<Event> readEvents(Path logFile, int size) throws IOException {
+        List<Event> events = new ArrayList<>();
+        Contents contents = readLog(logFile, size);
+        if (contents == null) {
+            return events;
+        }
+        ByteBuffer log = contents.events;
+        while (hasEvent(log)) {
+            byte tag = log.get();
+            switch (tag) {
+                case PLACE -> {
+                    boolean enemy = log.get() != 0;
+                    ShipType type = TYPES[log.get() & 0xFF];
+                    int row = log.getShort() & 0xFFFF;
+                    int col = log.getShort() & 0xFFFF;
+                    events.add(new Event(Event.Kind.PLACE, !enemy, type, row, col, log.get() != 0));
+                }
+                case START -> events.add(new Event(Event.Kind.START, true, null, -1, -1, false));
+                default -> {
+                    boolean byPlayer = log.get() != 0;
+                    int row = log.getShort() & 0xFFFF;
+                    int col = log.getShort() & 0xFFFF;
+                    events.add(new Event(Event.Kind.SHOT, byPlayer, null, row, col, false));
+                }
+            }
+        }
+        return events;
+    }
+
+    private static void apply(GameEngine engine, ByteBuffer log) throws InvalidPlacementException {
+        byte tag = log.get();
+        switch (tag) {
+            case PLACE -> {
+                boolean enemy = log.get() != 0;
+                Ship ship = new Ship(TYPES[log.get() & 0xFF]);
+                int row = log.getShort() & 0xFFFF;
+                int col = log.getShort() & 0xFFFF;
+                boolean vertical = log.get() != 0;
+                if (enemy) {
+                    engine.getEnemyBoard().placeShip(ship, row, col, vertical);
+                } else {
+                    engine.place(ship, row, col, vertical);
+                }
+            }
+            case START -> engine.start(new SplittableRandom());
+            default -> {
+                boolean byPlayer = log.get() != 0;
+                int row = log.getShort() & 0xFFFF;
+                int col = log.getShort() & 0xFFFF;
+                if (byPlayer) {
+                    engine.playerShoots(row, col);
+                } else {
+                    engine.enemyShoots(row, col);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Bitácora con los eventos después de la cabecera, o null si no existe o no es de ese tamaño
+     */
+    private static Contents readLog(Path logFile, int size) throws IOException {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(logFile);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        ByteBuffer log = ByteBuffer.wrap(data);
+        if (data.length < LEGACY_HEADER_BYTES || log.getInt() != MAGIC) {
+            return null;
+        }
+        int version = log.getInt();
+        if ((version != VERSION && version != LEGACY_VERSION) || log.getInt() != size) {
+            return null;
+        }
+        int baseEvents = log.getInt();
+        if (version == LEGACY_VERSION) {
+            return new Contents(log, baseEvents, 0);
+        }
+        return data.length < HEADER_BYTES ? null : new Contents(log, baseEvents, log.getLong());
+    }
+
+    /**
+     * @return Eventos anteriores al fin de la bitácora (los de antes del archivo más los que tiene),
+     *         o -1 si no sirve o es de otra partida
+     */
+    private static int eventsInLog(Path logFile, int size, long gameId) throws IOException {
+        Contents contents = readLog(logFile, size);
+        if (contents == null || contents.gameId != gameId) {
+            return -1;
+        }
+        ByteBuffer log = contents.events;
+        int events = contents.baseEvents;
+        while (hasEvent(log)) {
+            log.position(log.position() + eventBytes(log.get(log.position())));
+            events++;
+        }
+        // Un evento cortado a medias se descarta al seguir escribiendo
+        return log.hasRemaining() ? -1 : events;
+    }
+
+    /**
+     * Un evento con un tipo de barco que no existe se trata como uno cortado:
+     * la bitácora se lee solo hasta antes de él.
+     */
+    private static boolean hasEvent(ByteBuffer log) {
+        if (!log.hasRemaining()) {
+            return false;
+        }
+        byte tag = log.get(log.position());
+        int bytes = eventBytes(tag);
+        if (bytes <= 0 || log.remaining() < bytes) {
+            return false;
+        }
+        return tag != PLACE || (log.get(log.position() + 2) & 0xFF) < TYPES.length;
+    }
+
+    private static int eventBytes(byte tag) {
+        return switch (tag) {
+            case PLACE -> 8;
+            case START -> 1;
+            case SHOT -> 6;
+            default -> -1;
+        };
+    }
+
+    /**
+     * Bitácora leída: los eventos, desde la posición actual de {@link #events},
+     * y los datos de su cabecera.
+     */
+    private static final class Contents {
+        private final ByteBuffer events;
+        private final int baseEvents;
+        private final long gameId;
+
+        Contents(ByteBuffer events, int baseEvents, long gameId) {
+            this.events = events;
+            this.baseEvents = baseEvents;
+            this.gameId = gameId;
+        }
+    }
+
+    /**
+     * Escritura preparada por {@link #prepare(GameState)}: eventos nuevos y,
+     * a veces, un punto de control.
+     */
+    public static final class Flush {
+        private final int size;
+        /** Eventos anteriores al primero de {@link #events} */
+        private final int firstEvent;
+        private final long gameId;
+        private final byte[] events;
+        private final byte[] checkpoint;
+
+        private Flush(int size, int firstEvent, long gameId, byte[] events, byte[] checkpoint) {
+            this.size = size;
+            this.firstEvent = firstEvent;
+            this.gameId = gameId;
+            this.events = events;
+            this.checkpoint = checkpoint;
+        }
+
+        /**
+         * @return Bytes de eventos a agregar
+         */
+        public int getEventBytes() {
+            return events.length;
+        }
+
+        /**
+         * @return true si incluye un punto de control
+         */
+        public boolean hasCheckpoint() {
+            return checkpoint != null;
+        }
+    }
+
+    /**
+     * Un evento de la historia de la partida.
+     */
+    public static final class Event {
+        /** Tipo de evento */
+        public enum Kind { PLACE, START, SHOT }
+
+        private final Kind kind;
+        private final boolean player;
+        private final ShipType shipType;
+        private final int row;
+        private final int col;
+        private final boolean vertical;
+
+        Event(Kind kind, boolean player, ShipType shipType, int row, int col, boolean vertical) {
+            this.kind = kind;
+            this.player = player;
+            this.shipType = shipType;
+            this.row = row;
+            this.col = col;
+            this.vertical = vertical;
+        }
+
+        public Kind getKind() { return kind; }
+
+        /** @return true si el barco es del jugador o disparó el jugador */
+        public boolean isPlayer() { return player; }
+
+        /** @return Tipo de barco colocado, o null si no es una colocación */
+        public ShipType getShipType() { return shipType; }
+
+        public int getRow() { return row; }
+
+        public int getCol() { return col; }
+
+        public boolean isVertical() { return vertical; }
+
+        @Override
+        public String toString() {
+            return switch (kind) {
+                case PLACE -> (player ? "Jugador" : "Enemigo") + " coloca " + shipType.getName()
+                        + " en " + row + "," + col + (vertical ? " vertical" : "");
+                case START -> "Inicio";
+                case SHOT -> (player ? "Jugador" : "Enemigo") + " dispara a " + row + "," + col;
+            };
+        }
+    }
+}
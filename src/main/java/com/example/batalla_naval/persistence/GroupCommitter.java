@@ -0,0 +1,246 @@
+package com.example.batalla_naval.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Escritura atómica de archivos de guardado con confirmación en grupo.
+ * Cada archivo se escribe completo en un temporal de la misma carpeta, la
+ * versión anterior pasa a {@code .bak} y el temporal se renombra encima con
+ * un movimiento atómico, así que un corte a mitad de escritura nunca deja
+ * un guardado a medias: queda el anterior o el nuevo.
+ * Cuando varias partidas guardan a la vez, el primer hilo que llega escribe
+ * el lote de todos los que esperan (los demás solo aguardan su resultado):
+ * dos pedidos al mismo archivo en un lote se reducen al más reciente y, con
+ * fsync activado, cada carpeta se sincroniza una sola vez por lote en lugar
+ * de una vez por archivo.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class GroupCommitter {
+
+    private final Object lock = new Object();
+    private List<Entry> pending = new ArrayList<>();
+    private boolean committing;
+    private volatile boolean fsync;
+
+    private long batches;
+    private long commits;
+
+    /**
+     * @param fsync true para forzar los datos al disco antes de renombrar
+     */
+    public GroupCommitter(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    /**
+     * @param fsync true para forzar los datos al disco antes de renombrar
+     */
+    public void setFsync(boolean fsync) {
+        this.fsync = fsync;
+    }
+
+    /**
+     * @param file Archivo de guardado
+     * @return Copia anterior que se conserva junto a él
+     */
+    public static Path backupOf(Path file) {
+        return file.resolveSibling(file.getFileName() + ".bak");
+    }
+
+    /**
+     * Escribe un archivo de forma atómica y vuelve cuando el lote que lo
+     * contiene quedó escrito (o fue reemplazado por un pedido más reciente
+     * del mismo archivo).
+     *
+     * @param file Archivo destino
+     * @param data Contenido completo
+     * @throws IOException Si falla la escritura
+     */
+    public void write(Path file, byte[] data) throws IOException {
+        Entry entry = new Entry(file.toAbsolutePath(), data);
+        List<Entry> batch;
+        synchronized (lock) {
+            pending.add(entry);
+            while (committing && !entry.done) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrumpido esperando el guardado", e);
+                }
+            }
+            if (entry.done) {
+                entry.result();
+                return;
+            }
+            committing = true;
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+
+        try {
+            commit(batch);
+        } finally {
+            synchronized (lock) {
+                committing = false;
+                batches++;
+                commits += batch.size();
+                lock.notifyAll();
+            }
+        }
+        entry.result();
+    }
+
+    private void commit(List<Entry> batch) {
+        Map<Path, Entry> latest = new LinkedHashMap<>();
+        for (Entry entry : batch) {
+            Entry older = latest.put(entry.file, entry);
+            if (older != null) {
+                older.done = true;
+            }
+        }
+
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Entry entry : latest.values()) {
+            try {
+                replace(entry.file, entry.data);
+                directories.add(entry.file.getParent());
+            } catch (IOException e) {
+                entry.error = e;
+            }
+        }
+        if (fsync) {
+            for (Path directory : directories) {
+                syncDirectory(directory);
+            }
+        }
+        for (Entry entry : latest.values()) {
+            entry.done = true;
+        }
+    }
+
+    private void replace(Path file, byte[] data) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, ByteBuffer.wrap(data));
+            if (fsync) {
+                channel.force(false);
+            }
+        }
+        try {
+            move(file, backupOf(file));
+        } catch (NoSuchFileException e) {
+            // Primer guardado: no hay versión anterior.
+        }
+        move(tmp, file);
+    }
+
+    /**
+     * Renombra un archivo reemplazando el destino, de forma atómica si el
+     * sistema de archivos lo permite.
+     *
+     * @param from Archivo a mover
+     * @param to Destino
+     * @throws IOException Si no se pudo mover
+     */
+    static void move(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Escribe todo el contenido de un búfer, aunque el canal lo acepte por partes.
+     *
+     * @param channel Canal de destino
+     * @param buffer Bytes a escribir
+     * @throws IOException Si falla la escritura
+     */
+    static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Escribe la cabecera de los registros de solo agregar: número mágico y
+     * versión, 8 bytes.
+     *
+     * @param channel Canal de destino
+     * @param magic Número mágico del formato
+     * @param version Versión del formato
+     * @throws IOException Si falla la escritura
+     */
+    static void writeHeader(FileChannel channel, int magic, int version) throws IOException {
+        writeFully(channel, ByteBuffer.allocate(2 * Integer.BYTES).putInt(magic).putInt(version).flip());
+    }
+
+    /**
+     * Hace durables los renombres de una carpeta. No todos los sistemas
+     * permiten abrir una carpeta; ahí basta con el fsync de cada archivo.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Sin soporte para sincronizar carpetas.
+        }
+    }
+
+    /**
+     * @return Lotes escritos
+     */
+    public long getBatches() {
+        synchronized (lock) {
+            return batches;
+        }
+    }
+
+    /**
+     * @return Pedidos de escritura atendidos (incluidos los reemplazados dentro de un lote)
+     */
+    public long getCommits() {
+        synchronized (lock) {
+            return commits;
+        }
+    }
+
+    private static final class Entry {
+        private final Path file;
+        private final byte[] data;
+        /** Escritos y leídos bajo el candado del que confirma o tras notifyAll */
+        private boolean done;
+        private IOException error;
+
+        Entry(Path file, byte[] data) {
+            this.file = file;
+            this.data = data;
+        }
+
+        void result() throws IOException {
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+}
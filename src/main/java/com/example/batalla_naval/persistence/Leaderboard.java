@@ -0,0 +1,473 @@
+package com.example.batalla_naval.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Tabla de posiciones de los jugadores: el mejor número de barcos hundidos
+ * de cada apodo, con consultas de los N primeros y de la posición de un
+ * jugador en O(log n).
+ * En memoria los jugadores están en una {@link RankedSkipList} (ordenada por
+ * puntaje) y en un mapa apodo → puntaje. En disco hay un registro binario
+ * al que solo se agregan entradas:
+ * <pre>
+ * cabecera 'BNLB', versión (4 bytes cada uno)
+ * entrada  largo del apodo (2 bytes), apodo UTF-8, puntaje (4 bytes),
+ *          CRC32C de lo anterior (4 bytes)
+ * </pre>
+ * Solo se escribe cuando un jugador mejora su marca y, al releer, gana el
+ * puntaje más alto de cada apodo, así que el orden de las entradas no
+ * importa. Cuando el registro tiene más del doble de entradas que jugadores
+ * se compacta en segundo plano: se reescribe una entrada por jugador, en
+ * orden de ranking, en un temporal que reemplaza al registro con un
+ * movimiento atómico. Al abrir, ese orden permite armar el índice de una
+ * pasada; una entrada cortada al final se descarta.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class Leaderboard implements Closeable {
+    /** Primeros bytes del registro ("BNLB") */
+    public static final int MAGIC = 0x424E4C42;
+    /** Versión actual del formato */
+    public static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    /** Bytes de una entrada además del apodo */
+    private static final int ENTRY_OVERHEAD = 2 + 4 + 4;
+    private static final int MAX_NICKNAME_BYTES = 1024;
+    /** Por debajo de esta cantidad de entradas no vale la pena compactar */
+    private static final int COMPACT_MIN_ENTRIES = 1024;
+
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "leaderboard-compactor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Path file;
+    private final ReentrantReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> scores;
+    private final RankedSkipList ranking = new RankedSkipList();
+
+    /** Protege el canal, las entradas escritas y la compactación */
+    private final Object logLock = new Object();
+    private FileChannel channel;
+    private long entries;
+    private boolean compacting;
+    private boolean closed;
+
+    private Leaderboard(Path file, Map<String, Integer> scores, FileChannel channel, long entries) {
+        this.file = file;
+        this.scores = scores;
+        this.channel = channel;
+        this.entries = entries;
+    }
+
+    /**
+     * Abre la tabla guardada en un archivo, o la crea vacía.
+     *
+     * @param file Registro de la tabla
+     * @return Tabla cargada
+     * @throws IOException Si el archivo no es un registro válido
+     */
+    public static Leaderboard open(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Files.deleteIfExists(tempOf(file));
+
+        long validEnd = HEADER_BYTES;
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Loaded loaded;
+        try {
+            long size = channel.size();
+            // Apodos de unos 8 bytes: alcanza para no agrandar el mapa al leer.
+            loaded = new Loaded((int) Math.min(size / (ENTRY_OVERHEAD + 8), 1 << 24));
+            if (size < HEADER_BYTES) {
+                GroupCommitter.writeHeader(channel, MAGIC, VERSION);
+            } else {
+                ByteBuffer in = read(channel, 0, size);
+                if (in.getInt() != MAGIC) {
+                    throw new IOException("No es una tabla de posiciones: " + file);
+                }
+                int version = in.getInt();
+                if (version != VERSION) {
+                    throw new IOException("Versión de tabla no soportada: " + version);
+                }
+                byte[] data = in.array();
+                CRC32C crc = new CRC32C();
+                while (in.remaining() >= ENTRY_OVERHEAD) {
+                    int start = in.position();
+                    int length = in.getShort() & 0xFFFF;
+                    if (length > MAX_NICKNAME_BYTES || in.remaining() < length + 8) {
+                        break;
+                    }
+                    int score = in.getInt(start + 2 + length);
+                    crc.reset();
+                    crc.update(data, start, 2 + length + 4);
+                    if ((int) crc.getValue() != in.getInt(start + 2 + length + 4)) {
+                        break;
+                    }
+                    loaded.add(new String(data, start + 2, length, StandardCharsets.UTF_8), score);
+                    validEnd = start + ENTRY_OVERHEAD + length;
+                    in.position((int) validEnd);
+                }
+                if (validEnd < size) {
+                    System.err.println("Tabla de posiciones cortada en el byte " + validEnd + ", se descarta el resto");
+                    channel.truncate(validEnd);
+                }
+            }
+            channel.position(channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+        Leaderboard board = new Leaderboard(file, loaded.best, channel, loaded.count);
+        board.rebuildIndex(loaded);
+        return board;
+    }
+
+    /**
+     * Entradas leídas del registro, en el orden del archivo.
+     */
+    private static final class Loaded {
+        private final Map<String, Integer> best;
+        private String[] names;
+        private int[] scores;
+        private int count;
+
+        Loaded(int expected) {
+            best = new HashMap<>(expected * 4 / 3 + 1);
+            names = new String[Math.max(16, expected)];
+            scores = new int[names.length];
+        }
+
+        void add(String name, int score) {
+            if (count == names.length) {
+                names = Arrays.copyOf(names, count * 2);
+                scores = Arrays.copyOf(scores, count * 2);
+            }
+            names[count] = name;
+            scores[count] = score;
+            count++;
+            best.merge(name, score, Math::max);
+        }
+
+        /** true si la entrada i va justo después de la i-1 en el ranking */
+        boolean follows(int i) {
+            return scores[i - 1] > scores[i]
+                    || scores[i - 1] == scores[i] && names[i - 1].compareTo(names[i]) < 0;
+        }
+    }
+
+    /**
+     * Arma el índice. Tras una compactación el registro empieza con una
+     * entrada por jugador en orden de ranking: ese tramo se enlaza de una
+     * pasada sin comparar, y solo lo escrito después se inserta uno a uno.
+     */
+    private void rebuildIndex(Loaded loaded) {
+        int sorted = Math.min(1, loaded.count);
+        while (sorted < loaded.count && loaded.follows(sorted)) {
+            sorted++;
+        }
+
+        String[] names = loaded.names;
+        int[] scores = loaded.scores;
+        int kept = 0;
+        for (int i = 0; i < sorted; i++) {
+            if (loaded.best.get(names[i]) == scores[i]) {
+                names[kept] = names[i];
+                scores[kept] = scores[i];
+                kept++;
+            }
+        }
+        ranking.addAllSorted(names, scores, kept);
+
+        for (int i = sorted; i < loaded.count; i++) {
+            String name = loaded.names[i];
+            int score = loaded.scores[i];
+            if (loaded.best.get(name) == score && ranking.rank(score, name) == 0) {
+                ranking.insert(score, name);
+            }
+        }
+    }
+
+    /**
+     * Registra una marca. Solo cambia la tabla (y se escribe) si mejora la
+     * mejor marca del jugador.
+     *
+     * @param nickname Apodo del jugador
+     * @param shipsSunk Barcos hundidos
+     * @return true si era una nueva mejor marca
+     * @throws IOException Si falla la escritura del registro
+     */
+    public boolean submit(String nickname, int shipsSunk) throws IOException {
+        if (nickname == null || shipsSunk < 0) {
+            throw new IllegalArgumentException("Registro inválido: " + nickname + ", " + shipsSunk);
+        }
+        byte[] name = nickname.getBytes(StandardCharsets.UTF_8);
+        if (name.length > MAX_NICKNAME_BYTES) {
+            throw new IllegalArgumentException("Apodo demasiado largo: " + name.length + " bytes");
+        }
+
+        indexLock.writeLock().lock();
+        try {
+            Integer best = scores.get(nickname);
+            if (best != null && best >= shipsSunk) {
+                return false;
+            }
+            if (best != null) {
+                ranking.remove(best, nickname);
+            }
+            ranking.insert(shipsSunk, nickname);
+            scores.put(nickname, shipsSunk);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+
+        ByteBuffer entry = encode(name, shipsSunk);
+        boolean compact;
+        synchronized (logLock) {
+            if (closed) {
+                throw new IOException("Tabla de posiciones cerrada");
+            }
+            GroupCommitter.writeFully(channel, entry);
+            entries++;
+            compact = !compacting && needsCompaction();
+            compacting |= compact;
+        }
+        if (compact) {
+            COMPACTOR.execute(this::compactInBackground);
+        }
+        return true;
+    }
+
+    /**
+     * @param nickname Apodo del jugador
+     * @return Mejor marca, o -1 si el jugador no está
+     */
+    public int scoreOf(String nickname) {
+        indexLock.readLock().lock();
+        try {
+            Integer best = scores.get(nickname);
+            return best == null ? -1 : best;
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param nickname Apodo del jugador
+     * @return Posición empezando en 1 (a igual marca, por orden alfabético), o -1 si no está
+     */
+    public int rankOf(String nickname) {
+        indexLock.readLock().lock();
+        try {
+            Integer best = scores.get(nickname);
+            return best == null ? -1 : ranking.rank(best, nickname);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param n Cantidad de jugadores
+     * @return Los n mejores, de primero a último
+     */
+    public List<PlayerRecord> top(int n) {
+        indexLock.readLock().lock();
+        try {
+            return ranking.top(n);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Jugadores en la tabla
+     */
+    public int size() {
+        indexLock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Entradas en el registro en disco (una por jugador justo después de compactar)
+     */
+    public long getLogEntries() {
+        synchronized (logLock) {
+            return entries;
+        }
+    }
+
+    private boolean needsCompaction() {
+        return entries > COMPACT_MIN_ENTRIES && entries > 2L * size();
+    }
+
+    /** Corre en COMPACTOR; submit ya marcó compacting al encargarla */
+    private void compactInBackground() {
+        try {
+            rewrite();
+        } catch (IOException e) {
+            System.err.println("No se pudo compactar la tabla de posiciones: " + e.getMessage());
+        } finally {
+            synchronized (logLock) {
+                compacting = false;
+            }
+        }
+    }
+
+    /**
+     * Reescribe el registro con una entrada por jugador. Las marcas que
+     * llegan mientras tanto se siguen escribiendo en el registro viejo y se
+     * copian al nuevo justo antes de reemplazarlo.
+     *
+     * @return false si ya había una compactación en curso y no se hizo otra
+     * @throws IOException Si falla la escritura; el registro anterior queda intacto
+     */
+    public boolean compact() throws IOException {
+        synchronized (logLock) {
+            if (compacting) {
+                return false;
+            }
+            compacting = true;
+        }
+        try {
+            rewrite();
+            return true;
+        } finally {
+            synchronized (logLock) {
+                compacting = false;
+            }
+        }
+    }
+
+    /** Solo la llama quien puso compacting en true, así que nunca corren dos a la vez */
+    private void rewrite() throws IOException {
+        long copiedUpTo;
+        synchronized (logLock) {
+            if (closed) {
+                return;
+            }
+            copiedUpTo = channel.size();
+        }
+        // Todo lo escrito antes de copiedUpTo ya está en el índice.
+        List<PlayerRecord> snapshot;
+        indexLock.readLock().lock();
+        try {
+            snapshot = ranking.top(Integer.MAX_VALUE);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+
+        Path tmp = tempOf(file);
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            GroupCommitter.writeHeader(out, MAGIC, VERSION);
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            for (PlayerRecord record : snapshot) {
+                byte[] name = record.getNickname().getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < name.length + ENTRY_OVERHEAD) {
+                    GroupCommitter.writeFully(out, buffer.flip());
+                    buffer.clear();
+                }
+                buffer.put(encode(name, record.getShipsSunk()));
+            }
+            GroupCommitter.writeFully(out, buffer.flip());
+
+            synchronized (logLock) {
+                if (closed) {
+                    return;
+                }
+                long end = channel.size();
+                long position = copiedUpTo;
+                while (position < end) {
+                    position += channel.transferTo(position, end - position, out);
+                }
+                long tailEntries = countEntries(channel, copiedUpTo, end);
+                out.force(false);
+                GroupCommitter.move(tmp, file);
+                channel.close();
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                channel.position(channel.size());
+                entries = snapshot.size() + tailEntries;
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static long countEntries(FileChannel channel, long from, long to) throws IOException {
+        if (from >= to) {
+            return 0;
+        }
+        ByteBuffer in = read(channel, from, to - from);
+        long count = 0;
+        while (in.remaining() >= ENTRY_OVERHEAD) {
+            int length = in.getShort() & 0xFFFF;
+            in.position(in.position() + length + 8);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Lee una parte del archivo a memoria de una vez; es lo que hace que
+     * abrir una tabla grande sea rápido.
+     */
+    private static ByteBuffer read(FileChannel channel, long from, long length) throws IOException {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IOException("Tabla de posiciones demasiado grande: " + length + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) >= 0) {
+            // Sigue hasta llenar el búfer o llegar al final.
+        }
+        return buffer.flip();
+    }
+
+    private static ByteBuffer encode(byte[] name, int score) {
+        ByteBuffer entry = ByteBuffer.allocate(name.length + ENTRY_OVERHEAD);
+        entry.putShort((short) name.length).put(name).putInt(score);
+        CRC32C crc = new CRC32C();
+        crc.update(entry.array(), 0, entry.position());
+        entry.putInt((int) crc.getValue());
+        return entry.flip();
+    }
+
+    private static Path tempOf(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    /**
+     * Cierra el registro. Las marcas ya registradas quedan escritas.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (logLock) {
+            if (!closed) {
+                closed = true;
+                channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.batalla_naval.persistence;
+
+import com.example.batalla_naval.exceptions.GameStateException;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.GamePhase;
+import com.example.batalla_naval.model.GameState;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lee los guardados serializados con Java por las primeras versiones, en
+ * las que el tablero guardaba un mapa de celdas y las posiciones, los
+ * impactos y los disparos como texto ("fila,columna"). Las clases actuales
+ * ya no tienen esos campos, así que al leer se cambian esas clases por
+ * copias privadas con los campos de entonces, y con ellas se arman los
+ * tableros de ahora: se colocan los barcos y se repiten los disparos en el
+ * orden en que se hicieron. Las fases, que entonces estaban dentro del
+ * controlador, se leen como {@link GamePhase}.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+final class LegacySaveReader {
+    private static final String MODEL = "com.example.batalla_naval.model.";
+    /** Nombre de las fases cuando estaban dentro del controlador */
+    private static final String OLD_PHASE = "com.example.batalla_naval.controller.GameController$GamePhase";
+
+    /** Clases antiguas y su copia, que tiene sus mismos campos y su serialVersionUID */
+    private static final Map<String, Class<?>> LEGACY_CLASSES = Map.of(
+            MODEL + "GameState", OldGameState.class,
+            MODEL + "Board", OldBoard.class,
+            MODEL + "Cell", OldCell.class,
+            MODEL + "Ship", OldShip.class);
+
+    private LegacySaveReader() {
+    }
+
+    /**
+     * @param data Bytes de un guardado serializado con Java
+     * @return Estado de la partida
+     * @throws IOException Si los bytes no son una partida o sus tableros no son consistentes
+     * @throws ClassNotFoundException Si el guardado usa una clase que no existe
+     */
+    static GameState read(byte[] data) throws IOException, ClassNotFoundException {
+        Object saved;
+        try (ObjectInputStream in = new MigratingInputStream(data)) {
+            saved = in.readObject();
+        }
+        if (saved instanceof GameState) {
+            return (GameState) saved;
+        }
+        if (!(saved instanceof OldGameState)) {
+            throw new IOException("No es una partida guardada");
+        }
+        OldGameState old = (OldGameState) saved;
+        return new GameState(toBoard(old.playerBoard), toBoard(old.enemyBoard), old.phase);
+    }
+
+    private static Board toBoard(OldBoard old) throws IOException {
+        if (old == null || old.ships == null || old.shotsHistory == null) {
+            throw new IOException("Guardado antiguo incompleto");
+        }
+        Board board = new Board();
+        try {
+            for (OldShip ship : old.ships) {
+                if (ship.type == null || ship.positions == null || ship.positions.isEmpty()) {
+                    throw new IOException("Barco incompleto en el guardado antiguo");
+                }
+                int[] start = cell(ship.positions.get(0));
+                boolean vertical = ship.positions.size() > 1 && cell(ship.positions.get(1))[0] != start[0];
+                board.placeShip(new Ship(ship.type), start[0], start[1], vertical);
+            }
+            // El historial está del más reciente al más antiguo.
+            for (Iterator<String> shots = old.shotsHistory.descendingIterator(); shots.hasNext(); ) {
+                int[] shot = cell(shots.next());
+                board.shootAt(shot[0], shot[1]);
+            }
+        } catch (InvalidPlacementException | GameStateException e) {
+            throw new IOException("Tablero inconsistente en el guardado antiguo: " + e.getMessage(), e);
+        }
+        return board;
+    }
+
+    /**
+     * @param key Celda como "fila,columna"
+     * @return Fila y columna
+     */
+    private static int[] cell(String key) throws IOException {
+        int comma = key == null ? -1 : key.indexOf(',');
+        try {
+            if (comma > 0) {
+                return new int[]{Integer.parseInt(key.substring(0, comma)), Integer.parseInt(key.substring(comma + 1))};
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo igual que un texto sin coma.
+        }
+        throw new IOException("Celda inválida en el guardado antiguo: " + key);
+    }
+
+    /**
+     * Flujo que lee las clases antiguas como sus copias. Solo las cambia si
+     * el guardado trae el mismo serialVersionUID y los mismos campos, así que
+     * lo guardado con las clases actuales se sigue leyendo con ellas.
+     */
+    private static final class MigratingInputStream extends ObjectInputStream {
+        MigratingInputStream(byte[] data) throws IOException {
+            super(new ByteArrayInputStream(data));
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            ObjectStreamClass saved = super.readClassDescriptor();
+            if (saved.getName().equals(OLD_PHASE)) {
+                // Las constantes se leen por nombre, así que basta con cambiar la clase.
+                return ObjectStreamClass.lookup(GamePhase.class);
+            }
+            Class<?> legacy = LEGACY_CLASSES.get(saved.getName());
+            if (legacy == null) {
+                return saved;
+            }
+            ObjectStreamClass copy = ObjectStreamClass.lookup(legacy);
+            return copy.getSerialVersionUID() == saved.getSerialVersionUID() && sameFields(saved, copy)
+                    ? copy
+                    : saved;
+        }
+
+        private static boolean sameFields(ObjectStreamClass a, ObjectStreamClass b) {
+            ObjectStreamField[] fa = a.getFields();
+            ObjectStreamField[] fb = b.getFields();
+            if (fa.length != fb.length) {
+                return false;
+            }
+            for (int i = 0; i < fa.length; i++) {
+                if (!fa[i].getName().equals(fb[i].getName()) || fa[i].getTypeCode() != fb[i].getTypeCode()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /* =========================
+       CLASES DE LA PRIMERA VERSIÓN
+       ========================= */
+
+    private static final class OldGameState implements Serializable {
+        private static final long serialVersionUID = 1762764461013608899L;
+
+        private OldBoard playerBoard;
+        private OldBoard enemyBoard;
+        private GamePhase phase;
+    }
+
+    private static final class OldBoard implements Serializable {
+        private static final long serialVersionUID = 3096947896952990833L;
+
+        private Map<String, OldCell> cells;
+        private List<OldShip> ships;
+        private Set<String> occupied;
+        private LinkedList<String> shotsHistory;
+    }
+
+    private static final class OldCell implements Serializable {
+        private static final long serialVersionUID = -5368547808875891094L;
+
+        private int row;
+        private int col;
+        private boolean wasShot;
+        private OldShip ship;
+    }
+
+    private static final class OldShip implements Serializable {
+        private static final long serialVersionUID = 8116713592396267211L;
+
+        private ShipType type;
+        private List<String> positions;
+        private List<String> hits;
+    }
+}
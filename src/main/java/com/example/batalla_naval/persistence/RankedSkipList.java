@@ -0,0 +1,198 @@
+package com.example.batalla_naval.persistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Lista de saltos ordenada por puntaje (de mayor a menor, y por apodo en
+ * los empates) en la que cada enlace guarda cuántos elementos salta. Con
+ * eso, además de insertar y borrar, se obtiene la posición de un jugador en
+ * O(log n) sumando los saltos del camino. No es segura entre hilos; la
+ * protege {@link Leaderboard}.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+final class RankedSkipList {
+    private static final int MAX_LEVEL = 32;
+
+    private final Node head = new Node(null, 0, MAX_LEVEL);
+    private final SplittableRandom random = new SplittableRandom(0x5EED);
+    private int level = 1;
+    private int size;
+
+    private static final class Node {
+        private final String name;
+        private final int score;
+        private final Node[] next;
+        /** Elementos que avanza cada enlace (incluido el nodo de llegada) */
+        private final int[] span;
+
+        Node(String name, int score, int levels) {
+            this.name = name;
+            this.score = score;
+            this.next = new Node[levels];
+            this.span = new int[levels];
+        }
+    }
+
+    /** Orden del ranking: primero el puntaje más alto y, a igual puntaje, el apodo */
+    private static int compare(Node node, int score, String name) {
+        if (node.score != score) {
+            return node.score > score ? -1 : 1;
+        }
+        return node.name.compareTo(name);
+    }
+
+    private int randomLevel() {
+        int lvl = 1;
+        while (lvl < MAX_LEVEL && random.nextInt(4) == 0) {
+            lvl++;
+        }
+        return lvl;
+    }
+
+    /**
+     * @param score Puntaje
+     * @param name Apodo; no debe estar ya con ese puntaje
+     */
+    void insert(int score, String name) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], score, name) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int lvl = randomLevel();
+        if (lvl > level) {
+            for (int i = level; i < lvl; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = lvl;
+        }
+
+        Node node = new Node(name, score, lvl);
+        for (int i = 0; i < lvl; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = lvl; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * Carga una lista vacía de una pasada, enlazando cada elemento al final.
+     *
+     * @param names Apodos, ya en orden de ranking y sin repetidos
+     * @param scores Puntaje de cada apodo
+     * @param count Elementos a cargar
+     */
+    void addAllSorted(String[] names, int[] scores, int count) {
+        if (size != 0) {
+            throw new IllegalStateException("La lista debe estar vacía");
+        }
+        Node[] tail = new Node[MAX_LEVEL];
+        int[] tailRank = new int[MAX_LEVEL];
+        Arrays.fill(tail, head);
+        for (int k = 0; k < count; k++) {
+            int lvl = randomLevel();
+            level = Math.max(level, lvl);
+            Node node = new Node(names[k], scores[k], lvl);
+            size++;
+            for (int i = 0; i < lvl; i++) {
+                tail[i].next[i] = node;
+                tail[i].span[i] = size - tailRank[i];
+                tail[i] = node;
+                tailRank[i] = size;
+            }
+        }
+        // Los últimos enlaces de cada nivel cuentan hasta el final de la lista.
+        for (int i = 0; i < level; i++) {
+            tail[i].span[i] = size - tailRank[i];
+        }
+    }
+
+    /**
+     * @param score Puntaje con el que está guardado
+     * @param name Apodo
+     * @return true si estaba y se borró
+     */
+    boolean remove(int score, String name) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], score, name) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        x = x.next[0];
+        if (x == null || x.score != score || !x.name.equals(name)) {
+            return false;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * @param score Puntaje con el que está guardado
+     * @param name Apodo
+     * @return Posición empezando en 1, o 0 si no está
+     */
+    int rank(int score, String name) {
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], score, name) <= 0) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && x.score == score && x.name.equals(name)) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param n Máximo de elementos
+     * @return Los primeros n, en orden de ranking
+     */
+    List<PlayerRecord> top(int n) {
+        List<PlayerRecord> result = new ArrayList<>(Math.min(n, size));
+        for (Node x = head.next[0]; x != null && result.size() < n; x = x.next[0]) {
+            result.add(new PlayerRecord(x.name, x.score));
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.batalla_naval.persistence;
+
+import com.example.batalla_naval.exceptions.GameStateException;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Difficulty;
+import com.example.batalla_naval.model.GamePhase;
+import com.example.batalla_naval.model.GameState;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Formato binario propio de las partidas guardadas, en lugar de la
+ * serialización de Java. Todo se escribe y se lee campo a campo, sin
+ * reflexión:
+ * <pre>
+ * cabecera   'BNSV', versión (1 byte)
+ * partida    fase, dificultad (1 byte cada una; 0xFF si no se conoce),
+ *            apodo (largo variable + UTF-8), identificador de la partida
+ *            (8 bytes, desde la versión 3; 0 si no se conoce)
+ * tablero x2 tamaño, número de barcos y por barco tipo*2+vertical y celda
+ *            inicial, número de disparos y las celdas disparadas en orden
+ * cola       CRC32C de todo lo anterior (4 bytes, desde la versión 2)
+ * </pre>
+ * Los enteros van como varint (7 bits por byte), así que en un tablero de
+ * 10x10 cada barco ocupa 2 bytes y cada disparo 1: una partida completa
+ * cabe en unos doscientos bytes. La ocupación y los impactos no se guardan
+ * porque se deducen de los barcos y los disparos; al leer, el tablero se
+ * reconstruye colocando los barcos y repitiendo los disparos, lo que además
+ * valida el archivo y deja las claves Zobrist y el historial iguales. La
+ * suma de verificación detecta escrituras cortadas o dañadas.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class SaveCodec {
+    /** Primeros bytes de un guardado en este formato ("BNSV") */
+    public static final int MAGIC = 0x424E5356;
+    /** Versión actual del formato */
+    public static final int VERSION = 3;
+    /** Primera versión con suma de verificación al final */
+    private static final int CHECKSUM_VERSION = 2;
+    /** Primera versión con el identificador de la partida */
+    private static final int GAME_ID_VERSION = 3;
+
+    private static final GamePhase[] PHASES = GamePhase.values();
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final ShipType[] TYPES = ShipType.values();
+    private static final int UNKNOWN = 0xFF;
+    private static final int MAX_NICKNAME_BYTES = 1024;
+
+    private SaveCodec() {
+    }
+
+    /**
+     * @param data Contenido de un archivo
+     * @return true si empieza como un guardado de este formato
+     */
+    public static boolean isEncoded(byte[] data) {
+        return data.length >= 4 && ByteBuffer.wrap(data).getInt() == MAGIC;
+    }
+
+    /**
+     * @param state Estado de la partida
+     * @return Bytes del guardado
+     */
+    public static byte[] encode(GameState state) {
+        Writer out = new Writer();
+        out.int32(MAGIC);
+        out.byte8(VERSION);
+        out.byte8(state.getPhase() == null ? UNKNOWN : state.getPhase().ordinal());
+        out.byte8(state.getDifficulty() == null ? UNKNOWN : state.getDifficulty().ordinal());
+        byte[] nickname = state.getNickname() == null
+                ? new byte[0]
+                : state.getNickname().getBytes(StandardCharsets.UTF_8);
+        out.varint(nickname.length);
+        out.bytes(nickname);
+        out.int64(state.getGameId());
+        encodeBoard(out, state.getPlayerBoard());
+        encodeBoard(out, state.getEnemyBoard());
+        out.int32(checksum(out.buf, out.len));
+        return out.toByteArray();
+    }
+
+    private static void encodeBoard(Writer out, Board board) {
+        synchronized (board) {
+            int size = board.getSize();
+            out.varint(size);
+
+            List<Ship> ships = board.getShips();
+            out.varint(ships.size());
+            for (Ship ship : ships) {
+                out.byte8(ship.getType().ordinal() * 2 + (ship.isVertical() ? 1 : 0));
+                out.varint(ship.getRow() * size + ship.getCol());
+            }
+
+            int[] shots = board.getShotOrder();
+            out.varint(shots.length);
+            for (int cell : shots) {
+                out.varint(cell);
+            }
+        }
+    }
+
+    /**
+     * @param data Bytes de un guardado de este formato
+     * @return Estado reconstruido
+     * @throws IOException Si los bytes no son un guardado válido
+     */
+    public static GameState decode(byte[] data) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new IOException("No es una partida guardada");
+            }
+            int version = in.get() & 0xFF;
+            if (version < 1 || version > VERSION) {
+                throw new IOException("Versión de guardado no soportada: " + version);
+            }
+            if (version >= CHECKSUM_VERSION) {
+                int end = data.length - Integer.BYTES;
+                if (end < in.position() || checksum(data, end) != ByteBuffer.wrap(data).getInt(end)) {
+                    throw new IOException("Suma de verificación incorrecta: guardado incompleto o dañado");
+                }
+                in.limit(end);
+            }
+            GamePhase phase = enumOrNull(PHASES, in.get() & 0xFF);
+            Difficulty difficulty = enumOrNull(DIFFICULTIES, in.get() & 0xFF);
+            int nicknameBytes = varint(in);
+            if (nicknameBytes > MAX_NICKNAME_BYTES) {
+                throw new IOException("Apodo demasiado largo: " + nicknameBytes + " bytes");
+            }
+            byte[] nickname = new byte[nicknameBytes];
+            in.get(nickname);
+            long gameId = version >= GAME_ID_VERSION ? in.getLong() : 0;
+            Board player = decodeBoard(in);
+            Board enemy = decodeBoard(in);
+            if (in.hasRemaining()) {
+                throw new IOException("Bytes de más al final del guardado");
+            }
+            return new GameState(player, enemy, phase, difficulty,
+                    nicknameBytes == 0 ? null : new String(nickname, StandardCharsets.UTF_8), gameId);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Guardado incompleto", e);
+        }
+    }
+
+    private static Board decodeBoard(ByteBuffer in) throws IOException {
+        int size = varint(in);
+        if (size < 1 || size > Board.MAX_SIZE) {
+            throw new IOException("Tamaño de tablero inválido: " + size);
+        }
+        Board board = new Board(size);
+        int cells = size * size;
+        try {
+            int ships = varint(in);
+            for (int i = 0; i < ships; i++) {
+                int code = in.get() & 0xFF;
+                if (code / 2 >= TYPES.length) {
+                    throw new IOException("Tipo de barco inválido: " + code / 2);
+                }
+                int origin = cell(in, cells);
+                board.placeShip(new Ship(TYPES[code / 2]), origin / size, origin % size, (code & 1) != 0);
+            }
+            int shots = varint(in);
+            for (int i = 0; i < shots; i++) {
+                int cell = cell(in, cells);
+                board.shootAt(cell / size, cell % size);
+            }
+        } catch (InvalidPlacementException | GameStateException e) {
+            throw new IOException("Tablero inconsistente: " + e.getMessage(), e);
+        }
+        return board;
+    }
+
+    private static int cell(ByteBuffer in, int cells) throws IOException {
+        int cell = varint(in);
+        if (cell >= cells) {
+            throw new IOException("Celda fuera del tablero: " + cell);
+        }
+        return cell;
+    }
+
+    private static int checksum(byte[] data, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(data, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static <E> E enumOrNull(E[] values, int ordinal) throws IOException {
+        if (ordinal == UNKNOWN) {
+            return null;
+        }
+        if (ordinal >= values.length) {
+            throw new IOException("Valor desconocido: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static int varint(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.get() & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if (b < 0x80) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Entero mal codificado");
+    }
+
+    /**
+     * Búfer de escritura que crece según haga falta.
+     */
+    private static final class Writer {
+        private byte[] buf = new byte[128];
+        private int len;
+
+        private void ensure(int extra) {
+            if (len + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, len + extra));
+            }
+        }
+
+        void byte8(int value) {
+            ensure(1);
+            buf[len++] = (byte) value;
+        }
+
+        void int32(int value) {
+            ensure(4);
+            buf[len++] = (byte) (value >>> 24);
+            buf[len++] = (byte) (value >>> 16);
+            buf[len++] = (byte) (value >>> 8);
+            buf[len++] = (byte) value;
+        }
+
+        void int64(long value) {
+            int32((int) (value >>> 32));
+            int32((int) value);
+        }
+
+        void varint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buf[len++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[len++] = (byte) value;
+        }
+
+        void bytes(byte[] data) {
+            ensure(data.length);
+            System.arraycopy(data, 0, buf, len, data.length);
+            len += data.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, len);
+        }
+    }
+}
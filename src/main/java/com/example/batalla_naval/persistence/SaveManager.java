@@ -4,8 +4,6 @@ import com.example.batalla_naval.model.GameState;
 
 import java.io.*;
 import java.nio.file.*;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Gestor de guardado y carga de partidas y registros de jugadores.
@@ -14,69 +12,234 @@ import java.time.format.DateTimeFormatter;
  * Fecha: 2025
  */
 public class SaveManager {
-    private static final DateTimeFormatter TF = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
-    private static final Path PLAYER_FILE = Path.of("saves/player_record.txt");
+    /** Propiedad del sistema que cambia la carpeta de guardado, por ejemplo al correr las pruebas */
+    public static final String DIRECTORY_PROPERTY = "batalla_naval.saves";
+    private static final Path DIRECTORY = Path.of(System.getProperty(DIRECTORY_PROPERTY, "saves"));
+    private static final Path SLOTS_DIRECTORY = DIRECTORY.resolve("slots");
+    /** Único guardado de versiones anteriores, solo para pasarlo a una ranura */
+    private static final Path LEGACY_SAVE_FILE = DIRECTORY.resolve("game_state.ser");
+    private static final Path LEADERBOARD_FILE = DIRECTORY.resolve("leaderboard.log");
+    /** Registro de texto de versiones anteriores, solo para importarlo */
+    private static final Path LEGACY_PLAYER_FILE = DIRECTORY.resolve("player_record.txt");
+    private static final String NAME_PREFIX = "Nombre: ";
+    private static final String SUNK_PREFIX = "Barcos hundidos: ";
+    /** Escrituras atómicas compartidas por todas las partidas; sin fsync salvo que se pida */
+    private static final GroupCommitter COMMITTER = new GroupCommitter(false);
+    private static Leaderboard leaderboard;
+    private static SaveSlots slots;
 
     /**
-     * Guarda el estado del juego en un archivo.
+     * @return Carpeta de todos los guardados ({@code saves} salvo que se cambie con {@link #DIRECTORY_PROPERTY})
+     */
+    public static Path directory() {
+        return DIRECTORY;
+    }
+
+    /**
+     * Guarda el estado del juego en un archivo, en el formato de {@link SaveCodec}.
      *
      * @param state Estado del juego a guardar
      * @param file Ruta del archivo de guardado
      * @throws IOException Si ocurre un error de I/O
      */
     public static void saveGame(GameState state, Path file) throws IOException {
-        Files.createDirectories(file.getParent());
-        try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(file))) {
-            oos.writeObject(state);
-        }
+        saveBytes(toBytes(state), file);
+    }
+
+    /**
+     * Codifica el estado en memoria, para tomar una instantánea rápida y
+     * escribirla después fuera del hilo del juego.
+     *
+     * @param state Estado del juego
+     * @return Bytes en el formato de {@link SaveCodec}
+     * @throws IOException Si el estado no se puede codificar
+     */
+    public static byte[] toBytes(GameState state) throws IOException {
+        return SaveCodec.encode(state);
     }
 
     /**
-     * Carga el estado del juego desde un archivo.
+     * Escribe un estado ya serializado con {@link #toBytes(GameState)} de
+     * forma atómica: un corte a la mitad deja el guardado anterior intacto,
+     * y la versión anterior se conserva como respaldo.
      *
+     * @param data Bytes del estado
      * @param file Ruta del archivo de guardado
-     * @return Estado del juego cargado
      * @throws IOException Si ocurre un error de I/O
-     * @throws ClassNotFoundException Si la clase del objeto no se encuentra
+     */
+    public static void saveBytes(byte[] data, Path file) throws IOException {
+        COMMITTER.write(file, data);
+    }
+
+    /**
+     * Activa o desactiva el fsync de los guardados. Sin él, los guardados
+     * sobreviven a que se cierre el programa pero no a un corte de luz.
+     *
+     * @param fsync true para forzar cada guardado al disco
+     */
+    public static void setFsync(boolean fsync) {
+        COMMITTER.setFsync(fsync);
+    }
+
+    /**
+     * @param file Ruta del archivo de guardado
+     * @return true si hay un guardado o un respaldo que se pueda cargar
+     */
+    public static boolean hasSave(Path file) {
+        return Files.exists(file) || Files.exists(GroupCommitter.backupOf(file));
+    }
+
+    /**
+     * Carga el estado del juego desde un archivo. Si falta o está dañado
+     * (la suma de verificación no coincide), se carga la copia anterior.
+     * Los guardados antiguos, serializados con Java, se leen una última vez
+     * y se reescriben en el formato de {@link SaveCodec}; la conversión es
+     * solo de ida.
+     *
+     * @param file Ruta del archivo de guardado
+     * @return Estado del juego cargado
+     * @throws IOException Si ni el archivo ni su respaldo se pueden leer
+     * @throws ClassNotFoundException Si la clase de un guardado antiguo no se encuentra
      */
     public static GameState loadGame(Path file) throws IOException, ClassNotFoundException {
-        try (ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(file))) {
-            return (GameState) ois.readObject();
+        try {
+            return loadFile(file, file);
+        } catch (IOException e) {
+            Path backup = GroupCommitter.backupOf(file);
+            if (!Files.exists(backup)) {
+                throw e;
+            }
+            System.err.println("Guardado inválido (" + e.getMessage() + "), se carga la copia anterior");
+            return loadFile(backup, file);
+        }
+    }
+
+    /**
+     * @param file Archivo a leer
+     * @param migrateTo Guardado donde se escribe la conversión si el archivo es antiguo
+     */
+    private static GameState loadFile(Path file, Path migrateTo) throws IOException, ClassNotFoundException {
+        byte[] data = Files.readAllBytes(file);
+        if (SaveCodec.isEncoded(data)) {
+            return SaveCodec.decode(data);
+        }
+
+        GameState state = LegacySaveReader.read(data);
+        try {
+            saveGame(state, migrateTo);
+        } catch (IOException e) {
+            System.err.println("No se pudo convertir el guardado antiguo: " + e.getMessage());
         }
+        return state;
     }
 
     /**
-     * Elimina un archivo de guardado.
+     * Elimina un archivo de guardado y su copia anterior.
      *
      * @param file Ruta del archivo a eliminar
      */
     public static void deleteSave(Path file) {
         try {
             Files.deleteIfExists(file);
+            Files.deleteIfExists(GroupCommitter.backupOf(file));
         } catch (IOException e) {
             System.err.println("No se pudo eliminar el archivo de guardado: " + e.getMessage());
         }
     }
 
     /**
-     * Guarda un registro de jugador en archivo de texto.
+     * Ranuras de guardado compartidas, abiertas la primera vez que se usan.
+     * Si hay un guardado único de versiones anteriores, se mueve a una
+     * ranura nueva.
+     *
+     * @return Ranuras de guardado
+     * @throws IOException Si no se puede abrir el índice
+     */
+    public static synchronized SaveSlots slots() throws IOException {
+        if (slots == null) {
+            slots = SaveSlots.open(SLOTS_DIRECTORY);
+            if (hasSave(LEGACY_SAVE_FILE)) {
+                importLegacySave(slots, LEGACY_SAVE_FILE);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Pasa un guardado único a una ranura: mueve el punto de control, su
+     * respaldo y la bitácora, y registra sus datos en el índice.
+     */
+    static void importLegacySave(SaveSlots slots, Path file) {
+        try {
+            GameState state = GameLog.load(file);
+            String nickname = state.getNickname() == null ? "Jugador" : state.getNickname();
+            SlotInfo slot = slots.reserve(nickname, state.getDifficulty());
+            Path checkpoint = slots.checkpointOf(slot.getId());
+            for (Path[] move : new Path[][]{
+                    {file, checkpoint},
+                    {GroupCommitter.backupOf(file), GroupCommitter.backupOf(checkpoint)},
+                    {GameLog.logFileFor(file), GameLog.logFileFor(checkpoint)}}) {
+                if (Files.exists(move[0])) {
+                    Files.move(move[0], move[1], StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            slots.update(slot.getId(), nickname, state.getDifficulty(), state.getPhase(),
+                    state.getEnemyBoard().getShotCount());
+        } catch (IOException | ClassNotFoundException e) {
+            System.err.println("No se pudo pasar el guardado anterior a una ranura: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Registra la marca de un jugador en la tabla de posiciones. Solo se
+     * escribe si mejora su mejor marca.
      *
      * @param record Registro del jugador a guardar
      * @throws IOException Si ocurre un error de I/O
      */
     public static void savePlayerRecord(PlayerRecord record) throws IOException {
-        Files.createDirectories(PLAYER_FILE.getParent());
-
-        String line = "Nombre: " + record.getNickname() +
-                " | Barcos hundidos: " + record.getShipsSunk() +
-                " | Fecha: " + LocalDateTime.now().format(TF) +
-                System.lineSeparator();
-
-        Files.writeString(
-                PLAYER_FILE,
-                line,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.APPEND
-        );
+        leaderboard().submit(record.getNickname(), record.getShipsSunk());
+    }
+
+    /**
+     * Tabla de posiciones compartida, abierta la primera vez que se usa.
+     * Si todavía no existe pero hay un registro de texto de versiones
+     * anteriores, se importa la mejor marca de cada jugador; el archivo de
+     * texto queda como estaba y ya no se escribe.
+     *
+     * @return Tabla de posiciones
+     * @throws IOException Si no se puede abrir
+     */
+    public static synchronized Leaderboard leaderboard() throws IOException {
+        if (leaderboard == null) {
+            boolean fresh = !Files.exists(LEADERBOARD_FILE);
+            leaderboard = Leaderboard.open(LEADERBOARD_FILE);
+            if (fresh && Files.exists(LEGACY_PLAYER_FILE)) {
+                importLegacyRecords(leaderboard, LEGACY_PLAYER_FILE);
+            }
+        }
+        return leaderboard;
+    }
+
+    /**
+     * Importa líneas "Nombre: X | Barcos hundidos: N | Fecha: ..." del
+     * registro de texto antiguo. Las líneas que no se entienden se saltan.
+     */
+    static void importLegacyRecords(Leaderboard board, Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(" \\| ");
+                if (fields.length < 2 || !fields[0].startsWith(NAME_PREFIX) || !fields[1].startsWith(SUNK_PREFIX)) {
+                    continue;
+                }
+                try {
+                    board.submit(fields[0].substring(NAME_PREFIX.length()),
+                            Integer.parseInt(fields[1].substring(SUNK_PREFIX.length()).trim()));
+                } catch (IllegalArgumentException e) {
+                    // Línea dañada o apodo inválido.
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,340 @@
+package com.example.batalla_naval.persistence;
+
+import com.example.batalla_naval.model.Difficulty;
+import com.example.batalla_naval.model.GamePhase;
+import com.example.batalla_naval.model.GameState;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Ranuras de guardado: muchas partidas guardadas a la vez, cada una con su
+ * punto de control y su bitácora ({@link GameLog}) en una carpeta, más un
+ * índice pequeño con los datos de cada ranura ({@link SlotInfo}). La
+ * pantalla de bienvenida lista las ranuras leyendo solo el índice, que
+ * está en memoria; los tableros se leen recién al abrir una ranura.
+ * El índice es un registro al que solo se agregan entradas (la última de
+ * cada ranura manda):
+ * <pre>
+ * cabecera 'BNSI', versión (4 bytes cada uno)
+ * entrada  tipo (1 = datos, 2 = borrada), ranura (4 bytes) y, si son datos,
+ *          largo del apodo (2 bytes), apodo UTF-8, dificultad, fase
+ *          (1 byte cada una; 0xFF si no se conoce), disparos (4 bytes),
+ *          momento del guardado (8 bytes); al final CRC32C de la entrada
+ * </pre>
+ * Al abrir se descarta una entrada cortada al final y, si el registro tiene
+ * más del doble de entradas que ranuras, se reescribe con una por ranura.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class SaveSlots implements Closeable {
+    /** Primeros bytes del índice ("BNSI") */
+    public static final int MAGIC = 0x424E5349;
+    /** Versión actual del formato */
+    public static final int VERSION = 1;
+    private static final String INDEX_FILE = "index.bin";
+    private static final int HEADER_BYTES = 8;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int MAX_NICKNAME_BYTES = 1024;
+    private static final int UNKNOWN = 0xFF;
+    /** Por debajo de esta cantidad de entradas sobrantes no se reescribe el índice */
+    private static final int COMPACT_MIN_ENTRIES = 256;
+
+    private static final GamePhase[] PHASES = GamePhase.values();
+    private static final Difficulty[] DIFFICULTIES = Difficulty.values();
+    private static final Comparator<SlotInfo> NEWEST_FIRST =
+            Comparator.comparingLong(SlotInfo::getSavedAt).reversed()
+                    .thenComparing(Comparator.comparingInt(SlotInfo::getId).reversed());
+
+    private final Path directory;
+    private final Path indexFile;
+    private final Map<Integer, SlotInfo> slots = new HashMap<>();
+    private FileChannel channel;
+    private long entries;
+    private int nextId = 1;
+
+    private SaveSlots(Path directory) {
+        this.directory = directory;
+        this.indexFile = directory.resolve(INDEX_FILE);
+    }
+
+    /**
+     * Abre las ranuras de una carpeta, o la prepara si no hay ninguna.
+     *
+     * @param directory Carpeta de las ranuras
+     * @return Ranuras con el índice cargado
+     * @throws IOException Si el índice no es válido
+     */
+    public static SaveSlots open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        SaveSlots saveSlots = new SaveSlots(directory);
+        saveSlots.load();
+        return saveSlots;
+    }
+
+    private void load() throws IOException {
+        channel = FileChannel.open(indexFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                GroupCommitter.writeHeader(channel, MAGIC, VERSION);
+            } else {
+                long validEnd = replay(Files.readAllBytes(indexFile));
+                if (validEnd < size) {
+                    System.err.println("Índice de ranuras cortado en el byte " + validEnd + ", se descarta el resto");
+                    channel.truncate(validEnd);
+                }
+            }
+            channel.position(channel.size());
+            if (entries > COMPACT_MIN_ENTRIES && entries > 2L * slots.size()) {
+                compact();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return Posición del final de la última entrada válida
+     */
+    private long replay(byte[] data) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        if (in.getInt() != MAGIC) {
+            throw new IOException("No es un índice de ranuras: " + indexFile);
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de índice no soportada: " + version);
+        }
+        CRC32C crc = new CRC32C();
+        int validEnd = HEADER_BYTES;
+        while (in.remaining() >= 1 + 4 + 4) {
+            int start = in.position();
+            byte kind = in.get();
+            int id = in.getInt();
+            SlotInfo info = null;
+            if (kind == PUT) {
+                if (in.remaining() < 2) {
+                    break;
+                }
+                int length = in.getShort() & 0xFFFF;
+                if (length > MAX_NICKNAME_BYTES || in.remaining() < length + 1 + 1 + 4 + 8 + 4) {
+                    break;
+                }
+                String nickname = new String(data, in.position(), length, StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+                Difficulty difficulty = enumOrNull(DIFFICULTIES, in.get() & 0xFF);
+                GamePhase phase = enumOrNull(PHASES, in.get() & 0xFF);
+                info = new SlotInfo(id, nickname, difficulty, phase, in.getInt(), in.getLong());
+            } else if (kind != DELETE) {
+                break;
+            }
+            if (in.remaining() < 4) {
+                break;
+            }
+            crc.reset();
+            crc.update(data, start, in.position() - start);
+            if ((int) crc.getValue() != in.getInt()) {
+                break;
+            }
+            if (info != null) {
+                slots.put(id, info);
+            } else {
+                slots.remove(id);
+            }
+            nextId = Math.max(nextId, id + 1);
+            entries++;
+            validEnd = in.position();
+        }
+        return validEnd;
+    }
+
+    /**
+     * Reserva el número de ranura de una partida que empieza. No escribe
+     * nada: la ranura entra al índice (y a {@link #list()}) con su primer
+     * {@link #update}, que se hace después de escribir su punto de control,
+     * así que nunca se lista una ranura sin partida que cargar.
+     *
+     * @param nickname Apodo del jugador
+     * @param difficulty Dificultad elegida
+     * @return Datos de la ranura
+     */
+    public synchronized SlotInfo reserve(String nickname, Difficulty difficulty) {
+        return new SlotInfo(nextId++, nickname, difficulty, GamePhase.SETUP, 0, System.currentTimeMillis());
+    }
+
+    /**
+     * Registra o actualiza los datos de una ranura tras guardar su partida.
+     *
+     * @param id Número de la ranura
+     * @param nickname Apodo del jugador
+     * @param difficulty Dificultad
+     * @param phase Fase de la partida
+     * @param turns Disparos hechos por el jugador
+     * @throws IOException Si no se puede escribir el índice
+     */
+    public synchronized void update(int id, String nickname, Difficulty difficulty, GamePhase phase, int turns)
+            throws IOException {
+        SlotInfo current = slots.get(id);
+        if (current != null && current.getTurns() == turns && current.getPhase() == phase
+                && current.getDifficulty() == difficulty && current.getNickname().equals(nickname)) {
+            return;
+        }
+        nextId = Math.max(nextId, id + 1);
+        put(new SlotInfo(id, nickname, difficulty, phase, turns, System.currentTimeMillis()));
+    }
+
+    private void put(SlotInfo info) throws IOException {
+        slots.put(info.getId(), info);
+        append(encode(info));
+    }
+
+    /**
+     * Borra una ranura y los archivos de su partida.
+     *
+     * @param id Número de la ranura
+     * @throws IOException Si no se puede escribir el índice
+     */
+    public synchronized void delete(int id) throws IOException {
+        Path checkpoint = checkpointOf(id);
+        SaveManager.deleteSave(checkpoint);
+        Files.deleteIfExists(GameLog.logFileFor(checkpoint));
+        if (slots.remove(id) != null) {
+            append(ByteBuffer.allocate(1 + 4 + 4).put(DELETE).putInt(id));
+        }
+    }
+
+    /**
+     * @return Todas las ranuras, de la guardada más recientemente a la más antigua
+     */
+    public synchronized List<SlotInfo> list() {
+        List<SlotInfo> result = new ArrayList<>(slots.values());
+        result.sort(NEWEST_FIRST);
+        return result;
+    }
+
+    /**
+     * @return La ranura guardada más recientemente, si hay alguna
+     */
+    public synchronized Optional<SlotInfo> latest() {
+        return slots.values().stream().min(NEWEST_FIRST);
+    }
+
+    /**
+     * @param id Número de la ranura
+     * @return Datos de la ranura, si existe
+     */
+    public synchronized Optional<SlotInfo> get(int id) {
+        return Optional.ofNullable(slots.get(id));
+    }
+
+    /**
+     * @param id Número de la ranura
+     * @return Punto de control de la partida de esa ranura
+     */
+    public Path checkpointOf(int id) {
+        return directory.resolve("slot-" + id + ".ser");
+    }
+
+    /**
+     * Lee la partida completa de una ranura.
+     *
+     * @param id Número de la ranura
+     * @return Estado de la partida
+     * @throws IOException Si la partida no se puede leer
+     * @throws ClassNotFoundException Si un guardado antiguo no se puede leer
+     */
+    public GameState load(int id) throws IOException, ClassNotFoundException {
+        return GameLog.load(checkpointOf(id));
+    }
+
+    /**
+     * Reescribe el índice con una entrada por ranura.
+     */
+    private void compact() throws IOException {
+        Path tmp = indexFile.resolveSibling(INDEX_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            GroupCommitter.writeHeader(out, MAGIC, VERSION);
+            for (SlotInfo info : slots.values()) {
+                GroupCommitter.writeFully(out, seal(encode(info)));
+            }
+        }
+        GroupCommitter.move(tmp, indexFile);
+        channel.close();
+        channel = FileChannel.open(indexFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        entries = slots.size();
+    }
+
+    private void append(ByteBuffer entry) throws IOException {
+        GroupCommitter.writeFully(channel, seal(entry));
+        entries++;
+        if (entries > COMPACT_MIN_ENTRIES && entries > 2L * slots.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Agrega la suma de verificación al final de una entrada.
+     *
+     * @return La entrada lista para escribir
+     */
+    private static ByteBuffer seal(ByteBuffer entry) {
+        CRC32C crc = new CRC32C();
+        crc.update(entry.array(), 0, entry.position());
+        return entry.putInt((int) crc.getValue()).flip();
+    }
+
+    /**
+     * @return Entrada de datos con espacio para la suma de verificación
+     */
+    private static ByteBuffer encode(SlotInfo info) {
+        byte[] nickname = info.getNickname().getBytes(StandardCharsets.UTF_8);
+        if (nickname.length > MAX_NICKNAME_BYTES) {
+            throw new IllegalArgumentException("Apodo demasiado largo: " + nickname.length + " bytes");
+        }
+        return ByteBuffer.allocate(1 + 4 + 2 + nickname.length + 1 + 1 + 4 + 8 + 4)
+                .put(PUT)
+                .putInt(info.getId())
+                .putShort((short) nickname.length)
+                .put(nickname)
+                .put((byte) (info.getDifficulty() == null ? UNKNOWN : info.getDifficulty().ordinal()))
+                .put((byte) (info.getPhase() == null ? UNKNOWN : info.getPhase().ordinal()))
+                .putInt(info.getTurns())
+                .putLong(info.getSavedAt());
+    }
+
+    /**
+     * Un valor desconocido (por ejemplo, de una versión más nueva) se lee
+     * como null en vez de invalidar la ranura.
+     */
+    private static <E> E enumOrNull(E[] values, int ordinal) {
+        return ordinal < values.length ? values[ordinal] : null;
+    }
+
+    /**
+     * Cierra el índice. Los datos ya registrados quedan escritos.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.batalla_naval.persistence;
+
+import com.example.batalla_naval.model.Difficulty;
+import com.example.batalla_naval.model.GamePhase;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Datos de una ranura de guardado que se pueden mostrar sin leer la
+ * partida: quién juega, a qué dificultad, en qué fase y cuándo se guardó.
+ * Autores: Jairo Andres &  Juan Sebastian Tapia
+ * Version: 1.0
+ * Fecha: 2025
+ */
+public final class SlotInfo {
+    private static final DateTimeFormatter TF =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneId.systemDefault());
+
+    private final int id;
+    private final String nickname;
+    private final Difficulty difficulty;
+    private final GamePhase phase;
+    private final int turns;
+    private final long savedAt;
+
+    /**
+     * @param id Número de la ranura
+     * @param nickname Apodo del jugador
+     * @param difficulty Dificultad, o null si no se conoce
+     * @param phase Fase de la partida, o null si no se conoce
+     * @param turns Disparos hechos por el jugador
+     * @param savedAt Momento del último guardado (milisegundos desde 1970)
+     */
+    public SlotInfo(int id, String nickname, Difficulty difficulty, GamePhase phase, int turns, long savedAt) {
+        this.id = id;
+        this.nickname = nickname;
+        this.difficulty = difficulty;
+        this.phase = phase;
+        this.turns = turns;
+        this.savedAt = savedAt;
+    }
+
+    /**
+     * @return Número de la ranura
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return Apodo del jugador
+     */
+    public String getNickname() {
+        return nickname;
+    }
+
+    /**
+     * @return Dificultad, o null si no se conoce
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * @return Fase de la partida, o null si no se conoce
+     */
+    public GamePhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return Disparos hechos por el jugador
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * @return Momento del último guardado (milisegundos desde 1970)
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    /**
+     * @return Texto para la lista de partidas guardadas
+     */
+    @Override
+    public String toString() {
+        return nickname
+                + (difficulty == null ? "" : " · " + difficulty)
+                + " · " + turns + " disparos · "
+                + TF.format(Instant.ofEpochMilli(savedAt));
+    }
+}
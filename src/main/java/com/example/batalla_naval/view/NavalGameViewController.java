@@ -4,6 +4,9 @@ import com.example.batalla_naval.Main;
 import com.example.batalla_naval.controller.GameController;
 import com.example.batalla_naval.model.*;
 import com.example.batalla_naval.model.Cell;
+import com.example.batalla_naval.persistence.SaveManager;
+import com.example.batalla_naval.persistence.SaveSlots;
+import com.example.batalla_naval.persistence.SlotInfo;
 import javafx.animation.ScaleTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -43,6 +46,7 @@ public class NavalGameViewController implements TurnListener {
 
     private boolean devMode = false;
     private GameController gameController;
+    private int boardSize = Board.SIZE;
     private boolean vertical = false;
     private final Map<ShipType, Integer> placedShips = new EnumMap<>(ShipType.class);
     private Main mainApp;
@@ -94,7 +98,7 @@ public class NavalGameViewController implements TurnListener {
      */
     private void selectNextAvailableShip() {
         for (ShipType type : ShipType.values()) {
-            if (placedShips.get(type) < type.getMaxCount()) {
+            if (placedShips.get(type) < type.getCountFor(boardSize)) {
                 shipSelector.setValue(type);
                 return;
             }
@@ -109,7 +113,7 @@ public class NavalGameViewController implements TurnListener {
      * @param c Columna de la celda
      */
     private void onEnemyCellClicked(int r, int c) {
-        if (gameController.getPhase() != GameController.GamePhase.PLAYER_TURN) {
+        if (gameController.getPhase() != GamePhase.PLAYER_TURN) {
             return;
         }
 
@@ -154,13 +158,22 @@ public class NavalGameViewController implements TurnListener {
      */
     public void setGameController(GameController gameController) {
         this.gameController = gameController;
+
+        int size = gameController.getPlayerBoard().getSize();
+        if (size != boardSize) {
+            boardSize = size;
+            playerGrid.getChildren().clear();
+            enemyGrid.getChildren().clear();
+            createPlayerBoard();
+            createEnemyBoard();
+        }
         enableSetupPreview();
     }
 
     private void enableSetupPreview() {
 
-        for (int r = 0; r < 10; r++) {
-            for (int c = 0; c < 10; c++) {
+        for (int r = 0; r < boardSize; r++) {
+            for (int c = 0; c < boardSize; c++) {
 
                 StackPane cell = getCell(playerGrid, r, c);
 
@@ -169,14 +182,14 @@ public class NavalGameViewController implements TurnListener {
                 int cc = c;
 
                 cell.setOnMouseEntered(e -> {
-                    if (gameController.getPhase() == GameController.GamePhase.SETUP
+                    if (gameController.getPhase() == GamePhase.SETUP
                             && shipSelector.getValue() != null) {
                         showShipPreview(rr, cc);
                     }
                 });
 
                 cell.setOnMouseExited(e -> {
-                    if (gameController.getPhase() == GameController.GamePhase.SETUP) {
+                    if (gameController.getPhase() == GamePhase.SETUP) {
                         clearShipPreview();
                     }
                 });
@@ -208,8 +221,8 @@ public class NavalGameViewController implements TurnListener {
      * Crea el tablero del jugador.
      */
     private void createPlayerBoard() {
-        for (int r = 0; r < 10; r++) {
-            for (int c = 0; c < 10; c++) {
+        for (int r = 0; r < boardSize; r++) {
+            for (int c = 0; c < boardSize; c++) {
                 StackPane cell = new StackPane();
                 CellRenderer.drawWater(cell);
                 cell.setPrefSize(32, 32);
@@ -228,8 +241,8 @@ public class NavalGameViewController implements TurnListener {
      * Crea el tablero del enemigo.
      */
     private void createEnemyBoard() {
-        for (int r = 0; r < 10; r++) {
-            for (int c = 0; c < 10; c++) {
+        for (int r = 0; r < boardSize; r++) {
+            for (int c = 0; c < boardSize; c++) {
                 StackPane cell = new StackPane();
                 CellRenderer.drawWater(cell);
                 cell.setPrefSize(32, 32);
@@ -285,7 +298,7 @@ public class NavalGameViewController implements TurnListener {
      * @param c Columna
      */
     private void onPlayerCellClicked(int r, int c) {
-        if (gameController.getPhase() != GameController.GamePhase.SETUP) {
+        if (gameController.getPhase() != GamePhase.SETUP) {
             return;
         }
 
@@ -293,7 +306,7 @@ public class NavalGameViewController implements TurnListener {
         int placed = placedShips.get(type);
 
 
-        if (placed >= type.getMaxCount()) {
+        if (placed >= type.getCountFor(boardSize)) {
             System.out.println("Ya colocaste todos los " + type.getName());
             selectNextAvailableShip();
             return;
@@ -302,7 +315,7 @@ public class NavalGameViewController implements TurnListener {
         try {
             Ship ship = new Ship(type);
             boolean vertical = verticalCheck.isSelected();
-            gameController.getPlayerBoard().placeShip(ship, r, c, vertical);
+            gameController.placePlayerShip(ship, r, c, vertical);
 
 
             placedShips.put(type, placed + 1);
@@ -318,7 +331,7 @@ public class NavalGameViewController implements TurnListener {
 
             int totalRequired = 0;
             for (ShipType t : ShipType.values()) {
-                totalRequired += t.getMaxCount();
+                totalRequired += t.getCountFor(boardSize);
             }
 
             System.out.println("Barcos colocados: " + totalPlaced + "/" + totalRequired);
@@ -361,10 +374,10 @@ public class NavalGameViewController implements TurnListener {
             int rr = vertical ? r + i : r;
             int cc = vertical ? c : c + i;
 
-            if (rr >= 10 || cc >= 10) return;
+            if (rr >= boardSize || cc >= boardSize) return;
             if (board.getCell(rr, cc).hasShip()) return;
 
-            StackPane pane = (StackPane) playerGrid.getChildren().get(rr * 10 + cc);
+            StackPane pane = (StackPane) playerGrid.getChildren().get(rr * boardSize + cc);
             CellRenderer.drawPreview(pane);
         }
     }
@@ -375,9 +388,9 @@ public class NavalGameViewController implements TurnListener {
     private void clearShipPreview() {
         Board board = gameController.getPlayerBoard();
 
-        for (int r = 0; r < 10; r++) {
-            for (int c = 0; c < 10; c++) {
-                StackPane pane = (StackPane) playerGrid.getChildren().get(r * 10 + c);
+        for (int r = 0; r < boardSize; r++) {
+            for (int c = 0; c < boardSize; c++) {
+                StackPane pane = (StackPane) playerGrid.getChildren().get(r * boardSize + c);
                 Cell cell = board.getCell(r, c);
 
                 CellRenderer.clearPreview(pane, cell.hasShip());
@@ -391,8 +404,8 @@ public class NavalGameViewController implements TurnListener {
     public void renderPreviousShots() {
         Board enemyBoard = gameController.getEnemyBoard();
 
-        for (int r = 0; r < 10; r++) {
-            for (int c = 0; c < 10; c++) {
+        for (int r = 0; r < boardSize; r++) {
+            for (int c = 0; c < boardSize; c++) {
                 Cell cell = enemyBoard.getCell(r, c);
                 if (cell.wasShot()) {
                     ShotResult result = cell.hasShip()
@@ -437,8 +450,8 @@ public class NavalGameViewController implements TurnListener {
     private void renderPlayerShips() {
         Board board = gameController.getPlayerBoard();
 
-        for (int r = 0; r < 10; r++) {
-            for (int c = 0; c < 10; c++) {
+        for (int r = 0; r < boardSize; r++) {
+            for (int c = 0; c < boardSize; c++) {
 
                 Cell cell = board.getCell(r, c);
                 StackPane pane = getCell(playerGrid, r, c);
@@ -507,14 +520,24 @@ public class NavalGameViewController implements TurnListener {
 
     private void restartGame() {
 
+        // La partida nueva va en su propia ranura; la anterior queda guardada.
+        SaveSlots slots;
+        try {
+            slots = SaveManager.slots();
+        } catch (IOException ex) {
+            System.out.println("No se pudo reiniciar: " + ex.getMessage());
+            return;
+        }
+
         if (gameController != null) {
             gameController.shutdown();
         }
 
-        Board newPlayer = new Board();
-        Board newEnemy = new Board();
+        Board newPlayer = new Board(boardSize);
+        Board newEnemy = new Board(boardSize);
 
-        GameController newController = new GameController(newPlayer, newEnemy);
+        SlotInfo slot = slots.reserve(gameController.getPlayerNickname(), gameController.getDifficulty());
+        GameController newController = new GameController(newPlayer, newEnemy, slots, slot);
 
         newController.setPlayerNickname(gameController.getPlayerNickname());
         newController.setDifficulty(gameController.getDifficulty());
@@ -592,8 +615,8 @@ public class NavalGameViewController implements TurnListener {
     private void renderEnemyDevMode() {
         Board enemyBoard = gameController.getEnemyBoard();
 
-        for (int r = 0; r < 10; r++) {
-            for (int c = 0; c < 10; c++) {
+        for (int r = 0; r < boardSize; r++) {
+            for (int c = 0; c < boardSize; c++) {
                 Cell cell = enemyBoard.getCell(r, c);
                 StackPane pane = getCell(enemyGrid, r, c);
 
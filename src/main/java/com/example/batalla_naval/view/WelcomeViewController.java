@@ -1,11 +1,13 @@
 package com.example.batalla_naval.view;
 
 import com.example.batalla_naval.model.Difficulty;
+import com.example.batalla_naval.persistence.SlotInfo;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
+import java.util.List;
 import java.util.function.BiConsumer;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.function.Consumer;
 
 
 /**
@@ -22,15 +24,14 @@ public class WelcomeViewController {
     @FXML private ComboBox<Difficulty> difficultyBox;
     @FXML private Button newGameButton;
     @FXML private Button loadGameButton;
-
-
-    private static final Path SAVE_FILE = Path.of("saves/game_state.ser");
+    @FXML private ComboBox<SlotInfo> slotBox;
+    @FXML private ProgressBar loadProgress;
 
     /**
      * Callback que se ejecuta cuando el usuario inicia una nueva partida.
      */
     private BiConsumer<String, Difficulty> onStartNewGame;
-    private Runnable onLoadGame;
+    private Consumer<SlotInfo> onLoadGame;
 
 
     /**
@@ -44,14 +45,28 @@ public class WelcomeViewController {
 
         newGameButton.setOnAction(e -> handleNewGame());
         loadGameButton.setOnAction(e -> handleLoadGame());
-        loadGameButton.setDisable(!Files.exists(SAVE_FILE));
 
-        if (!Files.exists(SAVE_FILE)) {
-            loadGameButton.setTooltip(
-                    new Tooltip("No hay partidas guardadas")
-            );
-        }
+        // Las ranuras se leen en segundo plano; hasta entonces no se puede cargar.
+        slotBox.setDisable(true);
+        loadGameButton.setDisable(true);
+        loadGameButton.setTooltip(new Tooltip("Buscando partidas guardadas..."));
+    }
 
+    /**
+     * Muestra las partidas guardadas y elige la más reciente. Debe llamarse
+     * desde el hilo de JavaFX.
+     *
+     * @param slots ranuras de la más reciente a la más antigua
+     */
+    public void showSlots(List<SlotInfo> slots) {
+        slotBox.getItems().setAll(slots);
+        if (!slots.isEmpty()) {
+            slotBox.setValue(slots.get(0));
+            loadGameButton.setTooltip(null);
+        } else {
+            loadGameButton.setTooltip(new Tooltip("No hay partidas guardadas"));
+        }
+        setControlsDisabled(loadProgress.isVisible());
     }
 
     /**
@@ -63,7 +78,12 @@ public class WelcomeViewController {
         this.onStartNewGame = callback;
     }
 
-    public void setOnLoadGame(Runnable callback) {
+    /**
+     * Registra el callback para cargar una partida guardada.
+     *
+     * @param callback función que recibe la ranura elegida
+     */
+    public void setOnLoadGame(Consumer<SlotInfo> callback) {
         this.onLoadGame = callback;
     }
 
@@ -86,10 +106,39 @@ public class WelcomeViewController {
 
     private void handleLoadGame() {
         if (onLoadGame != null) {
-            onLoadGame.run();
+            onLoadGame.accept(slotBox.getValue());
         }
     }
 
+    /**
+     * Muestra el avance de una carga y bloquea los botones mientras dura.
+     *
+     * @param progress avance de 0 a 1 (negativo mientras no se conoce)
+     */
+    public void showProgress(ReadOnlyDoubleProperty progress) {
+        loadProgress.progressProperty().bind(progress);
+        loadProgress.setVisible(true);
+        loadProgress.setManaged(true);
+        setControlsDisabled(true);
+    }
+
+    /**
+     * Oculta el avance y vuelve a habilitar los botones, por ejemplo si la carga falló.
+     */
+    public void hideProgress() {
+        loadProgress.progressProperty().unbind();
+        loadProgress.setVisible(false);
+        loadProgress.setManaged(false);
+        setControlsDisabled(false);
+    }
+
+    private void setControlsDisabled(boolean disabled) {
+        boolean noSlots = slotBox.getItems().isEmpty();
+        newGameButton.setDisable(disabled);
+        slotBox.setDisable(disabled || noSlots);
+        loadGameButton.setDisable(disabled || noSlots);
+    }
+
     /**
      * Muestra una alerta informativa.
      *
@@ -1,6 +1,7 @@
 module com.example.batalla_naval {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.management;
 
     opens com.example.batalla_naval to javafx.fxml;
     opens com.example.batalla_naval.view to javafx.fxml;
@@ -10,4 +11,9 @@ module com.example.batalla_naval {
     exports com.example.batalla_naval;
     exports com.example.batalla_naval.view;
     exports com.example.batalla_naval.controller;
+    exports com.example.batalla_naval.model;
+    exports com.example.batalla_naval.persistence;
+    exports com.example.batalla_naval.ai;
+
+    uses com.example.batalla_naval.ai.AiStrategyProvider;
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package ai;
+
+import com.example.batalla_naval.ai.AiStrategies;
+import com.example.batalla_naval.ai.AiStrategy;
+import com.example.batalla_naval.ai.AiTelemetry;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Difficulty;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para AiStrategies y la telemetría de la IA.
+ */
+class AiStrategiesTest {
+
+    @Test
+    void forDifficulty_usesBuiltinsAndSystemOverride() {
+        assertEquals("random", AiStrategies.forDifficulty(Difficulty.EASY).getName());
+        assertEquals("hunt-target", AiStrategies.forDifficulty(Difficulty.NORMAL).getName());
+        assertEquals("density", AiStrategies.forDifficulty(Difficulty.HARD).getName());
+
+        System.setProperty("batalla_naval.ai.easy", "checkerboard");
+        try {
+            assertEquals("checkerboard", AiStrategies.forDifficulty(Difficulty.EASY).getName());
+        } finally {
+            System.clearProperty("batalla_naval.ai.easy");
+        }
+        assertThrows(IllegalArgumentException.class, () -> AiStrategies.byName("no-existe"));
+    }
+
+    @Test
+    void create_reportsEveryDecision() {
+        AiTelemetry telemetry = new AiTelemetry();
+        AiStrategy ai = AiStrategies.create(Difficulty.NORMAL, new SplittableRandom(1), telemetry);
+        Board board = new Board();
+
+        for (int i = 0; i < 5; i++) {
+            int cell = ai.decideShot(board);
+            int r = cell / Board.SIZE, c = cell % Board.SIZE;
+            ai.onShotResult(board, r, c, board.shootAt(r, c));
+        }
+
+        AiTelemetry.Stats stats = telemetry.getStats().get("hunt-target");
+        assertEquals(5, stats.getDecisions());
+        assertTrue(stats.getMeanCandidates() > 0);
+        assertTrue(stats.getMaxLatencyNanos() > 0);
+    }
+}
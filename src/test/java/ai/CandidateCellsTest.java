@@ -0,0 +1,51 @@
+package ai;
+
+import com.example.batalla_naval.ai.CandidateCells;
+import com.example.batalla_naval.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para CandidateCells.
+ */
+class CandidateCellsTest {
+
+    @Test
+    void pickAndRemove_coverEveryCellOnce() {
+        Board board = new Board();
+        board.shootAt(0, 0);
+        CandidateCells cells = new CandidateCells(board);
+        assertEquals(99, cells.size());
+        assertFalse(cells.contains(0));
+
+        SplittableRandom random = new SplittableRandom(1);
+        Set<Integer> seen = new HashSet<>();
+        while (cells.size() > 0) {
+            int cell = cells.pick(random);
+            assertTrue(seen.add(cell));
+            cells.remove(cell);
+        }
+        assertEquals(99, seen.size());
+        assertEquals(-1, cells.pick(random));
+    }
+
+    @Test
+    void pickWithParity_staysOnLattice() {
+        CandidateCells cells = new CandidateCells(new Board());
+        SplittableRandom random = new SplittableRandom(2);
+        assertEquals(34, cells.size(3, 0));
+
+        while (cells.size(3, 1) > 0) {
+            int cell = cells.pick(random, 3, 1);
+            assertEquals(1, (cell / Board.SIZE + cell % Board.SIZE) % 3);
+            cells.remove(cell);
+        }
+        assertEquals(67, cells.size());
+        assertEquals(cells.size(), cells.size(2, 0) + cells.size(2, 1));
+    }
+}
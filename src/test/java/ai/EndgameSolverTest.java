@@ -0,0 +1,43 @@
+package ai;
+
+import com.example.batalla_naval.ai.EndgameSolver;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para EndgameSolver.
+ */
+class EndgameSolverTest {
+
+    @Test
+    void solve_minimizesExpectedShots() throws InvalidPlacementException {
+        Board board = new Board();
+        board.placeShip(new Ship(ShipType.SUBMARINE), 0, 1, false);
+        board.shootAt(0, 1);
+        EndgameSolver solver = new EndgameSolver(64, Duration.ofSeconds(5));
+
+        // Quedan tres colocaciones; (0,2) está en dos de ellas y es la mejor.
+        assertEquals(2, solver.solve(board));
+        assertEquals(3, solver.getLastConfigurations());
+        assertEquals(8.0 / 3.0, solver.getLastExpectedShots(), 1e-9);
+    }
+
+    @Test
+    void solve_declinesAboveThreshold() {
+        Board board = new Board();
+        new FleetGenerator(Board.SIZE).placeOn(board, new SplittableRandom(3));
+        EndgameSolver solver = new EndgameSolver(64, Duration.ofSeconds(5));
+
+        assertEquals(-1, solver.solve(board));
+        assertEquals(-1, solver.getLastConfigurations());
+    }
+}
@@ -0,0 +1,54 @@
+package ai;
+
+import com.example.batalla_naval.ai.HuntTargetStrategy;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para HuntTargetStrategy.
+ */
+class HuntTargetStrategyTest {
+
+    @Test
+    void targetsNeighboursUntilSunk() throws InvalidPlacementException {
+        Board board = new Board();
+        board.placeShip(new Ship(ShipType.DESTROYER), 4, 4, false);
+        board.placeShip(new Ship(ShipType.SUBMARINE), 0, 0, false);
+        HuntTargetStrategy ai = new HuntTargetStrategy(new SplittableRandom(8));
+
+        ai.onShotResult(board, 4, 4, board.shootAt(4, 4));
+        int shots = 0;
+        while (board.getRemainingShips(ShipType.DESTROYER) > 0) {
+            int cell = ai.decideShot(board);
+            int r = cell / Board.SIZE, c = cell % Board.SIZE;
+            assertEquals(1, Math.abs(r - 4) + Math.abs(c - 4), "Debe probar vecinos del impacto");
+            ai.onShotResult(board, r, c, board.shootAt(r, c));
+            shots++;
+        }
+        assertTrue(shots <= 4);
+    }
+
+    @Test
+    void huntsOnLatticeOfSmallestShipAfloat() throws InvalidPlacementException {
+        Board board = new Board();
+        board.placeShip(new Ship(ShipType.CARRIER), 9, 0, false);
+        HuntTargetStrategy ai = new HuntTargetStrategy(new SplittableRandom(3));
+
+        int first = ai.decideShot(board);
+        int residue = (first / Board.SIZE + first % Board.SIZE) % 4;
+        for (int i = 0; i < 10; i++) {
+            int cell = ai.decideShot(board);
+            assertEquals(residue, (cell / Board.SIZE + cell % Board.SIZE) % 4);
+            ai.onShotResult(board, cell / Board.SIZE, cell % Board.SIZE,
+                    board.shootAt(cell / Board.SIZE, cell % Board.SIZE));
+            if (board.wasHit(cell / Board.SIZE, cell % Board.SIZE)) break;
+        }
+    }
+}
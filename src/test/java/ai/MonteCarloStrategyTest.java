@@ -0,0 +1,76 @@
+package ai;
+
+import com.example.batalla_naval.ai.MonteCarloStrategy;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para MonteCarloStrategy.
+ */
+class MonteCarloStrategyTest {
+
+    @Test
+    void decideShot_respectsTimeBudget() {
+        Board board = new Board();
+        new FleetGenerator(Board.SIZE).placeOn(board, new SplittableRandom(9));
+        MonteCarloStrategy ai = new MonteCarloStrategy(
+                ForkJoinPool.commonPool(), Duration.ofMillis(50), Integer.MAX_VALUE, new SplittableRandom(4));
+
+        long start = System.nanoTime();
+        int cell = ai.decideShot(board);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(board.wasShot(cell / Board.SIZE, cell % Board.SIZE));
+        assertTrue(ai.getLastSampleCount() > 0);
+        assertTrue(elapsedMs < 500, "La decisión tardó " + elapsedMs + " ms");
+    }
+
+    @Test
+    void afterHit_samplesShipsThroughTheHit() throws InvalidPlacementException {
+        Board board = new Board();
+        board.placeShip(new Ship(ShipType.DESTROYER), 0, 0, true);
+        board.placeShip(new Ship(ShipType.FRIGATE), 9, 9, false);
+        board.shootAt(0, 0);
+        board.shootAt(0, 1);
+
+        MonteCarloStrategy ai = new MonteCarloStrategy(
+                ForkJoinPool.commonPool(), Duration.ofMillis(200), 20_000, new SplittableRandom(2));
+        assertEquals(Board.SIZE, ai.decideShot(board), "La continuación más probable es 1,0");
+    }
+
+    @Test
+    void decideShot_doesNotWaitForBusyPool() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        CountDownLatch release = new CountDownLatch(1);
+        pool.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Board board = new Board();
+        MonteCarloStrategy ai = new MonteCarloStrategy(pool, Duration.ofMillis(50), 1_000, new SplittableRandom(3));
+
+        long start = System.nanoTime();
+        int cell = ai.decideShot(board);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        release.countDown();
+        pool.shutdown();
+
+        assertTrue(cell >= 0 && cell < Board.SIZE * Board.SIZE);
+        assertEquals(0, ai.getLastSampleCount(), "Sin hilos libres se usa la estrategia de respaldo");
+        assertTrue(elapsedMs < 300, "La decisión esperó " + elapsedMs + " ms al pool ocupado");
+    }
+}
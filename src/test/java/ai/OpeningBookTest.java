@@ -0,0 +1,71 @@
+package ai;
+
+import com.example.batalla_naval.ai.OpeningBook;
+import com.example.batalla_naval.ai.OpeningBookStrategy;
+import com.example.batalla_naval.ai.ProbabilityDensityStrategy;
+import com.example.batalla_naval.model.Board;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para OpeningBook.
+ */
+class OpeningBookTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void generateAndOpen_servesOpeningPositions() throws IOException {
+        Path file = OpeningBook.fileFor(dir, Board.SIZE);
+        OpeningBook.generate(file, Board.SIZE, 3, 20_000, 500, 7);
+        OpeningBook book = OpeningBook.open(file);
+
+        assertEquals(Board.SIZE, book.getSize());
+        assertEquals(OpeningBook.fleetKey(Board.SIZE), book.getFleetKey());
+        assertTrue(book.getEntryCount() >= 2);
+
+        Board board = new Board();
+        int first = book.bestShot(board.getObservedKey());
+        assertTrue(first >= 0);
+        assertTrue(book.getProbability(board.getObservedKey(), first) > 0.2);
+
+        // Tras un agua en la apertura, la siguiente posición también está en el libro.
+        board.shootAt(first / Board.SIZE, first % Board.SIZE);
+        int second = book.bestShot(board.getObservedKey());
+        assertTrue(second >= 0 && second != first);
+        assertEquals(-1, book.bestShot(12345L));
+    }
+
+    @Test
+    void strategy_usesBookThenDelegates() throws IOException {
+        Path file = OpeningBook.fileFor(dir, Board.SIZE);
+        OpeningBook.generate(file, Board.SIZE, 1, 5_000, 500, 7);
+        OpeningBook book = OpeningBook.open(file);
+        OpeningBookStrategy ai = new OpeningBookStrategy(
+                new ProbabilityDensityStrategy(new SplittableRandom(1)), size -> book);
+
+        Board board = new Board();
+        int cell = ai.decideShot(board);
+        assertTrue(ai.isLastShotFromBook());
+        assertEquals(book.bestShot(new Board().getObservedKey()), cell);
+
+        board.shootAt(cell / Board.SIZE, cell % Board.SIZE);
+        ai.decideShot(board);
+        assertFalse(ai.isLastShotFromBook());
+    }
+
+    @Test
+    void open_rejectsGarbage() throws IOException {
+        Path file = dir.resolve("bad.book");
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> OpeningBook.open(file));
+    }
+}
@@ -0,0 +1,80 @@
+package ai;
+
+import com.example.batalla_naval.ai.PlacementPrior;
+import com.example.batalla_naval.ai.ProbabilityDensityStrategy;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.PlacementTable;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para PlacementPrior.
+ */
+class PlacementPriorTest {
+
+    @TempDir
+    Path dir;
+
+    private static Board cornerFleet() throws InvalidPlacementException {
+        Board board = new Board();
+        board.placeShip(new Ship(ShipType.CARRIER), 9, 6, false);
+        board.placeShip(new Ship(ShipType.FRIGATE), 0, 0, true);
+        return board;
+    }
+
+    @Test
+    void record_saveAndLoad_roundTrip() throws IOException, InvalidPlacementException {
+        PlacementPrior prior = new PlacementPrior(Board.SIZE);
+        PlacementTable table = new PlacementTable(Board.SIZE);
+        int carrier = table.id(ShipType.CARRIER, 9, 6, false);
+        assertEquals(PlacementPrior.UNIFORM_WEIGHT, prior.weight(ShipType.CARRIER, carrier));
+
+        for (int i = 0; i < 20; i++) {
+            prior.record(cornerFleet());
+        }
+        Path file = PlacementPrior.fileFor(dir, Board.SIZE);
+        prior.save(file);
+        PlacementPrior loaded = PlacementPrior.load(file, Board.SIZE);
+
+        assertEquals(20, loaded.getGames());
+        assertEquals(20, loaded.getCount(ShipType.CARRIER, carrier));
+        assertEquals(20, loaded.getCount(ShipType.FRIGATE, table.id(ShipType.FRIGATE, 0, 0, false)));
+        assertTrue(loaded.weight(ShipType.CARRIER, carrier) > PlacementPrior.UNIFORM_WEIGHT);
+        assertTrue(loaded.weight(ShipType.CARRIER, 0) < PlacementPrior.UNIFORM_WEIGHT);
+        assertThrows(IOException.class, () -> PlacementPrior.load(file, 12));
+    }
+
+    @Test
+    void loadOrEmpty_toleratesMissingAndCorruptFiles() throws IOException {
+        Path file = PlacementPrior.fileFor(dir, Board.SIZE);
+        assertEquals(0, PlacementPrior.loadOrEmpty(file, Board.SIZE).getGames());
+        Files.write(file, new byte[]{1, 2, 3, 4});
+        assertEquals(0, PlacementPrior.loadOrEmpty(file, Board.SIZE).getGames());
+    }
+
+    @Test
+    void densityStrategy_huntsWhereHumansPlaceShips() throws InvalidPlacementException {
+        PlacementPrior prior = new PlacementPrior(Board.SIZE);
+        for (int i = 0; i < 50; i++) {
+            prior.record(cornerFleet());
+        }
+        ProbabilityDensityStrategy ai = new ProbabilityDensityStrategy(new SplittableRandom(1), null, prior);
+
+        Board board = new Board();
+        new FleetGenerator(Board.SIZE).placeOn(board, new SplittableRandom(2));
+
+        // La fragata en la esquina es la colocación más repetida (y hay cuatro fragatas).
+        assertEquals(0, ai.decideShot(board));
+    }
+}
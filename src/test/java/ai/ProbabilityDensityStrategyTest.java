@@ -0,0 +1,68 @@
+package ai;
+
+import com.example.batalla_naval.ai.ProbabilityDensityStrategy;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import com.example.batalla_naval.model.ShotResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ProbabilityDensityStrategy.
+ */
+class ProbabilityDensityStrategyTest {
+
+    @Test
+    void incrementalHeat_matchesRebuildFromBoard() {
+        Board board = new Board();
+        new FleetGenerator(Board.SIZE).placeOn(board, new SplittableRandom(3));
+        ProbabilityDensityStrategy ai = new ProbabilityDensityStrategy(new SplittableRandom(5));
+
+        for (int shot = 0; shot < 40 && !board.allShipsSunk(); shot++) {
+            int cell = ai.decideShot(board);
+            int r = cell / Board.SIZE, c = cell % Board.SIZE;
+            ai.onShotResult(board, r, c, board.shootAt(r, c));
+        }
+
+        ProbabilityDensityStrategy fresh = new ProbabilityDensityStrategy();
+        for (int r = 0; r < Board.SIZE; r++) {
+            for (int c = 0; c < Board.SIZE; c++) {
+                assertEquals(fresh.getHeat(board, r, c), ai.getHeat(board, r, c), "Celda " + r + "," + c);
+            }
+        }
+    }
+
+    @Test
+    void afterHit_targetsANeighbour() throws InvalidPlacementException {
+        Board board = new Board();
+        board.placeShip(new Ship(ShipType.CARRIER), 5, 3, false);
+        ProbabilityDensityStrategy ai = new ProbabilityDensityStrategy(new SplittableRandom(1));
+
+        ai.onShotResult(board, 5, 4, board.shootAt(5, 4));
+        int cell = ai.decideShot(board);
+        int distance = Math.abs(cell / Board.SIZE - 5) + Math.abs(cell % Board.SIZE - 4);
+        assertEquals(1, distance);
+    }
+
+    @Test
+    void sinksWholeFleetWithoutRepeatingShots() {
+        Board board = new Board();
+        new FleetGenerator(Board.SIZE).placeOn(board, new SplittableRandom(11));
+        ProbabilityDensityStrategy ai = new ProbabilityDensityStrategy(new SplittableRandom(13));
+
+        int shots = 0;
+        while (!board.allShipsSunk()) {
+            int cell = ai.decideShot(board);
+            ShotResult result = board.shootAt(cell / Board.SIZE, cell % Board.SIZE);
+            ai.onShotResult(board, cell / Board.SIZE, cell % Board.SIZE, result);
+            shots++;
+        }
+        assertTrue(shots <= Board.SIZE * Board.SIZE);
+    }
+}
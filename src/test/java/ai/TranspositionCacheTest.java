@@ -0,0 +1,65 @@
+package ai;
+
+import com.example.batalla_naval.ai.TranspositionCache;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para TranspositionCache.
+ */
+class TranspositionCacheTest {
+
+    @Test
+    void putAndGet_countHitsAndMisses() {
+        TranspositionCache<Integer> cache = new TranspositionCache<>(128);
+        assertNull(cache.get(42L));
+        cache.put(42L, 7);
+        cache.put(-42L, 8);
+        assertEquals(7, cache.get(42L));
+        assertEquals(8, cache.get(-42L));
+        cache.put(42L, 9);
+        assertEquals(9, cache.get(42L));
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void eviction_keepsSizeBoundedAndReachable() {
+        TranspositionCache<Long> cache = new TranspositionCache<>(64);
+        for (long k = 0; k < 10_000; k++) {
+            cache.put(k * 0x9E3779B97F4A7C15L, k);
+        }
+        assertTrue(cache.size() <= 64);
+
+        int found = 0;
+        for (long k = 0; k < 10_000; k++) {
+            Long value = cache.get(k * 0x9E3779B97F4A7C15L);
+            if (value != null) {
+                assertEquals(k, value);
+                found++;
+            }
+        }
+        assertEquals(cache.size(), found);
+    }
+
+    @Test
+    void keyOf_separatesFleetsButNotPositions() throws InvalidPlacementException {
+        Board a = new Board();
+        a.placeShip(new Ship(ShipType.DESTROYER), 0, 0, false);
+        Board b = new Board();
+        b.placeShip(new Ship(ShipType.DESTROYER), 5, 5, true);
+        Board c = new Board();
+        c.placeShip(new Ship(ShipType.DESTROYER), 0, 0, false);
+        c.placeShip(new Ship(ShipType.SUBMARINE), 5, 5, true);
+
+        assertEquals(a.getObservedKey(), c.getObservedKey());
+        assertEquals(TranspositionCache.keyOf(a), TranspositionCache.keyOf(b));
+        assertNotEquals(TranspositionCache.keyOf(a), TranspositionCache.keyOf(c));
+    }
+}
@@ -0,0 +1,74 @@
+package controller;
+
+import com.example.batalla_naval.controller.AiPacer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para AiPacer.
+ */
+class AiPacerTest {
+
+    @Test
+    void pace_releasesInOrderAtCadence() throws InterruptedException {
+        AiPacer pacer = new AiPacer(Duration.ofMillis(60));
+        List<Long> times = new CopyOnWriteArrayList<>();
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        pacer.beginTurn();
+        for (int i = 0; i < 3; i++) {
+            int n = i;
+            pacer.pace(() -> {
+                times.add(System.nanoTime() - start);
+                order.add(n);
+            });
+        }
+        pacer.then(done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1, 2), order);
+        assertTrue(times.get(0) >= TimeUnit.MILLISECONDS.toNanos(60));
+        assertTrue(times.get(2) >= TimeUnit.MILLISECONDS.toNanos(180));
+        pacer.shutdown();
+    }
+
+    @Test
+    void pace_overlapsSlowComputationWithDelay() throws InterruptedException {
+        AiPacer pacer = new AiPacer(Duration.ofMillis(100));
+        CountDownLatch done = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        pacer.beginTurn();
+        Thread.sleep(80);
+        pacer.pace(done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        long elapsed = System.nanoTime() - start;
+        assertTrue(elapsed < TimeUnit.MILLISECONDS.toNanos(170), "El cálculo no debe sumarse a la pausa");
+        pacer.shutdown();
+    }
+
+    @Test
+    void zeroCadence_releasesWithoutDelay() throws InterruptedException {
+        AiPacer pacer = new AiPacer(Duration.ZERO);
+        CountDownLatch done = new CountDownLatch(100);
+
+        pacer.beginTurn();
+        for (int i = 0; i < 100; i++) {
+            pacer.pace(done::countDown);
+        }
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> pacer.setCadence(Duration.ofMillis(-1)));
+        pacer.shutdown();
+    }
+}
@@ -3,10 +3,26 @@ package controller;
 import com.example.batalla_naval.controller.GameController;
 import com.example.batalla_naval.exceptions.InvalidPlacementException;
 import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Difficulty;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.GamePhase;
 import com.example.batalla_naval.model.Ship;
 import com.example.batalla_naval.model.ShipType;
 import com.example.batalla_naval.model.ShotResult;
+import com.example.batalla_naval.persistence.SaveSlots;
+import com.example.batalla_naval.view.TurnListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -15,25 +31,50 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class GameControllerTest {
 
+    @TempDir
+    Path dir;
+
+    private SaveSlots slots;
+
+    @BeforeEach
+    void openSlots() throws IOException {
+        slots = SaveSlots.open(dir);
+    }
+
+    @AfterEach
+    void closeSlots() throws IOException {
+        slots.close();
+    }
+
+    /** Controlador que guarda en una ranura de la carpeta temporal, no en saves/ */
+    private GameController newController(Board playerBoard, Board enemyBoard) {
+        return new GameController(playerBoard, enemyBoard, slots, slots.reserve("test", Difficulty.NORMAL));
+    }
+
     @Test
     void playerShoots() throws InvalidPlacementException {
         Board playerBoard = new Board();
         Board enemyBoard = new Board();
-        GameController controller = new GameController(playerBoard, enemyBoard);
+        GameController controller = newController(playerBoard, enemyBoard);
 
         Ship enemyShip = new Ship(ShipType.DESTROYER);
         enemyBoard.placeShip(enemyShip, 0, 0, false);
+        controller.setPhase(GamePhase.PLAYER_TURN);
 
         ShotResult result = controller.playerShoots(0, 0);
         assertEquals(ShotResult.HIT, result, "El disparo debería ser un HIT");
-        assertFalse(controller.isPlayerTurn(), "Después del disparo, el turno debería cambiar al enemigo");
+        assertTrue(controller.isPlayerTurn(), "Un acierto mantiene el turno del jugador");
+
+        assertEquals(ShotResult.MISS, controller.playerShoots(9, 9));
+        assertFalse(controller.isPlayerTurn(), "Después de un agua, el turno debería cambiar al enemigo");
+        controller.shutdown();
     }
 
     @Test
     void shutdown() {
         Board playerBoard = new Board();
         Board enemyBoard = new Board();
-        GameController controller = new GameController(playerBoard, enemyBoard);
+        GameController controller = newController(playerBoard, enemyBoard);
 
         controller.shutdown();
         assertTrue(controller.aiExecutor.isShutdown(), "El ExecutorService debería estar apagado después de shutdown");
@@ -43,11 +84,14 @@ class GameControllerTest {
     void isPlayerTurn() {
         Board playerBoard = new Board();
         Board enemyBoard = new Board();
-        GameController controller = new GameController(playerBoard, enemyBoard);
+        GameController controller = newController(playerBoard, enemyBoard);
+        assertFalse(controller.isPlayerTurn(), "Durante la colocación no es turno de nadie");
 
+        controller.setPhase(GamePhase.PLAYER_TURN);
         assertTrue(controller.isPlayerTurn(), "El turno debería ser del jugador al inicio del juego");
         controller.playerShoots(0, 0);
         assertFalse(controller.isPlayerTurn(), "Después del disparo, el turno debería cambiar al enemigo");
+        controller.shutdown();
     }
 
     @Test
@@ -61,7 +105,7 @@ class GameControllerTest {
         Ship enemyShip = new Ship(ShipType.DESTROYER);
         enemyBoard.placeShip(enemyShip, 0, 0, false);
 
-        GameController controller = new GameController(playerBoard, enemyBoard);
+        GameController controller = newController(playerBoard, enemyBoard);
         assertFalse(controller.isGameOver(), "El juego no debería terminar al inicio");
 
         enemyBoard.shootAt(0, 0);
@@ -74,17 +118,108 @@ class GameControllerTest {
         Board playerBoard = new Board();
         Board enemyBoard = new Board();
 
-        Ship playerShip = new Ship(ShipType.DESTROYER);
-        playerBoard.placeShip(playerShip, 0, 0, false);
+        // Flota completa: la IA no puede hundirla toda sin fallar y terminar la partida.
+        new FleetGenerator(Board.SIZE).placeOn(playerBoard, new SplittableRandom(1));
 
         Ship enemyShip = new Ship(ShipType.DESTROYER);
         enemyBoard.placeShip(enemyShip, 1, 1, false);
 
-        GameController controller = new GameController(playerBoard, enemyBoard);
-        controller.playerShoots(1, 1);
+        GameController controller = newController(playerBoard, enemyBoard);
+        controller.setAiShotDelay(Duration.ZERO);
+        controller.setPhase(GamePhase.PLAYER_TURN);
+        controller.playerShoots(5, 5);
         assertFalse(controller.isPlayerTurn(), "Debe ser turno de la IA");
 
-        Thread.sleep(900);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!controller.isPlayerTurn() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
         assertTrue(controller.isPlayerTurn(), "Después de la IA, el turno debe volver al jugador");
+        controller.shutdown();
+    }
+
+    @Test
+    void aiTurn_withZeroDelay_finishesImmediately() throws InterruptedException, InvalidPlacementException {
+        Board playerBoard = new Board();
+        Board enemyBoard = new Board();
+        playerBoard.placeShip(new Ship(ShipType.DESTROYER), 0, 0, false);
+        enemyBoard.placeShip(new Ship(ShipType.DESTROYER), 1, 1, false);
+
+        GameController controller = newController(playerBoard, enemyBoard);
+        controller.setAiShotDelay(Duration.ZERO);
+        CountDownLatch turnBack = new CountDownLatch(1);
+        AtomicInteger enemyShots = new AtomicInteger();
+        controller.setTurnListener(new TurnListener() {
+            @Override
+            public void onEnemyTurnFinished() {
+                turnBack.countDown();
+            }
+
+            @Override
+            public void onEnemyShot(int row, int col, ShotResult result) {
+                enemyShots.incrementAndGet();
+            }
+
+            @Override
+            public void onGameOver(boolean playerWon) {
+                turnBack.countDown();
+            }
+        });
+        controller.setPhase(GamePhase.PLAYER_TURN);
+
+        controller.playerShoots(9, 9);
+        assertTrue(turnBack.await(2, TimeUnit.SECONDS), "Sin pausa la IA debe terminar su turno enseguida");
+        assertTrue(enemyShots.get() >= 1);
+        assertEquals(enemyShots.get(), playerBoard.getShotCount());
+        controller.shutdown();
+    }
+
+    @Test
+    void aiTurn_usesShotPrecomputedDuringPlayerTurn() throws Exception {
+        Board playerBoard = new Board();
+        Board enemyBoard = new Board();
+        playerBoard.placeShip(new Ship(ShipType.DESTROYER), 0, 0, false);
+        enemyBoard.placeShip(new Ship(ShipType.DESTROYER), 1, 1, false);
+
+        GameController controller = newController(playerBoard, enemyBoard);
+        controller.setAiShotDelay(Duration.ZERO);
+        CountDownLatch turnBack = new CountDownLatch(1);
+        controller.setTurnListener(new TurnListener() {
+            @Override
+            public void onEnemyTurnFinished() {
+                turnBack.countDown();
+            }
+
+            @Override
+            public void onEnemyShot(int row, int col, ShotResult result) {
+            }
+
+            @Override
+            public void onGameOver(boolean playerWon) {
+                turnBack.countDown();
+            }
+        });
+        controller.setPhase(GamePhase.PLAYER_TURN);
+        controller.aiExecutor.submit(() -> { }).get(2, TimeUnit.SECONDS);
+
+        controller.playerShoots(9, 9);
+        assertTrue(turnBack.await(2, TimeUnit.SECONDS));
+        assertEquals(1, controller.getSpeculationsUsed());
+        assertEquals(0, controller.getSpeculationsDiscarded());
+        controller.shutdown();
+    }
+
+    @Test
+    void changingStrategy_discardsPrecomputedShot() throws Exception {
+        Board playerBoard = new Board();
+        playerBoard.placeShip(new Ship(ShipType.DESTROYER), 0, 0, false);
+        GameController controller = newController(playerBoard, new Board());
+        controller.setPhase(GamePhase.PLAYER_TURN);
+        controller.aiExecutor.submit(() -> { }).get(2, TimeUnit.SECONDS);
+
+        controller.setDifficulty(Difficulty.EASY);
+        assertEquals(1, controller.getSpeculationsDiscarded());
+        assertEquals(0, controller.getSpeculationsUsed());
+        controller.shutdown();
     }
-}
\ No newline at end of file
+}
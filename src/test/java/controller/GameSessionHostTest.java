@@ -0,0 +1,121 @@
+package controller;
+
+import com.example.batalla_naval.controller.GameSessionHost;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para GameSessionHost.
+ */
+class GameSessionHostTest {
+
+    @Test
+    void manySessions_runSeriallyOnFewThreads() throws InterruptedException {
+        GameSessionHost host = new GameSessionHost(4);
+        int games = 2_000;
+        int tasksPerGame = 20;
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        AtomicBoolean outOfOrder = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(games);
+
+        for (int g = 0; g < games; g++) {
+            ExecutorService session = host.openSession();
+            int[] next = {0};
+            for (int t = 0; t < tasksPerGame; t++) {
+                int expected = t;
+                session.execute(() -> {
+                    threads.add(Thread.currentThread());
+                    if (next[0]++ != expected) {
+                        outOfOrder.set(true);
+                    }
+                    if (expected == tasksPerGame - 1) {
+                        done.countDown();
+                    }
+                });
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertFalse(outOfOrder.get(), "Las tareas de una partida deben correr en orden");
+        assertTrue(threads.size() <= 4);
+        host.shutdown();
+    }
+
+    @Test
+    void busySession_doesNotStarveOthers() throws InterruptedException {
+        GameSessionHost host = new GameSessionHost(1);
+        ExecutorService busy = host.openSession();
+        ExecutorService quiet = host.openSession();
+        AtomicInteger busyRan = new AtomicInteger();
+        CountDownLatch quietRan = new CountDownLatch(1);
+        int[] busyBefore = new int[1];
+        // Retiene al único trabajador hasta tener todo encolado.
+        CountDownLatch gate = new CountDownLatch(1);
+        host.openSession().execute(() -> {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        for (int i = 0; i < 1_000; i++) {
+            busy.execute(busyRan::incrementAndGet);
+        }
+        quiet.execute(() -> {
+            busyBefore[0] = busyRan.get();
+            quietRan.countDown();
+        });
+        gate.countDown();
+
+        assertTrue(quietRan.await(5, TimeUnit.SECONDS));
+        assertTrue(busyBefore[0] < 10, "La partida tranquila esperó " + busyBefore[0] + " tareas ajenas");
+        host.shutdown();
+    }
+
+    @Test
+    void shutdownNow_interruptsRunningAndDropsPending() throws InterruptedException {
+        GameSessionHost host = new GameSessionHost(1);
+        ExecutorService session = host.openSession();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        session.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        session.execute(() -> fail("La tarea pendiente no debía correr"));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        List<Runnable> pending = new ArrayList<>(session.shutdownNow());
+        assertEquals(1, pending.size());
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+        assertTrue(session.awaitTermination(2, TimeUnit.SECONDS));
+        assertThrows(RejectedExecutionException.class, () -> session.execute(() -> { }));
+        assertEquals(0, host.getActiveSessions());
+
+        CountDownLatch reused = new CountDownLatch(1);
+        host.openSession().execute(() -> {
+            if (!Thread.currentThread().isInterrupted()) {
+                reused.countDown();
+            }
+        });
+        assertTrue(reused.await(2, TimeUnit.SECONDS), "El hilo prestado no debe quedar interrumpido");
+        host.shutdown();
+    }
+}
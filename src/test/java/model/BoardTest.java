@@ -8,6 +8,8 @@ import com.example.batalla_naval.model.ShipType;
 import com.example.batalla_naval.model.ShotResult;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -37,4 +39,81 @@ class BoardTest {
         assertEquals(ShotResult.SUNK, b.shootAt(5,5));
         assertThrows(GameStateException.class, () -> b.shootAt(5,5));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shootAt_tracksMasksAndHistory() throws InvalidPlacementException {
+        Board b = new Board();
+        b.placeShip(new Ship(ShipType.DESTROYER), 2, 3, true);
+        assertTrue(b.hasShip(3, 3));
+        assertFalse(b.hasShip(2, 4));
+        assertThrows(InvalidPlacementException.class, () -> b.placeShip(new Ship(ShipType.SUBMARINE), 3, 1, false));
+
+        assertEquals(ShotResult.MISS, b.shootAt(0, 0));
+        assertEquals(ShotResult.HIT, b.shootAt(2, 3));
+        assertTrue(b.wasShot(0, 0));
+        assertFalse(b.wasShot(9, 9));
+        assertEquals(2, b.getShotCount());
+        assertEquals(List.of("2,3", "0,0"), b.getShotsHistory());
+    }
+
+    @Test
+    void sunkCounters_updateIncrementally() throws InvalidPlacementException {
+        Board b = new Board();
+        b.placeShip(new Ship(ShipType.FRIGATE), 0, 0, false);
+        b.placeShip(new Ship(ShipType.FRIGATE), 0, 2, false);
+        b.placeShip(new Ship(ShipType.DESTROYER), 4, 4, false);
+        assertEquals(2, b.getRemainingShips(ShipType.FRIGATE));
+
+        b.shootAt(0, 0);
+        b.shootAt(4, 4);
+        assertEquals(1, b.countSunkShips());
+        assertEquals(1, b.getRemainingShips(ShipType.FRIGATE));
+        assertEquals(1, b.getRemainingShips(ShipType.DESTROYER));
+        assertEquals(2, b.getRemainingShipCount());
+        assertFalse(b.allShipsSunk());
+
+        b.shootAt(0, 2);
+        b.shootAt(4, 5);
+        assertTrue(b.allShipsSunk());
+        assertEquals(0, b.getRemainingShipsByType().get(ShipType.DESTROYER));
+    }
+
+    @Test
+    void largeBoard_placesAndShootsAtFarCorner() throws InvalidPlacementException {
+        Board b = new Board(Board.MAX_SIZE);
+        int last = Board.MAX_SIZE - 1;
+        b.placeShip(new Ship(ShipType.SUBMARINE), last - 2, last, true);
+        b.placeShip(new Ship(ShipType.DESTROYER), last, last - 2, false);
+
+        assertEquals(ShotResult.HIT, b.shootAt(last, last));
+        assertEquals(ShotResult.HIT, b.shootAt(last, last - 1));
+        assertEquals(ShotResult.SUNK, b.shootAt(last, last - 2));
+        assertTrue(b.getCell(last - 1, last).hasShip());
+        assertEquals(ShipType.SUBMARINE, b.getCell(last - 1, last).getShip().getType());
+        assertThrows(IllegalArgumentException.class, () -> new Board(0));
+        assertEquals(ShipType.FRIGATE.getMaxCount() * 100, ShipType.FRIGATE.getCountFor(100));
+    }
+
+    @Test
+    void observedKey_dependsOnlyOnVisibleOutcomes() throws InvalidPlacementException {
+        Board a = new Board();
+        a.placeShip(new Ship(ShipType.DESTROYER), 0, 0, false);
+        Board b = new Board();
+        b.placeShip(new Ship(ShipType.DESTROYER), 0, 0, false);
+        b.placeShip(new Ship(ShipType.SUBMARINE), 5, 5, true);
+        assertEquals(a.getObservedKey(), b.getObservedKey());
+        assertNotEquals(a.getZobristKey(), b.getZobristKey());
+
+        a.shootAt(0, 0);
+        a.shootAt(9, 9);
+        b.shootAt(9, 9);
+        b.shootAt(0, 0);
+        assertEquals(a.getObservedKey(), b.getObservedKey());
+
+        long beforeSunk = a.getObservedKey();
+        a.shootAt(0, 1);
+        b.shootAt(2, 2);
+        assertNotEquals(beforeSunk, a.getObservedKey());
+        assertNotEquals(a.getObservedKey(), b.getObservedKey());
+    }
+}
@@ -0,0 +1,62 @@
+package model;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.PlacementTable;
+import com.example.batalla_naval.model.ShipType;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para FleetGenerator.
+ */
+class FleetGeneratorTest {
+
+    @Test
+    void placeOn_placesWholeFleet() {
+        Board board = new Board();
+        new FleetGenerator(Board.SIZE).placeOn(board, new SplittableRandom(7));
+
+        for (ShipType type : ShipType.values()) {
+            assertEquals(type.getMaxCount(), board.getRemainingShips(type));
+        }
+    }
+
+    @Test
+    void generateBulk_isDeterministicAndNonOverlapping() {
+        FleetGenerator generator = new FleetGenerator(Board.SIZE);
+        PlacementTable table = generator.getPlacements();
+        int ships = generator.getShipCount();
+
+        int[] first = generator.generateBulk(42L, 10_000);
+        assertArrayEquals(first, generator.generateBulk(42L, 10_000));
+
+        for (int f = 0; f < 10_000; f++) {
+            boolean[] used = new boolean[Board.SIZE * Board.SIZE];
+            for (int i = 0; i < ships; i++) {
+                ShipType type = generator.getShipType(i);
+                int id = first[f * ships + i];
+                int cell = table.origin(type, id);
+                for (int s = 0; s < type.getSize(); s++, cell += table.step(type, id)) {
+                    assertFalse(used[cell], "Superposición en la flota " + f);
+                    used[cell] = true;
+                }
+            }
+        }
+    }
+
+    @Test
+    void placementTable_roundTripsIds() {
+        PlacementTable table = new PlacementTable(Board.SIZE);
+        assertEquals(2 * 10 * 7, table.count(ShipType.CARRIER));
+
+        int id = table.id(ShipType.CARRIER, 6, 3, true);
+        assertEquals(6, table.row(ShipType.CARRIER, id));
+        assertEquals(3, table.col(ShipType.CARRIER, id));
+        assertTrue(table.isVertical(ShipType.CARRIER, id));
+        assertEquals(-1, table.id(ShipType.CARRIER, 7, 3, true));
+    }
+}
@@ -0,0 +1,63 @@
+package model;
+
+import com.example.batalla_naval.exceptions.GameStateException;
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.GameEngine;
+import com.example.batalla_naval.model.GamePhase;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import com.example.batalla_naval.model.ShotResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para GameEngine.
+ */
+class GameEngineTest {
+
+    private GameEngine startedEngine() throws InvalidPlacementException {
+        Board enemy = new Board();
+        enemy.placeShip(new Ship(ShipType.FRIGATE), 5, 5, false);
+        GameEngine engine = new GameEngine(new Board(), enemy);
+        engine.place(new Ship(ShipType.FRIGATE), 0, 0, false);
+        assertEquals(GamePhase.PLAYER_TURN, engine.start(new SplittableRandom(1)));
+        return engine;
+    }
+
+    @Test
+    void missPassesTheTurnBothWays() throws InvalidPlacementException {
+        GameEngine engine = startedEngine();
+
+        GameEngine.Outcome outcome = engine.playerShoots(9, 9);
+        assertEquals(ShotResult.MISS, outcome.getResult());
+        assertEquals(GamePhase.ENEMY_TURN, outcome.getPhase());
+        assertThrows(GameStateException.class, () -> engine.playerShoots(8, 8));
+
+        assertEquals(GamePhase.PLAYER_TURN, engine.enemyShoots(9, 9).getPhase());
+    }
+
+    @Test
+    void sinkingLastShipEndsTheGame() throws InvalidPlacementException {
+        GameEngine engine = startedEngine();
+
+        GameEngine.Outcome outcome = engine.playerShoots(5, 5);
+        assertSame(GameEngine.Outcome.of(ShotResult.SUNK, GamePhase.GAME_OVER), outcome);
+        assertTrue(engine.hasPlayerWon());
+        assertThrows(GameStateException.class, () -> engine.enemyShoots(0, 0));
+    }
+
+    @Test
+    void startPlacesEnemyFleetAndClosesSetup() throws InvalidPlacementException {
+        Board enemy = new Board();
+        GameEngine engine = new GameEngine(new Board(), enemy);
+        engine.start(new SplittableRandom(7));
+
+        assertFalse(enemy.getShips().isEmpty());
+        assertThrows(GameStateException.class,
+                () -> engine.place(new Ship(ShipType.FRIGATE), 0, 0, false));
+    }
+}
@@ -15,7 +15,37 @@ class ShipTest {
     void isSunk_whenAllPositionsHit() {
         Ship ship = new Ship(ShipType.FRIGATE);
         ship.addPosition("0,0");
-        ship.registerHit("0,0");
+        assertTrue(ship.registerHit("0,0"));
+        assertFalse(ship.registerHit("0,0"));
         assertTrue(ship.isSunk());
     }
-}
\ No newline at end of file
+
+    @Test
+    void registerHit_countsEachSegmentOnce() {
+        Ship ship = new Ship(ShipType.SUBMARINE);
+        ship.addPosition("2,4");
+        ship.addPosition("3,4");
+        ship.addPosition("4,4");
+
+        assertTrue(ship.isVertical());
+        assertFalse(ship.registerHit(2, 5));
+        assertTrue(ship.registerHit(3, 4));
+        assertFalse(ship.registerHit(3, 4));
+        assertEquals(2, ship.getRemainingSegments());
+        assertEquals(0b010, ship.getHitMask());
+        assertFalse(ship.isSunk());
+    }
+
+    @Test
+    void addPosition_rejectsNonContiguousPositions() {
+        Ship ship = new Ship(ShipType.SUBMARINE);
+        ship.addPosition("1,1");
+        assertThrows(IllegalArgumentException.class, () -> ship.addPosition("2,2"));
+        ship.addPosition("1,2");
+        assertThrows(IllegalArgumentException.class, () -> ship.addPosition("2,2"));
+        assertThrows(IllegalArgumentException.class, () -> ship.addPosition("1,4"));
+        ship.addPosition("1,3");
+        assertEquals(3, ship.getRemainingSegments());
+        assertFalse(ship.isVertical());
+    }
+}
@@ -0,0 +1,76 @@
+package persistence;
+
+import com.example.batalla_naval.persistence.AutoSaver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para AutoSaver.
+ */
+class AutoSaverTest {
+
+    @Test
+    void burstOfRequests_isCoalescedIntoOneWrite() {
+        Queue<Runnable> io = new ArrayDeque<>();
+        AtomicInteger state = new AtomicInteger();
+        AtomicInteger writes = new AtomicInteger();
+        int[] written = {-1};
+        AutoSaver saver = new AutoSaver(io::add, () -> {
+            writes.incrementAndGet();
+            written[0] = state.get();
+        });
+
+        CompletableFuture<Void> first = null;
+        for (int shot = 1; shot <= 100; shot++) {
+            state.set(shot);
+            CompletableFuture<Void> f = saver.request();
+            first = first == null ? f : first;
+        }
+        assertEquals(1, io.size(), "Los pedidos seguidos deben compartir una sola escritura");
+        assertFalse(first.isDone());
+
+        io.poll().run();
+        assertEquals(1, writes.get());
+        assertEquals(100, written[0], "Se escribe el estado más reciente");
+        assertTrue(first.isDone());
+        assertEquals(0, saver.getPending());
+    }
+
+    @Test
+    void requestDuringWrite_getsAnotherWrite() {
+        Queue<Runnable> io = new ArrayDeque<>();
+        AtomicInteger writes = new AtomicInteger();
+        CompletableFuture<?>[] duringWrite = new CompletableFuture<?>[1];
+        AutoSaver[] saver = new AutoSaver[1];
+        saver[0] = new AutoSaver(io::add, () -> {
+            if (writes.incrementAndGet() == 1) {
+                duringWrite[0] = saver[0].request();
+            }
+        });
+
+        saver[0].request();
+        io.poll().run();
+        assertEquals(2, writes.get());
+        assertTrue(duringWrite[0].isDone());
+        assertTrue(io.isEmpty());
+    }
+
+    @Test
+    void flush_writesOnlyWhenSomethingIsPending() {
+        AtomicInteger writes = new AtomicInteger();
+        AutoSaver saver = new AutoSaver(Runnable::run, writes::incrementAndGet);
+
+        saver.flush();
+        assertEquals(0, writes.get());
+
+        saver.request();
+        saver.flush();
+        assertEquals(1, writes.get());
+    }
+}
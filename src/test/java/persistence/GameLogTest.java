@@ -0,0 +1,185 @@
+package persistence;
+
+import com.example.batalla_naval.exceptions.InvalidPlacementException;
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.GameEngine;
+import com.example.batalla_naval.model.GamePhase;
+import com.example.batalla_naval.model.GameState;
+import com.example.batalla_naval.model.Ship;
+import com.example.batalla_naval.model.ShipType;
+import com.example.batalla_naval.persistence.GameLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para GameLog.
+ */
+class GameLogTest {
+
+    @TempDir
+    Path dir;
+
+    private Board player;
+    private Board enemy;
+    private GameEngine engine;
+    private GameLog log;
+
+    private void startGame(int checkpointInterval) throws InvalidPlacementException {
+        player = new Board();
+        enemy = new Board();
+        engine = new GameEngine(player, enemy);
+        log = new GameLog(dir.resolve("game.ser"), checkpointInterval);
+
+        Ship carrier = new Ship(ShipType.CARRIER);
+        engine.place(carrier, 9, 6, false);
+        log.placed(false, carrier);
+        engine.start(new SplittableRandom(3));
+        for (Ship ship : enemy.getShips()) {
+            log.placed(true, ship);
+        }
+        log.started();
+    }
+
+    private GameLog.Flush save() throws IOException {
+        GameLog.Flush flush = log.prepare(new GameState(player, enemy, engine.getPhase()));
+        log.write(flush);
+        return flush;
+    }
+
+    /** Dispara en orden por las celdas libres de cada tablero, como el controlador */
+    private void playShots(int shots) {
+        for (int i = 0; i < shots && !engine.isGameOver(); i++) {
+            boolean byPlayer = engine.getPhase() == GamePhase.PLAYER_TURN;
+            Board target = byPlayer ? enemy : player;
+            int cell = 0;
+            while (target.wasShot(cell / 10, cell % 10)) {
+                cell++;
+            }
+            if (byPlayer) {
+                engine.playerShoots(cell / 10, cell % 10);
+            } else {
+                engine.enemyShoots(cell / 10, cell % 10);
+            }
+            log.shot(byPlayer, cell / 10, cell % 10);
+        }
+    }
+
+    @Test
+    void load_replaysTailAfterCheckpoint() throws Exception {
+        startGame(1_000);
+        assertTrue(save().hasCheckpoint());
+
+        for (int i = 0; i < 30; i++) {
+            playShots(1);
+            GameLog.Flush flush = save();
+            assertFalse(flush.hasCheckpoint());
+            assertEquals(6, flush.getEventBytes(), "Un disparo debe ocupar unos pocos bytes");
+        }
+
+        GameState loaded = GameLog.load(dir.resolve("game.ser"));
+        assertEquals(engine.getPhase(), loaded.getPhase());
+        assertEquals(player.getShotsHistory(), loaded.getPlayerBoard().getShotsHistory());
+        assertEquals(enemy.getShotsHistory(), loaded.getEnemyBoard().getShotsHistory());
+    }
+
+    @Test
+    void load_ignoresTornLastEvent() throws Exception {
+        startGame(4);
+        save();
+        playShots(10);
+        save();
+        playShots(1);
+        save();
+
+        Path logFile = GameLog.logFileFor(dir.resolve("game.ser"));
+        byte[] data = Files.readAllBytes(logFile);
+        Files.write(logFile, Arrays.copyOf(data, data.length - 2));
+
+        GameState loaded = GameLog.load(dir.resolve("game.ser"));
+        assertEquals(player.getShotCount() + enemy.getShotCount() - 1,
+                loaded.getPlayerBoard().getShotCount() + loaded.getEnemyBoard().getShotCount());
+    }
+
+    @Test
+    void readEvents_keepsWholeHistoryAcrossCheckpoints() throws Exception {
+        startGame(3);
+        save();
+        for (int i = 0; i < 12; i++) {
+            playShots(1);
+            save();
+        }
+
+        List<GameLog.Event> events = GameLog.readEvents(GameLog.logFileFor(dir.resolve("game.ser")), Board.SIZE);
+        int ships = player.getShips().size() + enemy.getShips().size();
+        assertEquals(ships + 1 + 12, events.size());
+        assertEquals(GameLog.Event.Kind.PLACE, events.get(0).getKind());
+        assertEquals(ShipType.CARRIER, events.get(0).getShipType());
+        assertEquals(GameLog.Event.Kind.START, events.get(ships).getKind());
+        assertEquals(GameLog.Event.Kind.SHOT, events.get(events.size() - 1).getKind());
+    }
+
+    @Test
+    void load_ignoresLogOfAnotherGame() throws Exception {
+        startGame(1_000);
+        save();
+        playShots(5);
+        save();
+        Path otherLog = GameLog.logFileFor(dir.resolve("game.ser"));
+
+        // Otra partida en otro archivo, con la bitácora de la primera al lado
+        Path checkpoint = dir.resolve("other.ser");
+        GameLog other = new GameLog(checkpoint, 1_000);
+        other.write(other.prepare(new GameState(new Board(), new Board(), GamePhase.SETUP)));
+        Files.copy(otherLog, GameLog.logFileFor(checkpoint), StandardCopyOption.REPLACE_EXISTING);
+
+        GameState loaded = GameLog.load(checkpoint);
+        assertEquals(GamePhase.SETUP, loaded.getPhase());
+        assertTrue(loaded.getPlayerBoard().getShips().isEmpty());
+        assertEquals(0, loaded.getEnemyBoard().getShotCount());
+    }
+
+    @Test
+    void corruptShipType_endsLogInsteadOfThrowing() throws Exception {
+        startGame(1_000);
+        save();
+
+        Path logFile = GameLog.logFileFor(dir.resolve("game.ser"));
+        byte[] data = Files.readAllBytes(logFile);
+        int firstEvent = data.length - (player.getShips().size() + enemy.getShips().size()) * 8 - 1;
+        data[firstEvent + 2] = (byte) 0xF0;
+        Files.write(logFile, data);
+
+        assertTrue(GameLog.readEvents(logFile, Board.SIZE).isEmpty());
+        assertEquals(engine.getPhase(), GameLog.load(dir.resolve("game.ser")).getPhase());
+    }
+
+    @Test
+    void resumedGame_keepsAppendingToItsLog() throws Exception {
+        startGame(1_000);
+        save();
+        playShots(4);
+        save();
+
+        GameState loaded = GameLog.load(dir.resolve("game.ser"));
+        player = loaded.getPlayerBoard();
+        enemy = loaded.getEnemyBoard();
+        engine = new GameEngine(player, enemy, loaded.getPhase());
+        log = new GameLog(dir.resolve("game.ser"), 1_000);
+        log.setGameId(loaded.getGameId());
+        playShots(3);
+        save();
+
+        List<GameLog.Event> events = GameLog.readEvents(GameLog.logFileFor(dir.resolve("game.ser")), Board.SIZE);
+        assertEquals(player.getShips().size() + enemy.getShips().size() + 1 + 7, events.size());
+    }
+}
@@ -0,0 +1,66 @@
+package persistence;
+
+import com.example.batalla_naval.persistence.GroupCommitter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para GroupCommitter.
+ */
+class GroupCommitterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_keepsPreviousVersionAsBackup() throws Exception {
+        GroupCommitter committer = new GroupCommitter(true);
+        Path file = dir.resolve("save.bin");
+
+        committer.write(file, new byte[]{1});
+        assertFalse(Files.exists(GroupCommitter.backupOf(file)));
+        committer.write(file, new byte[]{2});
+
+        assertArrayEquals(new byte[]{2}, Files.readAllBytes(file));
+        assertArrayEquals(new byte[]{1}, Files.readAllBytes(GroupCommitter.backupOf(file)));
+        assertFalse(Files.exists(file.resolveSibling("save.bin.tmp")));
+    }
+
+    @Test
+    void concurrentGames_shareBatchesAndEndWithLatestState() throws Exception {
+        GroupCommitter committer = new GroupCommitter(false);
+        int games = 16;
+        int savesPerGame = 50;
+        List<Thread> threads = new ArrayList<>();
+        for (int g = 0; g < games; g++) {
+            Path file = dir.resolve("game" + g + ".bin");
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 1; i <= savesPerGame; i++) {
+                        committer.write(file, ByteBuffer.allocate(4).putInt(i).array());
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int g = 0; g < games; g++) {
+            assertEquals(savesPerGame, ByteBuffer.wrap(Files.readAllBytes(dir.resolve("game" + g + ".bin"))).getInt());
+        }
+        assertEquals((long) games * savesPerGame, committer.getCommits());
+        assertTrue(committer.getBatches() <= committer.getCommits());
+    }
+}
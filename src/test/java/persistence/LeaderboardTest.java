@@ -0,0 +1,106 @@
+package persistence;
+
+import com.example.batalla_naval.persistence.Leaderboard;
+import com.example.batalla_naval.persistence.PlayerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para Leaderboard.
+ */
+class LeaderboardTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void rankAndTop_matchSortedBestScores() throws IOException {
+        Map<String, Integer> best = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        try (Leaderboard board = Leaderboard.open(dir.resolve("leaderboard.log"))) {
+            for (int i = 0; i < 5000; i++) {
+                String name = "jugador" + random.nextInt(800);
+                int score = random.nextInt(11);
+                boolean improved = best.getOrDefault(name, -1) < score;
+                assertEquals(improved, board.submit(name, score));
+                best.merge(name, score, Math::max);
+            }
+
+            List<String> expected = new ArrayList<>(best.keySet());
+            expected.sort(Comparator.comparing((String name) -> -best.get(name)).thenComparing(name -> name));
+            assertEquals(expected.size(), board.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(i + 1, board.rankOf(expected.get(i)), expected.get(i));
+            }
+            List<PlayerRecord> top = board.top(3);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected.get(i), top.get(i).getNickname());
+                assertEquals(best.get(expected.get(i)), top.get(i).getShipsSunk());
+            }
+            assertEquals(-1, board.rankOf("nadie"));
+        }
+    }
+
+    @Test
+    void reopen_keepsScoresAndDropsTornTail() throws IOException {
+        Path file = dir.resolve("leaderboard.log");
+        try (Leaderboard board = Leaderboard.open(file)) {
+            board.submit("Ana", 3);
+            board.submit("Beto", 5);
+            board.submit("Ana", 7);
+        }
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 2);
+        }
+
+        try (Leaderboard board = Leaderboard.open(file)) {
+            assertEquals(5, board.scoreOf("Beto"));
+            assertEquals(3, board.scoreOf("Ana"), "La mejora cortada se pierde, la anterior se conserva");
+            assertEquals(2, board.rankOf("Ana"));
+            assertTrue(board.submit("Ana", 6));
+        }
+        try (Leaderboard board = Leaderboard.open(file)) {
+            assertEquals(1, board.rankOf("Ana"));
+        }
+    }
+
+    @Test
+    void compact_keepsOneEntryPerPlayer() throws IOException {
+        Path file = dir.resolve("leaderboard.log");
+        try (Leaderboard board = Leaderboard.open(file)) {
+            for (int score = 0; score < 10; score++) {
+                for (int p = 0; p < 50; p++) {
+                    board.submit("p" + p, score);
+                }
+            }
+            assertEquals(500, board.getLogEntries());
+            long before = Files.size(file);
+
+            assertTrue(board.compact());
+            assertEquals(50, board.getLogEntries());
+            assertTrue(Files.size(file) < before / 5);
+            board.submit("p0", 20);
+        }
+        try (Leaderboard board = Leaderboard.open(file)) {
+            assertEquals(50, board.size());
+            assertEquals(51, board.getLogEntries());
+            assertEquals(1, board.rankOf("p0"));
+            assertEquals(9, board.scoreOf("p49"));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package persistence;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Difficulty;
+import com.example.batalla_naval.model.FleetGenerator;
+import com.example.batalla_naval.model.GamePhase;
+import com.example.batalla_naval.model.GameState;
+import com.example.batalla_naval.persistence.SaveCodec;
+import com.example.batalla_naval.persistence.SaveManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para SaveCodec.
+ */
+class SaveCodecTest {
+
+    @TempDir
+    Path dir;
+
+    private static Board playedBoard(long seed, int shots) {
+        Board board = new Board();
+        SplittableRandom random = new SplittableRandom(seed);
+        new FleetGenerator(Board.SIZE).placeOn(board, random);
+        while (board.getShotCount() < shots) {
+            int cell = random.nextInt(Board.SIZE * Board.SIZE);
+            if (!board.wasShot(cell / Board.SIZE, cell % Board.SIZE)) {
+                board.shootAt(cell / Board.SIZE, cell % Board.SIZE);
+            }
+        }
+        return board;
+    }
+
+    @Test
+    void roundTrip_keepsBoardsAndGameData() throws IOException {
+        Board player = playedBoard(1, 90);
+        Board enemy = playedBoard(2, 80);
+        GameState state = new GameState(player, enemy, GamePhase.ENEMY_TURN, Difficulty.HARD, "Capitán");
+
+        byte[] data = SaveCodec.encode(state);
+        assertTrue(data.length <= 300, "Una partida de 10x10 ocupa " + data.length + " bytes");
+
+        GameState loaded = SaveCodec.decode(data);
+        assertEquals(GamePhase.ENEMY_TURN, loaded.getPhase());
+        assertEquals(Difficulty.HARD, loaded.getDifficulty());
+        assertEquals("Capitán", loaded.getNickname());
+        for (Board[] pair : new Board[][]{{player, loaded.getPlayerBoard()}, {enemy, loaded.getEnemyBoard()}}) {
+            assertEquals(pair[0].getZobristKey(), pair[1].getZobristKey());
+            assertEquals(pair[0].getShotsHistory(), pair[1].getShotsHistory());
+            assertEquals(pair[0].countSunkShips(), pair[1].countSunkShips());
+        }
+    }
+
+    @Test
+    void loadGame_migratesLegacySerializedSave() throws Exception {
+        // Escrito con las clases de la primera versión (tableros con mapas de celdas y texto)
+        Path file = dir.resolve("game_state.ser");
+        try (InputStream fixture = SaveCodecTest.class.getResourceAsStream("legacy_game_state.ser")) {
+            assertNotNull(fixture);
+            Files.copy(fixture, file);
+        }
+
+        GameState loaded = SaveManager.loadGame(file);
+        assertEquals(GamePhase.PLAYER_TURN, loaded.getPhase());
+        assertEquals(List.of("3,7", "0,1", "4,4"), loaded.getPlayerBoard().getShotsHistory());
+        assertEquals(List.of("3,7", "0,0", "2,1", "1,1"), loaded.getEnemyBoard().getShotsHistory());
+        assertEquals(4, loaded.getPlayerBoard().getShips().size());
+        assertTrue(loaded.getPlayerBoard().hasShip(4, 0), "El submarino vertical ocupa hasta la fila 4");
+        assertEquals(1, loaded.getEnemyBoard().countSunkShips());
+        assertTrue(SaveCodec.isEncoded(Files.readAllBytes(file)), "El guardado antiguo debe quedar convertido");
+        assertEquals(loaded.getEnemyBoard().getShotsHistory(), SaveManager.loadGame(file).getEnemyBoard().getShotsHistory());
+    }
+
+    @Test
+    void decode_rejectsTruncatedOrInconsistentData() {
+        byte[] data = SaveCodec.encode(new GameState(playedBoard(5, 20), playedBoard(6, 20), GamePhase.PLAYER_TURN));
+
+        assertThrows(IOException.class, () -> SaveCodec.decode(Arrays.copyOf(data, data.length - 3)));
+        byte[] repeatedShot = data.clone();
+        repeatedShot[repeatedShot.length - 1] = repeatedShot[repeatedShot.length - 2];
+        assertThrows(IOException.class, () -> SaveCodec.decode(repeatedShot));
+    }
+}
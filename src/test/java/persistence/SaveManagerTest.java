@@ -1,12 +1,16 @@
 package persistence;
 
-import com.example.batalla_naval.controller.GameController;
 import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.GamePhase;
 import com.example.batalla_naval.model.GameState;
 import com.example.batalla_naval.persistence.SaveManager;
 import org.junit.jupiter.api.Test;
 
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,16 +20,36 @@ import static org.junit.jupiter.api.Assertions.*;
 class SaveManagerTest {
 
     @Test
-    void saveAndLoadGame() throws Exception {
+    void saveAndLoadGame(@TempDir Path dir) throws Exception {
         Board p = new Board();
         Board e = new Board();
-        GameState state = new GameState(p, e, GameController.GamePhase.SETUP);
+        GameState state = new GameState(p, e, GamePhase.SETUP);
 
-        Path file = Path.of("saves/test.ser");
+        Path file = dir.resolve("test.ser");
         SaveManager.saveGame(state, file);
         GameState loaded = SaveManager.loadGame(file);
 
         assertNotNull(loaded);
-        assertEquals(GameController.GamePhase.SETUP, loaded.getPhase());
+        assertEquals(GamePhase.SETUP, loaded.getPhase());
+    }
+
+    @Test
+    void loadGame_fallsBackToPreviousCopyWhenSaveIsTorn(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("game_state.ser");
+        Board first = new Board();
+        first.shootAt(1, 1);
+        SaveManager.saveGame(new GameState(first, new Board(), GamePhase.PLAYER_TURN), file);
+        Board second = new Board();
+        second.shootAt(2, 2);
+        SaveManager.saveGame(new GameState(second, new Board(), GamePhase.PLAYER_TURN), file);
+
+        byte[] data = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(data, data.length / 2));
+
+        GameState loaded = SaveManager.loadGame(file);
+        assertTrue(loaded.getPlayerBoard().wasShot(1, 1), "Debe cargarse la copia anterior");
+
+        SaveManager.deleteSave(file);
+        assertFalse(SaveManager.hasSave(file));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package persistence;
+
+import com.example.batalla_naval.model.Board;
+import com.example.batalla_naval.model.Difficulty;
+import com.example.batalla_naval.model.GamePhase;
+import com.example.batalla_naval.model.GameState;
+import com.example.batalla_naval.persistence.SaveManager;
+import com.example.batalla_naval.persistence.SaveSlots;
+import com.example.batalla_naval.persistence.SlotInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para SaveSlots.
+ */
+class SaveSlotsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reopen_listsSlotsNewestFirstFromIndexOnly() throws IOException {
+        try (SaveSlots slots = SaveSlots.open(dir)) {
+            SlotInfo ana = slots.reserve("Ana", Difficulty.HARD);
+            SlotInfo beto = slots.reserve("Beto", Difficulty.EASY);
+            assertTrue(slots.list().isEmpty(), "Una ranura reservada no se lista hasta guardarse");
+            slots.update(beto.getId(), "Beto", Difficulty.EASY, GamePhase.PLAYER_TURN, 4);
+            slots.update(ana.getId(), "Ana", Difficulty.HARD, GamePhase.ENEMY_TURN, 12);
+        }
+
+        // Sin partidas escritas: la lista sale del índice, no de los tableros.
+        try (SaveSlots slots = SaveSlots.open(dir)) {
+            List<SlotInfo> list = slots.list();
+            assertEquals(2, list.size());
+            SlotInfo latest = slots.latest().orElseThrow();
+            assertEquals(list.get(0).getId(), latest.getId());
+            SlotInfo ana = list.stream().filter(s -> s.getNickname().equals("Ana")).findFirst().orElseThrow();
+            assertEquals(Difficulty.HARD, ana.getDifficulty());
+            assertEquals(GamePhase.ENEMY_TURN, ana.getPhase());
+            assertEquals(12, ana.getTurns());
+            assertEquals(3, slots.reserve("Caro", Difficulty.NORMAL).getId());
+        }
+    }
+
+    @Test
+    void delete_removesGameAndSurvivesTornIndex() throws Exception {
+        Path index = dir.resolve("index.bin");
+        try (SaveSlots slots = SaveSlots.open(dir)) {
+            SlotInfo kept = slots.reserve("Ana", Difficulty.NORMAL);
+            SlotInfo gone = slots.reserve("Beto", Difficulty.NORMAL);
+            SaveManager.saveGame(new GameState(new Board(), new Board(), GamePhase.SETUP), slots.checkpointOf(gone.getId()));
+            SaveManager.saveGame(new GameState(new Board(), new Board(), GamePhase.SETUP), slots.checkpointOf(kept.getId()));
+            slots.update(gone.getId(), "Beto", Difficulty.NORMAL, GamePhase.SETUP, 0);
+            slots.update(kept.getId(), "Ana", Difficulty.NORMAL, GamePhase.SETUP, 0);
+            assertNotNull(slots.load(kept.getId()));
+
+            slots.delete(gone.getId());
+            assertFalse(Files.exists(slots.checkpointOf(gone.getId())));
+            slots.update(kept.getId(), "Ana", Difficulty.NORMAL, GamePhase.PLAYER_TURN, 1);
+        }
+        long size = Files.size(index);
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        try (SaveSlots slots = SaveSlots.open(dir)) {
+            List<SlotInfo> list = slots.list();
+            assertEquals(1, list.size());
+            assertEquals("Ana", list.get(0).getNickname());
+            assertEquals(GamePhase.SETUP, list.get(0).getPhase(), "La actualización cortada se descarta");
+        }
+    }
+
+    @Test
+    void manyUpdates_keepIndexSmall() throws IOException {
+        try (SaveSlots slots = SaveSlots.open(dir)) {
+            for (int i = 0; i < 1_000; i++) {
+                SlotInfo slot = slots.reserve("jugador" + i, Difficulty.NORMAL);
+                slots.update(slot.getId(), slot.getNickname(), Difficulty.NORMAL, GamePhase.SETUP, 0);
+            }
+            for (int turn = 1; turn <= 5; turn++) {
+                for (int id = 1; id <= 1_000; id++) {
+                    slots.update(id, "jugador" + (id - 1), Difficulty.NORMAL, GamePhase.PLAYER_TURN, turn);
+                }
+            }
+        }
+        assertTrue(Files.size(dir.resolve("index.bin")) < 3 * 1_000 * 40);
+
+        try (SaveSlots slots = SaveSlots.open(dir)) {
+            assertEquals(1_000, slots.list().size());
+            assertTrue(slots.list().stream().allMatch(s -> s.getTurns() == 5));
+        }
+    }
+}